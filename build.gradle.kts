@@ -6,6 +6,7 @@ plugins {
     `java-library`
     `maven-publish`
     signing
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories {
@@ -28,10 +29,16 @@ sourceSets {
     }
 }
 
+sourceSets.named("jmh") {
+    compileClasspath += sourceSets["integration"].output
+    runtimeClasspath += sourceSets["integration"].output
+}
+
 configurations["integrationImplementation"].extendsFrom(configurations.testImplementation.get())
 configurations["integrationRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
 configurations["integrationCompileOnly"].extendsFrom(configurations.testCompileOnly.get())
 configurations["integrationAnnotationProcessor"].extendsFrom(configurations.testAnnotationProcessor.get())
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
 
 dependencies {
     api("org.springframework.data:spring-data-commons:3.2.4")
@@ -82,6 +89,15 @@ tasks.register<Test>("integrationTest") {
     classpath = sourceSets["integration"].runtimeClasspath
 }
 
+jmh {
+    benchmarkMode.set(listOf("thrpt"))
+    profilers.set(listOf("gc"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+}
+
 java {
     withJavadocJar()
     withSourcesJar()
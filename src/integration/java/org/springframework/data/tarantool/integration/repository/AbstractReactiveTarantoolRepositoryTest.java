@@ -4,6 +4,8 @@ import io.tarantool.driver.api.conditions.Conditions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
 import org.springframework.data.tarantool.integration.domain.DistributedUser;
 import org.springframework.data.tarantool.integration.domain.TranslatedArticle;
@@ -146,6 +148,46 @@ public abstract class AbstractReactiveTarantoolRepositoryTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldScrollPastFirstWindow() {
+        for (int i = 0; i < 4; i++) {
+            User user = newUser();
+            userRepository.save(user).as(StepVerifier::create)
+                    .expectNext(user)
+                    .verifyComplete();
+        }
+
+        userRepository.findAll(ScrollPosition.keyset(), 3)
+                .flatMap(first -> {
+                    assertThat(first.getContent()).hasSize(3);
+                    assertThat(first.hasNext()).isTrue();
+                    return userRepository.findAll(first.positionAt(first.size() - 1), 3);
+                })
+                .as(StepVerifier::create)
+                .assertNext(second -> {
+                    assertThat(second.getContent()).hasSize(1);
+                    assertThat(second.hasNext()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindByExample() {
+        Flux.just(newUser("Ivan", "Petrov", 30, true), newUser("Ivan", "Sidorov", 30, true), newUser("Petr", "Petrov", 30, true))
+                .concatMap(userRepository::save)
+                .as(StepVerifier::create)
+                .expectNextCount(3L)
+                .verifyComplete();
+
+        Example<User> example = Example.of(User.builder().firstName("Ivan").lastName("Petrov").build());
+        userRepository.findAll(example).as(StepVerifier::create)
+                .expectNextCount(1L)
+                .verifyComplete();
+        userRepository.findBy(example, query -> query.count()).as(StepVerifier::create)
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
     @Test
     void shouldNotFindAll() {
         for (int i = 0; i < 4; i++) {
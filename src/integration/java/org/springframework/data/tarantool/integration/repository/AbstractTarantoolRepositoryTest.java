@@ -4,6 +4,10 @@ import io.tarantool.driver.api.conditions.Conditions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.tarantool.core.TarantoolOperations;
 import org.springframework.data.tarantool.integration.domain.DistributedUser;
 import org.springframework.data.tarantool.integration.domain.TranslatedArticle;
@@ -13,6 +17,7 @@ import org.springframework.data.tarantool.integration.repository.util.CaptureEve
 import org.springframework.data.tarantool.repository.Query;
 import org.springframework.data.tarantool.repository.TarantoolRepository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -131,6 +136,37 @@ public abstract class AbstractTarantoolRepositoryTest {
         assertThat(found).hasSize(4);
     }
 
+    @Test
+    void shouldScrollPastFirstWindow() {
+        for (int i = 0; i < 4; i++) {
+            userRepository.save(newUser());
+        }
+
+        Window<User> first = userRepository.findAll(ScrollPosition.keyset(), 3);
+        assertThat(first.getContent()).hasSize(3);
+        assertThat(first.hasNext()).isTrue();
+
+        Window<User> second = userRepository.findAll(first.positionAt(first.size() - 1), 3);
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+
+        List<User> scrolled = new ArrayList<>(first.getContent());
+        scrolled.addAll(second.getContent());
+        assertThat(scrolled).extracting(User::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldFindByExample() {
+        userRepository.save(newUser("Ivan", "Petrov", 30, true));
+        userRepository.save(newUser("Ivan", "Sidorov", 30, true));
+        userRepository.save(newUser("Petr", "Petrov", 30, true));
+
+        Example<User> example = Example.of(User.builder().firstName("Ivan").lastName("Petrov").build());
+        assertThat(userRepository.findAll(example)).hasSize(1);
+        long count = userRepository.findBy(example, FluentQuery.FetchableFluentQuery::count);
+        assertThat(count).isEqualTo(1L);
+    }
+
     @Test
     void shouldNotFindAll() {
         for (int i = 0; i < 4; i++) {
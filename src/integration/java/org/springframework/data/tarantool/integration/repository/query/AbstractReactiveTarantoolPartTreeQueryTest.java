@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
 import org.springframework.data.tarantool.integration.domain.User;
+import org.springframework.data.tarantool.repository.FetchSize;
 import org.springframework.data.tarantool.repository.ReactiveTarantoolRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -51,6 +52,13 @@ public abstract class AbstractReactiveTarantoolPartTreeQueryTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldStreamAllByLastNameInPages() {
+        userRepository.streamAllByLastName("Kuzin").as(StepVerifier::create)
+                .expectNextCount(4)
+                .verifyComplete();
+    }
+
     @Test
     void shouldNotFindAllByLastName() {
         userRepository.findAllByLastName("Unused").as(StepVerifier::create)
@@ -184,6 +192,9 @@ public abstract class AbstractReactiveTarantoolPartTreeQueryTest {
 
         Flux<User> findAllByLastName(String lastName);
 
+        @FetchSize(3)
+        Flux<User> streamAllByLastName(String lastName);
+
         Flux<User> findAllByBirthDate(LocalDate birthDate);
 
         Flux<User> findAllByFirstNameAndLastName(String firstName, String lastName);
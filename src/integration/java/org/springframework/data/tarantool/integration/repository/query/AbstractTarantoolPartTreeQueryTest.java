@@ -7,11 +7,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.tarantool.core.TarantoolOperations;
 import org.springframework.data.tarantool.integration.domain.User;
+import org.springframework.data.tarantool.repository.FetchSize;
 import org.springframework.data.tarantool.repository.TarantoolRepository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -46,6 +48,13 @@ public abstract class AbstractTarantoolPartTreeQueryTest {
         assertThat(found).hasSize(4);
     }
 
+    @Test
+    void shouldStreamAllByLastNameInPages() {
+        try (Stream<User> found = userRepository.streamAllByLastName("Kuzin")) {
+            assertThat(found).hasSize(4);
+        }
+    }
+
     @Test
     void shouldNotFindAllByLastName() {
         List<User> notFound = userRepository.findAllByLastName("Unused");
@@ -160,6 +169,9 @@ public abstract class AbstractTarantoolPartTreeQueryTest {
 
         List<User> findAllByLastName(String lastName);
 
+        @FetchSize(3)
+        Stream<User> streamAllByLastName(String lastName);
+
         List<User> findAllByBirthDate(LocalDate birthDate);
 
         List<User> findAllByFirstNameAndLastName(String firstName, String lastName);
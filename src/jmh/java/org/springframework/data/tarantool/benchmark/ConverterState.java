@@ -0,0 +1,161 @@
+package org.springframework.data.tarantool.benchmark;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.metadata.VSpaceToTarantoolSpaceMetadataConverter;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy;
+import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.convert.TarantoolCustomConversions;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.mapping.TarantoolSimpleTypeHolder;
+import org.springframework.data.tarantool.integration.domain.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Converter and in-memory fixtures shared by converter benchmarks. Entities are the domain types of integration
+ * tests, tuples are built against space formats of the integration schema, so no Tarantool server is needed.
+ *
+ * @author Tatiana Blinova
+ */
+@State(Scope.Benchmark)
+public class ConverterState {
+
+    MessagePackMapper mapper;
+    TarantoolConverter converter;
+
+    TarantoolSpaceMetadata articles;
+    TarantoolSpaceMetadata users;
+    TarantoolSpaceMetadata translatedArticles;
+
+    Article article;
+    User user;
+    TranslatedArticle translatedArticle;
+    TranslatedArticleWithMapId translatedArticleWithMapId;
+    ArticleElement articleElement;
+
+    List<Value> articleValues;
+    List<Value> userValues;
+    List<Value> translatedArticleValues;
+    Value articleElementValue;
+
+    @Setup
+    public void setUp() {
+        mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+        TarantoolMappingContext mappingContext = new TarantoolMappingContext();
+        mappingContext.setSimpleTypeHolder(TarantoolSimpleTypeHolder.HOLDER);
+        mappingContext.setFieldNamingStrategy(new SnakeCaseFieldNamingStrategy());
+        mappingContext.setInitialEntitySet(Set.of(Article.class, User.class, TranslatedArticle.class,
+                TranslatedArticleWithMapId.class, ArticleElement.class));
+        mappingContext.afterPropertiesSet();
+
+        MappingTarantoolConverter mappingConverter = new MappingTarantoolConverter(mappingContext);
+        mappingConverter.setCustomConversions(new TarantoolCustomConversions(Collections.emptyList()));
+        mappingConverter.afterPropertiesSet();
+        converter = mappingConverter;
+
+        articles = spaceMetadata(1, "articles",
+                "id", "uuid", "article_name", "string", "slug", "string", "publish_date", "unsigned",
+                "user_id", "uuid", "tags", "array", "likes", "unsigned");
+        users = spaceMetadata(2, "users",
+                "id", "uuid", "first_name", "string", "last_name", "string", "email", "string",
+                "birth_date", "unsigned", "address", "any", "age", "unsigned", "active", "boolean", "version", "unsigned");
+        translatedArticles = spaceMetadata(3, "translated_articles",
+                "article_id", "uuid", "locale", "string", "article_name", "string", "article_text", "string");
+
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .firstName("Alexander")
+                .lastName("Pushkin")
+                .birthDate(LocalDate.of(1799, 6, 6))
+                .age(37)
+                .active(true)
+                .email("alexander@pushkin.ru")
+                .address(Address.builder().city("Saint Petersburg").street("Moika").postcode("191186").build())
+                .version(1L)
+                .build();
+        article = Article.builder()
+                .id(UUID.randomUUID())
+                .name("Ruslan and Ludmila")
+                .slug("ruslan-and-ludmila")
+                .publishDate(LocalDateTime.of(1820, 8, 1, 12, 0))
+                .userId(user.getId())
+                .tags(List.of(new Tag("poem"), new Tag("fairy tale")))
+                .likes(100)
+                .build();
+        translatedArticle = TranslatedArticle.builder()
+                .id(TranslatedArticleKey.builder().articleId(article.getId()).locale(Locale.ENGLISH).build())
+                .name("Ruslan and Ludmila")
+                .text("A green oak tree by the seashore")
+                .build();
+        translatedArticleWithMapId = TranslatedArticleWithMapId.builder()
+                .articleId(article.getId())
+                .locale(Locale.FRENCH)
+                .name("Rouslan et Ludmila")
+                .text("Un chêne vert au bord de la mer")
+                .build();
+        articleElement = ArticleElement.builder()
+                .id(article.getId())
+                .name(article.getName())
+                .slug(article.getSlug())
+                .publishDate(article.getPublishDate())
+                .userId(user.getId())
+                .tags(article.getTags())
+                .likes(article.getLikes())
+                .user(user)
+                .comments(List.of(
+                        Comment.builder().id(UUID.randomUUID()).articleId(article.getId()).userId(user.getId()).value("Brilliant").likes(10).build(),
+                        Comment.builder().id(UUID.randomUUID()).articleId(article.getId()).userId(user.getId()).value("Classic").likes(5).build()))
+                .build();
+
+        articleValues = encode(article, articles);
+        userValues = encode(user, users);
+        translatedArticleValues = encode(translatedArticle, translatedArticles);
+        articleElementValue = mapper.toValue(converter.convertToWritableType(articleElement));
+    }
+
+    TarantoolTuple emptyTuple(TarantoolSpaceMetadata spaceMetadata) {
+        return new TarantoolTupleImpl(mapper, spaceMetadata);
+    }
+
+    TarantoolTuple tuple(List<Value> values, TarantoolSpaceMetadata spaceMetadata) {
+        return new TarantoolTupleImpl(values, mapper, spaceMetadata);
+    }
+
+    private List<Value> encode(Object entity, TarantoolSpaceMetadata spaceMetadata) {
+        TarantoolTuple tuple = emptyTuple(spaceMetadata);
+        converter.write(entity, tuple);
+        return new ArrayList<>(tuple.toMessagePackValue(mapper).list());
+    }
+
+    private static TarantoolSpaceMetadata spaceMetadata(int spaceId, String spaceName, String... fieldNamesAndTypes) {
+        List<MapValue> fields = new ArrayList<>();
+        for (int i = 0; i < fieldNamesAndTypes.length; i += 2) {
+            Map<Value, Value> field = new HashMap<>();
+            field.put(ValueFactory.newString("name"), ValueFactory.newString(fieldNamesAndTypes[i]));
+            field.put(ValueFactory.newString("type"), ValueFactory.newString(fieldNamesAndTypes[i + 1]));
+            field.put(ValueFactory.newString("is_nullable"), ValueFactory.newBoolean(true));
+            fields.add(ValueFactory.newMap(field));
+        }
+
+        return VSpaceToTarantoolSpaceMetadataConverter.getInstance().fromValue(ValueFactory.newArray(
+                ValueFactory.newInteger(spaceId),
+                ValueFactory.newInteger(0),
+                ValueFactory.newString(spaceName),
+                ValueFactory.newArray(fields)
+        ));
+    }
+}
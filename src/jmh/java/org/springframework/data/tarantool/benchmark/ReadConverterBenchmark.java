@@ -0,0 +1,42 @@
+package org.springframework.data.tarantool.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.tarantool.integration.domain.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading entities from tuples and MessagePack values. Every invocation decodes fields
+ * of a fresh tuple, so the results include the cost of value unpacking in the driver.
+ *
+ * @author Tatiana Blinova
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReadConverterBenchmark {
+
+    @Benchmark
+    public Article readArticle(ConverterState state) {
+        return state.converter.read(Article.class, state.tuple(state.articleValues, state.articles));
+    }
+
+    @Benchmark
+    public User readUserWithNestedAddress(ConverterState state) {
+        return state.converter.read(User.class, state.tuple(state.userValues, state.users));
+    }
+
+    @Benchmark
+    public TranslatedArticle readTranslatedArticleWithCompositeKey(ConverterState state) {
+        return state.converter.read(TranslatedArticle.class, state.tuple(state.translatedArticleValues, state.translatedArticles));
+    }
+
+    @Benchmark
+    public TranslatedArticleWithMapId readTranslatedArticleWithMapId(ConverterState state) {
+        return state.converter.read(TranslatedArticleWithMapId.class, state.tuple(state.translatedArticleValues, state.translatedArticles));
+    }
+
+    @Benchmark
+    public ArticleElement readArticleElementFromMap(ConverterState state) {
+        return state.converter.read(ArticleElement.class, state.articleElementValue);
+    }
+}
@@ -0,0 +1,49 @@
+package org.springframework.data.tarantool.benchmark;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of writing entities to tuples and to maps used as call arguments
+ *
+ * @author Tatiana Blinova
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WriteConverterBenchmark {
+
+    @Benchmark
+    public TarantoolTuple writeArticle(ConverterState state) {
+        TarantoolTuple tuple = state.emptyTuple(state.articles);
+        state.converter.write(state.article, tuple);
+        return tuple;
+    }
+
+    @Benchmark
+    public TarantoolTuple writeUserWithNestedAddress(ConverterState state) {
+        TarantoolTuple tuple = state.emptyTuple(state.users);
+        state.converter.write(state.user, tuple);
+        return tuple;
+    }
+
+    @Benchmark
+    public TarantoolTuple writeTranslatedArticleWithCompositeKey(ConverterState state) {
+        TarantoolTuple tuple = state.emptyTuple(state.translatedArticles);
+        state.converter.write(state.translatedArticle, tuple);
+        return tuple;
+    }
+
+    @Benchmark
+    public TarantoolTuple writeTranslatedArticleWithMapId(ConverterState state) {
+        TarantoolTuple tuple = state.emptyTuple(state.translatedArticles);
+        state.converter.write(state.translatedArticleWithMapId, tuple);
+        return tuple;
+    }
+
+    @Benchmark
+    public Object writeArticleElementToMap(ConverterState state) {
+        return state.converter.convertToWritableType(state.articleElement);
+    }
+}
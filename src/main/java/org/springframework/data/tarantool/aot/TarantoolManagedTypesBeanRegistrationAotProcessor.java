@@ -0,0 +1,28 @@
+package org.springframework.data.tarantool.aot;
+
+import org.springframework.data.aot.ManagedTypesBeanRegistrationAotProcessor;
+import org.springframework.data.tarantool.core.mapping.TarantoolManagedTypes;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Tarantool specific {@link ManagedTypesBeanRegistrationAotProcessor}. Entity types of the
+ * {@link TarantoolManagedTypes} bean are resolved at build time and registered for reflection.
+ *
+ * @author Alexander Rublev
+ */
+public class TarantoolManagedTypesBeanRegistrationAotProcessor extends ManagedTypesBeanRegistrationAotProcessor {
+
+    public TarantoolManagedTypesBeanRegistrationAotProcessor() {
+        setModuleIdentifier("tarantool");
+    }
+
+    @Override
+    protected boolean isMatch(@Nullable Class<?> beanType, @Nullable String beanName) {
+        return isTarantoolManagedTypes(beanType) || super.isMatch(beanType, beanName);
+    }
+
+    private static boolean isTarantoolManagedTypes(@Nullable Class<?> beanType) {
+        return beanType != null && ClassUtils.isAssignable(TarantoolManagedTypes.class, beanType);
+    }
+}
@@ -0,0 +1,24 @@
+package org.springframework.data.tarantool.aot;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.data.repository.config.AotRepositoryContext;
+import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
+import org.springframework.data.tarantool.core.mapping.MapIdFactory;
+import org.springframework.data.tarantool.core.mapping.MapIdProxyHints;
+
+/**
+ * Tarantool specific {@link RepositoryRegistrationAotProcessor}. In addition to the repository metadata registers
+ * JDK proxy hints for id interfaces used as repository id types, so {@link MapIdFactory} works in native images.
+ *
+ * @author Alexander Rublev
+ */
+public class TarantoolRepositoryRegistrationAotProcessor extends RepositoryRegistrationAotProcessor {
+
+    @Override
+    protected void contribute(AotRepositoryContext repositoryContext, GenerationContext generationContext) {
+        super.contribute(repositoryContext, generationContext);
+
+        Class<?> idType = repositoryContext.getRepositoryInformation().getIdType();
+        MapIdProxyHints.registerIdInterface(generationContext.getRuntimeHints(), idType);
+    }
+}
@@ -0,0 +1,47 @@
+package org.springframework.data.tarantool.aot;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.data.tarantool.core.mapping.BasicMapId;
+import org.springframework.data.tarantool.core.mapping.event.BeforeConvertCallback;
+import org.springframework.data.tarantool.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.tarantool.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.data.tarantool.core.mapping.event.ReactiveBeforeSaveCallback;
+import org.springframework.data.tarantool.repository.support.SimpleReactiveTarantoolRepository;
+import org.springframework.data.tarantool.repository.support.SimpleTarantoolRepository;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * {@link RuntimeHintsRegistrar} for types of the module which are accessed reflectively
+ *
+ * @author Alexander Rublev
+ */
+public class TarantoolRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final boolean PROJECT_REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux", TarantoolRuntimeHints.class.getClassLoader());
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        hints.reflection().registerTypes(
+                List.of(TypeReference.of(SimpleTarantoolRepository.class),
+                        TypeReference.of(BeforeConvertCallback.class),
+                        TypeReference.of(BeforeSaveCallback.class)),
+                builder -> builder.withMembers(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        hints.reflection().registerType(BasicMapId.class,
+                builder -> builder.withMembers(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        if (PROJECT_REACTOR_PRESENT) {
+            hints.reflection().registerTypes(
+                    List.of(TypeReference.of(SimpleReactiveTarantoolRepository.class),
+                            TypeReference.of(ReactiveBeforeConvertCallback.class),
+                            TypeReference.of(ReactiveBeforeSaveCallback.class)),
+                    builder -> builder.withMembers(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Support for ahead-of-time processing and native images
+ */
+
+@org.springframework.lang.NonNullApi
+package org.springframework.data.tarantool.aot;
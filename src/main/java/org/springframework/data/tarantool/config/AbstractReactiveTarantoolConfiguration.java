@@ -9,6 +9,7 @@ import org.springframework.data.tarantool.config.client.TarantoolClientFactory;
 import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
 import org.springframework.data.tarantool.core.ReactiveTarantoolTemplate;
 import org.springframework.data.tarantool.core.TarantoolExceptionTranslator;
+import org.springframework.data.tarantool.core.TarantoolMappingVerifier;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.convert.TarantoolCustomConversions;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
@@ -41,4 +42,17 @@ public abstract class AbstractReactiveTarantoolConfiguration extends TarantoolCo
         return new ReactiveTarantoolTemplate(tarantoolClient, tarantoolConverter, tarantoolExceptionTranslator);
     }
 
+    /**
+     * Creates {@link TarantoolMappingVerifier} which verifies and warms up entity mapping on startup if enabled.
+     *
+     * @param reactiveTarantoolTemplate {@link ReactiveTarantoolTemplate} instance to use
+     * @return never {@literal null}.
+     * @see #verifyMappingOnStartup()
+     * @see #mappingWarmUpIterations()
+     */
+    @Bean
+    public TarantoolMappingVerifier tarantoolMappingVerifier(ReactiveTarantoolTemplate reactiveTarantoolTemplate) {
+        return new TarantoolMappingVerifier(reactiveTarantoolTemplate, reactiveTarantoolTemplate.getConverter(), verifyMappingOnStartup(), mappingWarmUpIterations());
+    }
+
 }
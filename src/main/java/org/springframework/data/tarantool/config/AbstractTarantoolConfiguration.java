@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.tarantool.config.client.TarantoolClientFactory;
 import org.springframework.data.tarantool.core.TarantoolExceptionTranslator;
+import org.springframework.data.tarantool.core.TarantoolMappingVerifier;
 import org.springframework.data.tarantool.core.TarantoolOperations;
 import org.springframework.data.tarantool.core.TarantoolTemplate;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
@@ -41,4 +42,17 @@ public abstract class AbstractTarantoolConfiguration extends TarantoolConfigurat
         return new TarantoolTemplate(tarantoolClient, tarantoolConverter, tarantoolExceptionTranslator);
     }
 
+    /**
+     * Creates {@link TarantoolMappingVerifier} which verifies and warms up entity mapping on startup if enabled.
+     *
+     * @param tarantoolTemplate {@link TarantoolTemplate} instance to use
+     * @return never {@literal null}.
+     * @see #verifyMappingOnStartup()
+     * @see #mappingWarmUpIterations()
+     */
+    @Bean
+    public TarantoolMappingVerifier tarantoolMappingVerifier(TarantoolTemplate tarantoolTemplate) {
+        return new TarantoolMappingVerifier(tarantoolTemplate, tarantoolTemplate.getConverter(), verifyMappingOnStartup(), mappingWarmUpIterations());
+    }
+
 }
@@ -12,11 +12,15 @@ import org.springframework.data.tarantool.config.client.TarantoolClientFactory;
 import org.springframework.data.tarantool.config.client.TarantoolClientOptions;
 import org.springframework.data.tarantool.core.DefaultTarantoolExceptionTranslator;
 import org.springframework.data.tarantool.core.TarantoolExceptionTranslator;
+import org.springframework.data.tarantool.core.TarantoolMappingVerifier;
 import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.convert.TarantoolCustomConversions;
+import org.springframework.data.tarantool.core.convert.TarantoolNativeJsr310Converters;
+import org.springframework.data.tarantool.core.convert.TypeAliasMode;
 import org.springframework.data.tarantool.core.mapping.PrimaryKeyClass;
 import org.springframework.data.tarantool.core.mapping.Space;
+import org.springframework.data.tarantool.core.mapping.TarantoolManagedTypes;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.core.mapping.TarantoolSimpleTypeHolder;
 import org.springframework.util.ClassUtils;
@@ -62,12 +66,31 @@ public abstract class TarantoolConfigurationSupport {
      */
     @Bean
     public TarantoolConverter tarantoolConverter(TarantoolMappingContext tarantoolMappingContext, TarantoolCustomConversions tarantoolCustomConversions) {
-        MappingTarantoolConverter converter = new MappingTarantoolConverter(tarantoolMappingContext);
+        MappingTarantoolConverter converter = new MappingTarantoolConverter(tarantoolMappingContext, typeAliasMode(), typeAliases());
         converter.setCustomConversions(tarantoolCustomConversions);
         converter.afterPropertiesSet();
         return converter;
     }
 
+    /**
+     * Override this method to skip reading of type aliases for types which are not polymorphic
+     *
+     * @return type alias mode, {@link TypeAliasMode#ALWAYS} by default
+     */
+    protected TypeAliasMode typeAliasMode() {
+        return TypeAliasMode.ALWAYS;
+    }
+
+    /**
+     * Override this method to register short type aliases (strings or small integers) written instead of
+     * fully qualified class names for polymorphic objects
+     *
+     * @return type aliases by type, empty by default
+     */
+    protected Map<Class<?>, Object> typeAliases() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Creates the default driver-to-Spring exception translator
      *
@@ -93,15 +116,30 @@ public abstract class TarantoolConfigurationSupport {
     }
 
     /**
-     * Creates a {@link TarantoolMappingContext} equipped with entity classes scanned from the mapping base package.
+     * Creates {@link TarantoolManagedTypes} with entity classes scanned from the mapping base package. During
+     * ahead-of-time processing the scan result is recorded at build time, so the classpath isn't scanned on startup.
+     *
+     * @return TarantoolManagedTypes bean
+     * @throws ClassNotFoundException if the entity scan fails
+     * @see #getInitialEntitySet()
+     */
+    @Bean
+    public TarantoolManagedTypes tarantoolManagedTypes() throws ClassNotFoundException {
+        return TarantoolManagedTypes.fromIterable(getInitialEntitySet());
+    }
+
+    /**
+     * Creates a {@link TarantoolMappingContext} equipped with the managed entity classes. The classes are taken from
+     * the {@link TarantoolManagedTypes} bean, so the entity set recorded during ahead-of-time processing is used.
      *
      * @return TarantoolMappingContext instance
      * @throws ClassNotFoundException if the entity scan fails
+     * @see #tarantoolManagedTypes()
      */
     @Bean
     public TarantoolMappingContext tarantoolMappingContext() throws ClassNotFoundException {
         TarantoolMappingContext mappingContext = new TarantoolMappingContext();
-        mappingContext.setInitialEntitySet(getInitialEntitySet());
+        mappingContext.setManagedTypes(tarantoolManagedTypes());
         mappingContext.setSimpleTypeHolder(TarantoolSimpleTypeHolder.HOLDER);
         mappingContext.setFieldNamingStrategy(fieldNamingStrategy());
         mappingContext.afterPropertiesSet();
@@ -117,7 +155,47 @@ public abstract class TarantoolConfigurationSupport {
      */
     @Bean
     public TarantoolCustomConversions tarantoolCustomConversions() {
-        return new TarantoolCustomConversions(customConverters());
+        if (!useNativeTemporalTypes()) {
+            return new TarantoolCustomConversions(customConverters());
+        }
+        List<Object> converters = new ArrayList<>(customConverters());
+        converters.addAll(TarantoolNativeJsr310Converters.getConvertersToRegister());
+        return new TarantoolCustomConversions(converters);
+    }
+
+    /**
+     * Override this method to store date, time and interval values using native Tarantool {@code datetime} and
+     * {@code interval} MessagePack extensions instead of epoch milliseconds and strings.
+     * Custom converters still take precedence over the native ones.
+     *
+     * @return true if native temporal types should be used, false by default
+     * @see TarantoolNativeJsr310Converters
+     */
+    protected boolean useNativeTemporalTypes() {
+        return false;
+    }
+
+    /**
+     * Override this method to verify on startup that every entity annotated with {@link Space} matches the format
+     * of its space: the space exists, all mapped fields are present and have compatible types.
+     *
+     * @return true if mapping should be verified on startup, false by default
+     * @see TarantoolMappingVerifier
+     */
+    protected boolean verifyMappingOnStartup() {
+        return false;
+    }
+
+    /**
+     * Override this method to read and write every entity annotated with {@link Space} the given number of times
+     * on startup, so the first requests after deploy don't pay for the initialization of mapping metadata.
+     * Entities without a space are skipped and failures are logged, unless mapping is verified on startup.
+     *
+     * @return number of warm-up iterations per entity, 0 by default
+     * @see TarantoolMappingVerifier
+     */
+    protected int mappingWarmUpIterations() {
+        return 0;
     }
 
     /**
@@ -8,6 +8,8 @@ import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
 
 /**
  * Implementation of extended representation of information about an entity.
@@ -26,6 +28,21 @@ public class AdaptableMappedEntity<T> extends MappedEntity<T> implements Adaptab
                 new ConvertingPropertyAccessor<>(persistentEntity.getPropertyAccessor(bean), conversionService));
     }
 
+    /**
+     * Create an adapter using the direct property accessor of the entity. Version values are converted
+     * to the version property type by the adapter itself, so no converting accessor is needed
+     *
+     * @param bean             entity instance
+     * @param persistentEntity persistent entity of the bean
+     * @param <T>              entity class parameter
+     * @return new adapter
+     */
+    public static <T> AdaptableMappedEntity<T> of(T bean, TarantoolPersistentEntity<?> persistentEntity) {
+        Assert.notNull(persistentEntity, "TarantoolPersistentEntity for bean must not be null");
+
+        return new AdaptableMappedEntity<>(persistentEntity, persistentEntity.getPropertyAccessor(bean));
+    }
+
     public AdaptableMappedEntity(TarantoolPersistentEntity<?> entity, PersistentPropertyAccessor<T> propertyAccessor) {
         super(entity, propertyAccessor);
     }
@@ -34,7 +51,7 @@ public class AdaptableMappedEntity<T> extends MappedEntity<T> implements Adaptab
     public T initializeVersionProperty() {
         if (entity.hasVersionProperty()) {
             TarantoolPersistentProperty versionProperty = entity.getRequiredVersionProperty();
-            propertyAccessor.setProperty(versionProperty, versionProperty.getType().isPrimitive() ? 1 : 0);
+            propertyAccessor.setProperty(versionProperty, toVersionType(versionProperty, versionProperty.getType().isPrimitive() ? 1 : 0));
         }
 
         return propertyAccessor.getBean();
@@ -47,10 +64,18 @@ public class AdaptableMappedEntity<T> extends MappedEntity<T> implements Adaptab
         Number version = getVersion();
         Number nextVersion = version == null ? 0 : version.longValue() + 1;
 
-        propertyAccessor.setProperty(versionProperty, nextVersion);
+        propertyAccessor.setProperty(versionProperty, toVersionType(versionProperty, nextVersion));
         return propertyAccessor.getBean();
     }
 
+    private static Number toVersionType(TarantoolPersistentProperty versionProperty, Number value) {
+        Class<?> versionType = ClassUtils.resolvePrimitiveIfNecessary(versionProperty.getType());
+        if (Number.class.isAssignableFrom(versionType) && !versionType.isInstance(value)) {
+            return NumberUtils.convertNumberToTargetClass(value, versionType.asSubclass(Number.class));
+        }
+        return value;
+    }
+
     @Override
     @Nullable
     public Number getVersion() {
@@ -0,0 +1,136 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.tarantool.core.mapping.MapId;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Extractor of primary index parts for an entity type. Key properties and field names are resolved once
+ * per entity, so building a primary index query doesn't iterate over all entity properties
+ *
+ * @author Alexander Rublev
+ */
+final class PrimaryKeyExtractor {
+
+    private final TarantoolMappingContext mappingContext;
+    private final TarantoolPersistentEntity<?> persistentEntity;
+    private final boolean compositePrimaryKey;
+    private final boolean singleIdProperty;
+    @Nullable
+    private final TarantoolPersistentEntity<?> idPersistentEntity;
+    private final List<TarantoolPersistentProperty> keyProperties;
+    private final List<String> keyFieldNames;
+
+    PrimaryKeyExtractor(TarantoolMappingContext mappingContext, TarantoolPersistentEntity<?> persistentEntity) {
+        this.mappingContext = mappingContext;
+        this.persistentEntity = persistentEntity;
+        this.compositePrimaryKey = persistentEntity.hasCompositePrimaryKey();
+        this.singleIdProperty = !compositePrimaryKey && persistentEntity.hasIdProperty();
+        this.keyProperties = new ArrayList<>();
+
+        if (compositePrimaryKey) {
+            TarantoolPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+            this.idPersistentEntity = mappingContext.getRequiredPersistentEntity(idProperty.getType());
+            idPersistentEntity.forEach(keyProperties::add);
+        } else if (singleIdProperty) {
+            this.idPersistentEntity = null;
+            keyProperties.add(persistentEntity.getRequiredIdProperty());
+        } else {
+            this.idPersistentEntity = null;
+            persistentEntity.forEach(property -> {
+                if (property.isPrimaryKeyField()) {
+                    keyProperties.add(property);
+                }
+            });
+        }
+
+        this.keyFieldNames = new ArrayList<>(keyProperties.size());
+        for (TarantoolPersistentProperty property : keyProperties) {
+            keyFieldNames.add(property.getFieldName());
+        }
+    }
+
+    /**
+     * Get primary index parts from tuple fields
+     *
+     * @param tuple tuple to use
+     * @return list of index parts
+     */
+    List<Object> fromTuple(TarantoolTuple tuple) {
+        List<Object> indexParts = new ArrayList<>(keyFieldNames.size());
+        for (String fieldName : keyFieldNames) {
+            Object value = tuple.getObject(fieldName)
+                    .orElseThrow(() -> new MappingException(String.format(singleIdProperty
+                            ? "Id property %s not found in tuple" : "Id property field %s not found in tuple", fieldName)));
+            indexParts.add(value);
+        }
+        return requireNotEmpty(indexParts);
+    }
+
+    /**
+     * Get primary index parts from identifier value, the parts are not converted
+     *
+     * @param id identifier value
+     * @return list of index parts
+     */
+    List<Object> fromId(Object id) {
+        List<Object> indexParts = new ArrayList<>(keyProperties.size());
+        if (compositePrimaryKey) {
+            TarantoolPersistentEntity<?> idEntity = idPersistentEntity;
+            List<TarantoolPersistentProperty> idProperties = keyProperties;
+            if (idEntity == null || !idEntity.getType().equals(id.getClass())) {
+                idEntity = mappingContext.getRequiredPersistentEntity(id.getClass());
+                idProperties = new ArrayList<>();
+                idEntity.forEach(idProperties::add);
+            }
+            PersistentPropertyAccessor<Object> accessor = idEntity.getPropertyAccessor(id);
+            for (TarantoolPersistentProperty property : idProperties) {
+                indexParts.add(accessor.getProperty(property));
+            }
+        } else if (id instanceof MapId) {
+            MapId mapId = (MapId) id;
+            for (TarantoolPersistentProperty property : keyProperties) {
+                indexParts.add(mapId.get(property.getName()));
+            }
+        } else {
+            indexParts.add(id);
+        }
+        return requireNotEmpty(indexParts);
+    }
+
+    /**
+     * Whether some of the index parts have to be converted before passing to the driver
+     *
+     * @param indexParts  index parts
+     * @param conversions custom conversions
+     * @return true if conversion is required
+     */
+    static boolean requiresConversion(List<Object> indexParts, CustomConversions conversions) {
+        for (Object part : indexParts) {
+            if (part == null) {
+                continue;
+            }
+            Class<?> type = part.getClass();
+            if (type.isEnum() || !conversions.isSimpleType(type) || conversions.getCustomWriteTarget(type).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Object> requireNotEmpty(List<Object> indexParts) {
+        if (indexParts.isEmpty()) {
+            throw new MappingException(String.format("Can't retrieve id fields for query for entity %s", persistentEntity.getType().getSimpleName()));
+        }
+        return indexParts;
+    }
+}
@@ -4,10 +4,13 @@ import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import org.msgpack.value.Value;
 import org.reactivestreams.Publisher;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -44,13 +47,37 @@ public interface ReactiveTarantoolOperations extends TarantoolConverterAware, Ta
      */
     <T, ID> Flux<T> selectByIds(Publisher<ID> ids, Class<T> entityClass);
 
+    /**
+     * Check whether a record with the given id exists. Target space will be derived automatically from the entity class.
+     * The found tuple is not converted to an entity.
+     *
+     * @param <T>         target entity type
+     * @param <ID>        target entity index type
+     * @param id          Id of the record
+     * @param entityClass Desired type of the result object
+     * @return true if the record exists
+     */
+    <T, ID> Mono<Boolean> existsById(ID id, Class<T> entityClass);
+
+    /**
+     * Check whether some record matches the specified query. Only the first matching tuple is fetched and
+     * it is not converted to an entity. The space is determined automatically from the entity class.
+     *
+     * @param <T>         target entity type
+     * @param query       Query object that encapsulates the search criteria, its limit is set to 1
+     * @param entityClass Desired type of the result object
+     * @return true if some record matches the query
+     */
+    <T> Mono<Boolean> exists(Conditions query, Class<T> entityClass);
+
     /**
      * Map the results of a query over a space for the entity class to a single instance of an object of the
      * specified type. Target space will be derived automatically from the entity class.
      * Default value mappers {@link MappingTarantoolConverter} will be used unless a custom one is specified.
+     * Only the first matching tuple is fetched.
      *
      * @param <T>         target entity type
-     * @param query       Query object that encapsulates the search criteria
+     * @param query       Query object that encapsulates the search criteria, its limit is set to 1
      * @param entityClass Desired type of the result object
      * @return The converted object
      */
@@ -68,6 +95,47 @@ public interface ReactiveTarantoolOperations extends TarantoolConverterAware, Ta
      */
     <T> Flux<T> select(Conditions query, Class<T> entityClass);
 
+    /**
+     * Map the results of several queries over a space for the entity class to a Flux of objects of the specified type.
+     * Queries are sent concurrently in batches of {@link TarantoolTupleMethodsHelper#QUERY_BATCH_SIZE} and the results
+     * are concatenated in the order of queries. Target space will be derived automatically from the entity class.
+     *
+     * @param <T>         target entity type
+     * @param queries     Query objects that encapsulate the search criteria
+     * @param entityClass Desired type of the result object
+     * @return Flux of converted objects
+     */
+    <T> Flux<T> selectAll(Collection<Conditions> queries, Class<T> entityClass);
+
+    /**
+     * Map a window of the results of a query over a space for the entity class. The window starts after the tuple
+     * of a keyset scroll position, so every window is fetched by a single bounded index scan, or at an offset scroll
+     * position. The box client scrolls by offset positions only. Target space will be derived automatically from the
+     * entity class.
+     *
+     * @param <T>         target entity type
+     * @param query       Query object that encapsulates the search criteria, its limit is replaced
+     * @param position    offset or forward keyset scroll position
+     * @param limit       max number of entities in the window
+     * @param entityClass Desired type of the result object
+     * @return Mono with window of converted objects with positions after each of them
+     */
+    <T> Mono<Window<T>> scroll(Conditions query, ScrollPosition position, int limit, Class<T> entityClass);
+
+    /**
+     * Map the results of a query over a space for the entity class to a Flux of objects of the specified type.
+     * Tuples are fetched lazily in pages of the given size, every page is continued after the last tuple of the
+     * previous one, so only a single page is held in memory. The box client continues pages by offset instead.
+     * Target space will be derived automatically from the entity class.
+     *
+     * @param <T>         target entity type
+     * @param query       Query object that encapsulates the search criteria, its limit is respected across pages
+     * @param fetchSize   max number of tuples fetched per request
+     * @param entityClass Desired type of the result object
+     * @return Flux of converted objects, the next page is requested on demand
+     */
+    <T> Flux<T> stream(Conditions query, int fetchSize, Class<T> entityClass);
+
     /**
      * Get all entities from a space and map them to a Flux of objects of specified type. The space is determined automatically
      * from the entity class.
@@ -16,8 +16,11 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
+import org.springframework.data.tarantool.core.convert.AbstractTarantoolConverter;
 import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
@@ -67,6 +70,10 @@ public class ReactiveTarantoolTemplate extends ExceptionTranslatorSupport implem
         this.tarantoolClient = tarantoolClient;
         this.tarantoolConverter = tarantoolConverter;
         this.messagePackMapper = tarantoolClient.getConfig().getMessagePackMapper();
+        if (tarantoolConverter instanceof AbstractTarantoolConverter
+                && !((AbstractTarantoolConverter) tarantoolConverter).hasMessagePackMapper()) {
+            ((AbstractTarantoolConverter) tarantoolConverter).setMessagePackMapper(messagePackMapper);
+        }
         this.tupleMethodsHelper = new TarantoolTupleMethodsHelper(tarantoolConverter, this);
     }
 
@@ -144,12 +151,32 @@ public class ReactiveTarantoolTemplate extends ExceptionTranslatorSupport implem
                 .sequential();
     }
 
+    @Override
+    public <T, ID> Mono<Boolean> existsById(ID id, Class<T> entityClass) {
+        Assert.notNull(id, "Id must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        return exists(tupleMethodsHelper.primaryIndexQueryById(id, entityClass), entityClass);
+    }
+
+    @Override
+    public <T> Mono<Boolean> exists(Conditions query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        Conditions limitedQuery = TarantoolTupleMethodsHelper.limited(query, 1);
+        return execute(entityClass, spaceOps -> spaceOps.select(limitedQuery))
+                .map(tuples -> !tuples.isEmpty())
+                .defaultIfEmpty(false);
+    }
+
     @Override
     public <T> Mono<T> selectOne(Conditions query, Class<T> entityClass) {
         Assert.notNull(query, "Query must not be null");
         Assert.notNull(entityClass, "Entity class must not be null");
 
-        return execute(entityClass, spaceOps -> spaceOps.select(query))
+        Conditions limitedQuery = TarantoolTupleMethodsHelper.limited(query, 1);
+        return execute(entityClass, spaceOps -> spaceOps.select(limitedQuery))
                 .filter(tuples -> tuples.size() > 0)
                 .map(tuples -> mapToEntity(tuples.get(0), entityClass));
     }
@@ -161,8 +188,59 @@ public class ReactiveTarantoolTemplate extends ExceptionTranslatorSupport implem
 
         return execute(entityClass, spaceOps -> spaceOps.select(query))
                 .publishOn(TARANTOOL_PARALLEL_SCHEDULER)
-                .flatMapIterable(tuples -> tuples)
-                .map(tuple -> mapToEntity(tuple, entityClass));
+                .flatMapIterable(tuples -> mapToEntities(tuples, entityClass));
+    }
+
+    @Override
+    public <T> Flux<T> selectAll(Collection<Conditions> queries, Class<T> entityClass) {
+        Assert.notNull(queries, "Queries must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        return Flux.fromIterable(queries)
+                .flatMapSequential(query -> execute(entityClass, spaceOps -> spaceOps.select(query)), TarantoolTupleMethodsHelper.QUERY_BATCH_SIZE)
+                .publishOn(TARANTOOL_PARALLEL_SCHEDULER)
+                .flatMapIterable(tuples -> mapToEntities(tuples, entityClass));
+    }
+
+    @Override
+    public <T> Mono<Window<T>> scroll(Conditions query, ScrollPosition position, int limit, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(position, "Scroll position must not be null");
+        Assert.isTrue(limit > 0, "Limit must be positive");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        TarantoolSpaceMetadata spaceMetadata = requiredSpaceMetadata(spaceName(entityClass));
+        boolean keyset = isProxyClient();
+        Conditions windowQuery = TarantoolTupleMethodsHelper.windowQuery(query, position, limit, keyset, messagePackMapper, spaceMetadata);
+        return execute(entityClass, spaceOps -> spaceOps.select(windowQuery))
+                .publishOn(TARANTOOL_PARALLEL_SCHEDULER)
+                .map(tuples -> {
+                    boolean hasNext = tuples.size() > limit;
+                    List<TarantoolTuple> windowTuples = hasNext ? tuples.subList(0, limit) : tuples;
+                    return Window.from(mapToEntities(windowTuples, entityClass),
+                            tupleMethodsHelper.windowPositions(position, windowTuples, keyset, spaceMetadata), hasNext);
+                });
+    }
+
+    @Override
+    public <T> Flux<T> stream(Conditions query, int fetchSize, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.isTrue(fetchSize > 0, "Fetch size must be positive");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        return Flux.defer(() -> {
+                    TupleCursor cursor = new TupleCursor(query, fetchSize, isProxyClient());
+                    return fetchPage(cursor, entityClass)
+                            .expand(tuples -> cursor.isExhausted() ? Mono.empty() : fetchPage(cursor, entityClass));
+                })
+                // prefetch a single page only, so that the next page is selected when the subscriber demands it
+                .publishOn(TARANTOOL_PARALLEL_SCHEDULER, 1)
+                .flatMapIterable(tuples -> mapToEntities(tuples, entityClass), 1);
+    }
+
+    private <T> Mono<List<TarantoolTuple>> fetchPage(TupleCursor cursor, Class<T> entityClass) {
+        Conditions pageQuery = cursor.nextQuery();
+        return execute(entityClass, spaceOps -> spaceOps.select(pageQuery)).map(cursor::onPage);
     }
 
     private <T> T mapToEntity(TarantoolTuple tuple, Class<T> entityClass) {
@@ -173,6 +251,28 @@ public class ReactiveTarantoolTemplate extends ExceptionTranslatorSupport implem
         return entity;
     }
 
+    private <T> List<T> readAll(List<TarantoolTuple> tuples, Class<T> entityClass) {
+        Function<Object, T> reader = entityReader(entityClass);
+        List<T> entities = new ArrayList<>(tuples.size());
+        for (TarantoolTuple tuple : tuples) {
+            entities.add(reader.apply(tuple));
+        }
+        return entities;
+    }
+
+    private <T> List<T> mapToEntities(List<TarantoolTuple> tuples, Class<T> entityClass) {
+        String spaceName = spaceName(entityClass);
+        Function<Object, T> reader = entityReader(entityClass);
+        List<T> entities = new ArrayList<>(tuples.size());
+        for (TarantoolTuple tuple : tuples) {
+            maybeEmitEvent(new AfterLoadEvent<>(tuple, entityClass, spaceName));
+            T entity = reader.apply(tuple);
+            maybeEmitEvent(new AfterConvertEvent<>(tuple, entity, spaceName));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
     @Override
     public <T> Flux<T> select(Class<T> entityClass) {
         return select(Conditions.any(), entityClass);
@@ -402,10 +502,9 @@ public class ReactiveTarantoolTemplate extends ExceptionTranslatorSupport implem
             SingleValueWithTarantoolTupleResultMapperFactory resultMapperFactory = tarantoolClient.getResultMapperFactoryFactory().singleValueTupleResultMapperFactory();
             return execute(() -> tarantoolClient.callForSingleResult(functionName, mappedTValues(parameters), messagePackMapper, resultMapperFactory.withSingleValueArrayToTarantoolTupleResultMapper(messagePackMapper, spaceMetadata.orElse(null))))
                     .publishOn(TARANTOOL_PARALLEL_SCHEDULER)
-                    .flatMapIterable(tuples -> tuples)
-                    .map(tuple -> tupleToEntity(tuple, entityClass));
+                    .flatMapIterable(tuples -> readAll(tuples, entityClass));
         } else {
-            return callForAll(functionName, parameters, value -> tupleToEntity(messagePackMapper.fromValue(value, Map.class), entityClass));
+            return Flux.defer(() -> callForAll(functionName, parameters, batchValueConverter(messagePackMapper, entityClass)));
         }
     }
 
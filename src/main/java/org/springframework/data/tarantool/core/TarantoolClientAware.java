@@ -3,6 +3,7 @@ package org.springframework.data.tarantool.core;
 import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -13,6 +14,8 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.data.tarantool.core.mapping.UnsupportedTarantoolOperationException;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -83,6 +86,20 @@ public interface TarantoolClientAware {
         }
     }
 
+    /**
+     * Provide Tarantool index metadata for giving space name
+     *
+     * @param spaceName name of giving space
+     * @return index metadata by index name, empty if the space is not found
+     */
+    default Map<String, TarantoolIndexMetadata> spaceIndexes(String spaceName) {
+        try {
+            return getClient().metadata().getSpaceIndexes(spaceName).orElse(Collections.emptyMap());
+        } catch (Exception e) {
+            throw dataAccessException(e);
+        }
+    }
+
     /**
      * Return Tarantool server version
      *
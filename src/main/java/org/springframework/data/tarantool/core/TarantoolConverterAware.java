@@ -7,10 +7,11 @@ import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import org.msgpack.value.Value;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
 import org.springframework.data.tarantool.core.mapping.TarantoolSimpleTypeHolder;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Common interface to accumulate methods to interact with TarantoolConverter
@@ -64,6 +65,18 @@ public interface TarantoolConverterAware {
         return getConverter().read(entityClass, tuple);
     }
 
+    /**
+     * Prepare a reader converting a batch of Tarantool tuples or values to entities. The reader reuses its
+     * decoding state between sources, so it must not be shared between threads
+     *
+     * @param entityClass entity class to use
+     * @param <T>         entity class parameter
+     * @return entity reader
+     */
+    default <T> Function<Object, T> entityReader(Class<T> entityClass) {
+        return getConverter().reader(entityClass);
+    }
+
     /**
      * Convert multiple values to Tarantool writable objects
      *
@@ -82,8 +95,11 @@ public interface TarantoolConverterAware {
      * @return prepared entity
      */
     default <T> T entityToInsert(T entity) {
-        AdaptableEntity<T> source = AdaptableMappedEntity.of(entity, getConverter().getMappingContext(), getConverter().getConversionService());
-        return source.isVersionedEntity() ? source.initializeVersionProperty() : entity;
+        TarantoolPersistentEntity<?> persistentEntity = getConverter().getMappingContext().getRequiredPersistentEntity(entity.getClass());
+        if (!persistentEntity.hasVersionProperty()) {
+            return entity;
+        }
+        return AdaptableMappedEntity.of(entity, persistentEntity).initializeVersionProperty();
     }
 
     /**
@@ -94,12 +110,11 @@ public interface TarantoolConverterAware {
      * @return prepared entity
      */
     default <T> T entityToUpdate(T entity) {
-        AdaptableEntity<T> source = AdaptableMappedEntity.of(entity, getConverter().getMappingContext(), getConverter().getConversionService());
-        if (source.isVersionedEntity()) {
-            return source.incrementVersion();
-        } else {
+        TarantoolPersistentEntity<?> persistentEntity = getConverter().getMappingContext().getRequiredPersistentEntity(entity.getClass());
+        if (!persistentEntity.hasVersionProperty()) {
             return entity;
         }
+        return AdaptableMappedEntity.of(entity, persistentEntity).incrementVersion();
     }
 
     /**
@@ -114,7 +129,25 @@ public interface TarantoolConverterAware {
         if (TarantoolSimpleTypeHolder.HOLDER.isSimpleType(entityClass)) {
             return value -> mapper.fromValue(value, entityClass);
         } else {
-            return value -> tupleToEntity(mapper.fromValue(value, Map.class), entityClass);
+            return value -> tupleToEntity(value, entityClass);
+        }
+    }
+
+    /**
+     * Prepare Tarantool value converter to use in call operations returning multiple values. The converter
+     * reuses its decoding state between values, so it must not be shared between threads
+     *
+     * @param mapper      Tarantool MessagePackMapper mapper to use
+     * @param entityClass entity class to use
+     * @param <T>         entity class parameter
+     * @return value converter
+     */
+    default <T> ValueConverter<Value, T> batchValueConverter(MessagePackMapper mapper, Class<T> entityClass) {
+        if (TarantoolSimpleTypeHolder.HOLDER.isSimpleType(entityClass)) {
+            return value -> mapper.fromValue(value, entityClass);
+        } else {
+            Function<Object, T> reader = entityReader(entityClass);
+            return reader::apply;
         }
     }
 }
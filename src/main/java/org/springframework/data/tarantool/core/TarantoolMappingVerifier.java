@@ -0,0 +1,269 @@
+package org.springframework.data.tarantool.core;
+
+import io.netty.buffer.ByteBuf;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.mapping.EnumType;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Verifies entity mapping against formats of Tarantool spaces on startup. For every entity annotated with
+ * {@link org.springframework.data.tarantool.core.mapping.Space} the space must exist, every mapped field must be
+ * present in the space format and its Tarantool type must be compatible with the written value. Optionally, a sample
+ * tuple with non-null values of simple properties is read and written back several times for every entity, so
+ * reflection, instantiators and codecs are prepared before the first request. Entities without a space are not
+ * warmed up.
+ *
+ * @author Alexander Rublev
+ */
+public class TarantoolMappingVerifier implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(TarantoolMappingVerifier.class);
+
+    private static final Set<String> INTEGER_TYPES = Set.of("integer", "unsigned", "number");
+    private static final Set<String> FLOATING_POINT_TYPES = Set.of("number", "double");
+    private static final Set<String> DECIMAL_TYPES = Set.of("decimal", "number");
+    private static final Map<Class<?>, Object> SAMPLE_VALUES = Map.ofEntries(
+            Map.entry(String.class, "warm-up"),
+            Map.entry(Character.class, 'w'),
+            Map.entry(Boolean.class, true),
+            Map.entry(Byte.class, (byte) 1),
+            Map.entry(Short.class, (short) 1),
+            Map.entry(Integer.class, 1),
+            Map.entry(Long.class, 1L),
+            Map.entry(Float.class, 1f),
+            Map.entry(Double.class, 1d),
+            Map.entry(BigInteger.class, BigInteger.ONE),
+            Map.entry(BigDecimal.class, BigDecimal.ONE),
+            Map.entry(UUID.class, new UUID(0, 1)),
+            Map.entry(Instant.class, Instant.EPOCH),
+            Map.entry(LocalDate.class, LocalDate.EPOCH),
+            Map.entry(LocalDateTime.class, LocalDateTime.of(LocalDate.EPOCH, LocalTime.NOON)),
+            Map.entry(OffsetDateTime.class, OffsetDateTime.of(LocalDate.EPOCH, LocalTime.NOON, ZoneOffset.UTC)),
+            Map.entry(ZonedDateTime.class, ZonedDateTime.of(LocalDate.EPOCH, LocalTime.NOON, ZoneOffset.UTC)),
+            Map.entry(Duration.class, Duration.ofSeconds(1)),
+            Map.entry(Period.class, Period.ofDays(1)),
+            Map.entry(Date.class, new Date(0))
+    );
+
+    private final TarantoolClientAware clientAware;
+    private final TarantoolConverter converter;
+    private final boolean verifyMapping;
+    private final int warmUpIterations;
+
+    /**
+     * Create new verifier
+     *
+     * @param clientAware      source of Tarantool client and space metadata, usually a template
+     * @param converter        converter which entities are mapped with
+     * @param verifyMapping    whether field names and types should be verified
+     * @param warmUpIterations number of read and write iterations per entity, 0 to skip warm-up
+     */
+    public TarantoolMappingVerifier(TarantoolClientAware clientAware, TarantoolConverter converter, boolean verifyMapping, int warmUpIterations) {
+        Assert.notNull(clientAware, "TarantoolClientAware must not be null");
+        Assert.notNull(converter, "TarantoolConverter must not be null");
+        Assert.isTrue(warmUpIterations >= 0, "Number of warm-up iterations must not be negative");
+
+        this.clientAware = clientAware;
+        this.converter = converter;
+        this.verifyMapping = verifyMapping;
+        this.warmUpIterations = warmUpIterations;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (verifyMapping || warmUpIterations > 0) {
+            verify();
+        }
+    }
+
+    /**
+     * Verify all entities with space annotation known to the mapping context
+     *
+     * @throws MappingException if some of the entities don't match their spaces
+     */
+    public void verify() {
+        List<String> problems = new ArrayList<>();
+        for (TarantoolPersistentEntity<?> entity : converter.getMappingContext().getPersistentEntities()) {
+            if (!entity.hasSpaceAnnotation()) {
+                continue;
+            }
+
+            String spaceName = entity.getSpaceName();
+            Optional<TarantoolSpaceMetadata> spaceMetadata = clientAware.spaceMetadata(spaceName);
+            if (spaceMetadata.isEmpty()) {
+                if (verifyMapping) {
+                    problems.add(String.format("Space %s for entity %s not found", spaceName, entity.getType().getName()));
+                } else {
+                    log.warn("Space {} for entity {} not found, the entity is not warmed up", spaceName, entity.getType().getName());
+                }
+                continue;
+            }
+
+            List<String> entityProblems = verifyMapping ? verify(entity, spaceMetadata.get()) : new ArrayList<>();
+            if (entityProblems.isEmpty()) {
+                warmUp(entity, spaceMetadata.get(), entityProblems);
+            }
+            problems.addAll(entityProblems);
+        }
+
+        if (!problems.isEmpty()) {
+            throw new MappingException("Entity mapping doesn't match Tarantool spaces: " + String.join("; ", problems));
+        }
+    }
+
+    private List<String> verify(TarantoolPersistentEntity<?> entity, TarantoolSpaceMetadata spaceMetadata) {
+        List<String> problems = new ArrayList<>();
+        entity.doWithProperties((PropertyHandler<TarantoolPersistentProperty>) property -> {
+            if (property.isCompositePrimaryKey()) {
+                converter.getMappingContext().getRequiredPersistentEntity(property.getType())
+                        .doWithProperties((PropertyHandler<TarantoolPersistentProperty>) idProperty -> verify(entity, idProperty, spaceMetadata, problems));
+            } else {
+                verify(entity, property, spaceMetadata, problems);
+            }
+        });
+        return problems;
+    }
+
+    private void verify(TarantoolPersistentEntity<?> entity, TarantoolPersistentProperty property, TarantoolSpaceMetadata spaceMetadata, List<String> problems) {
+        String fieldName = property.getFieldName();
+        Optional<TarantoolFieldMetadata> fieldMetadata = spaceMetadata.getFieldByName(fieldName);
+        if (fieldMetadata.isEmpty()) {
+            problems.add(String.format("Field %s of entity %s not found in space %s", fieldName, entity.getType().getName(), spaceMetadata.getSpaceName()));
+            return;
+        }
+
+        String fieldType = fieldMetadata.get().getFieldType().toLowerCase(Locale.ROOT);
+        Set<String> compatibleTypes = compatibleFieldTypes(property);
+        boolean isContainer = compatibleTypes != null && (compatibleTypes.contains("array") || compatibleTypes.contains("map"));
+        if (compatibleTypes == null || "any".equals(fieldType) || ("scalar".equals(fieldType) && !isContainer) || compatibleTypes.contains(fieldType)) {
+            return;
+        }
+        problems.add(String.format("Field %s of entity %s has type %s in space %s, but property of type %s is written as one of %s",
+                fieldName, entity.getType().getName(), fieldType, spaceMetadata.getSpaceName(), property.getType().getSimpleName(), compatibleTypes));
+    }
+
+    /**
+     * Get Tarantool field types compatible with the values written for the property
+     *
+     * @param property property to check
+     * @return set of type names or null if the written value type is unknown
+     */
+    @Nullable
+    private Set<String> compatibleFieldTypes(TarantoolPersistentProperty property) {
+        if (property.isPackedArray()) {
+            return Set.of("varbinary");
+        }
+
+        CustomConversions conversions = converter.getCustomConversions();
+        Class<?> type = property.getType();
+        Class<?> writtenType = ClassUtils.resolvePrimitiveIfNecessary(conversions.getCustomWriteTarget(type).orElse(type));
+        if (writtenType.isEnum() && property.getEnumType() != EnumType.NAME) {
+            return INTEGER_TYPES;
+        } else if (CharSequence.class.isAssignableFrom(writtenType) || Character.class == writtenType || writtenType.isEnum()) {
+            return Set.of("string");
+        } else if (Long.class == writtenType || Integer.class == writtenType || Short.class == writtenType || Byte.class == writtenType) {
+            return INTEGER_TYPES;
+        } else if (BigInteger.class == writtenType) {
+            return Set.of("integer", "unsigned", "number", "decimal");
+        } else if (Double.class == writtenType || Float.class == writtenType) {
+            return FLOATING_POINT_TYPES;
+        } else if (BigDecimal.class == writtenType) {
+            return DECIMAL_TYPES;
+        } else if (Boolean.class == writtenType) {
+            return Set.of("boolean");
+        } else if (UUID.class == writtenType) {
+            return Set.of("uuid");
+        } else if (byte[].class == writtenType || ByteBuffer.class.isAssignableFrom(writtenType) || ByteBuf.class.isAssignableFrom(writtenType)) {
+            return Set.of("varbinary");
+        } else if (writtenType.isArray() || Collection.class.isAssignableFrom(writtenType)) {
+            return Set.of("array");
+        } else if (Map.class.isAssignableFrom(writtenType)
+                || (!conversions.isSimpleType(writtenType) && converter.getMappingContext().getPersistentEntity(writtenType) != null)) {
+            return Set.of("map");
+        }
+        return null;
+    }
+
+    private void warmUp(TarantoolPersistentEntity<?> entity, TarantoolSpaceMetadata spaceMetadata, List<String> problems) {
+        if (warmUpIterations == 0) {
+            return;
+        }
+
+        MessagePackMapper mapper = clientAware.getClient().getConfig().getMessagePackMapper();
+        try {
+            TarantoolTuple tuple = sampleTuple(entity, mapper, spaceMetadata);
+            for (int i = 0; i < warmUpIterations; i++) {
+                Object instance = converter.read(entity.getType(), tuple);
+                tuple = new TarantoolTupleImpl(mapper, spaceMetadata);
+                converter.write(instance, tuple);
+            }
+        } catch (RuntimeException e) {
+            if (verifyMapping) {
+                problems.add(String.format("Warm-up of entity %s failed: %s", entity.getType().getName(), e.getMessage()));
+            } else {
+                log.warn("Warm-up of entity {} failed: {}", entity.getType().getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Create a tuple with sample values of the simple properties, so the warm-up reads and writes non-null values
+     */
+    private TarantoolTuple sampleTuple(TarantoolPersistentEntity<?> entity, MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        TarantoolTuple tuple = new TarantoolTupleImpl(mapper, spaceMetadata);
+        entity.doWithProperties((PropertyHandler<TarantoolPersistentProperty>) property -> {
+            if (property.isCompositePrimaryKey()) {
+                converter.getMappingContext().getRequiredPersistentEntity(property.getType())
+                        .doWithProperties((PropertyHandler<TarantoolPersistentProperty>) idProperty -> putSampleValue(tuple, idProperty, spaceMetadata));
+            } else {
+                putSampleValue(tuple, property, spaceMetadata);
+            }
+        });
+        return tuple;
+    }
+
+    private void putSampleValue(TarantoolTuple tuple, TarantoolPersistentProperty property, TarantoolSpaceMetadata spaceMetadata) {
+        Object value = sampleValue(property.getType());
+        if (value != null && !property.isPackedArray() && spaceMetadata.getFieldByName(property.getFieldName()).isPresent()) {
+            tuple.putObject(property.getFieldName(), converter.convertToWritableType(value, property));
+        }
+    }
+
+    @Nullable
+    private static Object sampleValue(Class<?> type) {
+        Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(type);
+        if (valueType.isEnum()) {
+            Object[] constants = valueType.getEnumConstants();
+            return constants.length > 0 ? constants[0] : null;
+        }
+        return SAMPLE_VALUES.get(valueType);
+    }
+}
@@ -3,10 +3,16 @@ package org.springframework.data.tarantool.core;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import org.msgpack.value.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import org.springframework.lang.Nullable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface that specifies a basic set of Tarantool operations. Implemented by {@link TarantoolTemplate}.
@@ -42,13 +48,37 @@ public interface TarantoolOperations extends TarantoolConverterAware, TarantoolC
      */
     <T, ID> List<T> selectByIds(Iterable<ID> ids, Class<T> entityClass);
 
+    /**
+     * Check whether a record with the given id exists. Target space will be derived automatically from the entity class.
+     * The found tuple is not converted to an entity.
+     *
+     * @param <T>         target entity type
+     * @param <ID>        target entity index type
+     * @param id          Id of the record
+     * @param entityClass Desired type of the result object
+     * @return true if the record exists
+     */
+    <T, ID> boolean existsById(ID id, Class<T> entityClass);
+
+    /**
+     * Check whether some record matches the specified query. Only the first matching tuple is fetched and
+     * it is not converted to an entity. The space is determined automatically from the entity class.
+     *
+     * @param <T>         target entity type
+     * @param query       Query object that encapsulates the search criteria, its limit is set to 1
+     * @param entityClass Desired type of the result object
+     * @return true if some record matches the query
+     */
+    <T> boolean exists(Conditions query, Class<T> entityClass);
+
     /**
      * Map the results of a query over a space for the entity class to a single instance of an object of the
      * specified type. Target space will be derived automatically from the entity class.
      * Default value mappers {@link MappingTarantoolConverter} will be used unless a custom one is specified.
+     * Only the first matching tuple is fetched.
      *
      * @param <T>         target entity type
-     * @param query       Query object that encapsulates the search criteria
+     * @param query       Query object that encapsulates the search criteria, its limit is set to 1
      * @param entityClass Desired type of the result object
      * @return The converted object
      */
@@ -67,6 +97,61 @@ public interface TarantoolOperations extends TarantoolConverterAware, TarantoolC
      */
     <T> List<T> select(Conditions query, Class<T> entityClass);
 
+    /**
+     * Map the results of several queries over a space for the entity class to a List of objects of the specified type.
+     * Queries are sent concurrently in batches of {@link TarantoolTupleMethodsHelper#QUERY_BATCH_SIZE} and the results
+     * are concatenated in the order of queries. Target space will be derived automatically from the entity class.
+     *
+     * @param <T>         target entity type
+     * @param queries     Query objects that encapsulate the search criteria
+     * @param entityClass Desired type of the result object
+     * @return List of converted objects
+     */
+    <T> List<T> selectAll(Collection<Conditions> queries, Class<T> entityClass);
+
+    /**
+     * Map a slice of the results of a query over a space for the entity class. The slice is fetched with the offset
+     * of the page, prefer {@link #scroll} for deep paging. Target space will be derived automatically from the
+     * entity class.
+     *
+     * @param <T>         target entity type
+     * @param query       Query object that encapsulates the search criteria, its offset and limit are replaced
+     * @param pageable    page request, its sort must be already applied to the query, see
+     *                    {@link org.springframework.data.tarantool.core.query.IndexSort}
+     * @param entityClass Desired type of the result object
+     * @return slice of converted objects
+     */
+    <T> Slice<T> select(Conditions query, Pageable pageable, Class<T> entityClass);
+
+    /**
+     * Map a window of the results of a query over a space for the entity class. The window starts after the tuple
+     * of a keyset scroll position, so every window is fetched by a single bounded index scan, or at an offset scroll
+     * position. The box client scrolls by offset positions only. Target space will be derived automatically from the
+     * entity class.
+     *
+     * @param <T>         target entity type
+     * @param query       Query object that encapsulates the search criteria, its limit is replaced
+     * @param position    offset or forward keyset scroll position
+     * @param limit       max number of entities in the window
+     * @param entityClass Desired type of the result object
+     * @return window of converted objects with positions after each of them
+     */
+    <T> Window<T> scroll(Conditions query, ScrollPosition position, int limit, Class<T> entityClass);
+
+    /**
+     * Map the results of a query over a space for the entity class to a Stream of objects of the specified type.
+     * Tuples are fetched lazily in pages of the given size, every page is continued after the last tuple of the
+     * previous one, so only a single page is held in memory. The box client continues pages by offset instead.
+     * Target space will be derived automatically from the entity class.
+     *
+     * @param <T>         target entity type
+     * @param query       Query object that encapsulates the search criteria, its limit is respected across pages
+     * @param fetchSize   max number of tuples fetched per request
+     * @param entityClass Desired type of the result object
+     * @return Stream of converted objects, must be closed after use
+     */
+    <T> Stream<T> stream(Conditions query, int fetchSize, Class<T> entityClass);
+
     /**
      * Get all entities from a space and map them to a List of objects of specified type. The space is determined automatically
      * from the entity class.
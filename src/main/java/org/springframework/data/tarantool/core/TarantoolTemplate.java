@@ -16,8 +16,14 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.tarantool.TarantoolServerConnectionException;
+import org.springframework.data.tarantool.core.convert.AbstractTarantoolConverter;
 import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
@@ -32,6 +38,7 @@ import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -60,6 +67,10 @@ public class TarantoolTemplate extends ExceptionTranslatorSupport implements App
         this.tarantoolClient = tarantoolClient;
         this.tarantoolConverter = tarantoolConverter;
         this.messagePackMapper = tarantoolClient.getConfig().getMessagePackMapper();
+        if (tarantoolConverter instanceof AbstractTarantoolConverter
+                && !((AbstractTarantoolConverter) tarantoolConverter).hasMessagePackMapper()) {
+            ((AbstractTarantoolConverter) tarantoolConverter).setMessagePackMapper(messagePackMapper);
+        }
         this.tupleMethodsHelper = new TarantoolTupleMethodsHelper(tarantoolConverter, this);
     }
 
@@ -140,9 +151,25 @@ public class TarantoolTemplate extends ExceptionTranslatorSupport implements App
                         .map(f -> f.join().stream().findFirst().orElse(null))
                         .collect(Collectors.toList())))
                 .stream()
-                .map(t -> t != null ? mapToEntity(t, entityClass) : null)
                 .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+                .collect(Collectors.collectingAndThen(Collectors.toList(), tuples -> mapToEntities(tuples, entityClass)));
+    }
+
+    @Override
+    public <T, ID> boolean existsById(ID id, Class<T> entityClass) {
+        Assert.notNull(id, "Id must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        return exists(tupleMethodsHelper.primaryIndexQueryById(id, entityClass), entityClass);
+    }
+
+    @Override
+    public <T> boolean exists(Conditions query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        Conditions limitedQuery = TarantoolTupleMethodsHelper.limited(query, 1);
+        return !unwrap(execute(entityClass, spaceOps -> spaceOps.select(limitedQuery))).isEmpty();
     }
 
     @Override
@@ -150,7 +177,8 @@ public class TarantoolTemplate extends ExceptionTranslatorSupport implements App
         Assert.notNull(query, "Query must not be null");
         Assert.notNull(entityClass, "Entity class must not be null");
 
-        return unwrap(execute(entityClass, spaceOps -> spaceOps.select(query)))
+        Conditions limitedQuery = TarantoolTupleMethodsHelper.limited(query, 1);
+        return unwrap(execute(entityClass, spaceOps -> spaceOps.select(limitedQuery)))
                 .stream()
                 .findFirst()
                 .map(t -> mapToEntity(t, entityClass))
@@ -162,10 +190,92 @@ public class TarantoolTemplate extends ExceptionTranslatorSupport implements App
         Assert.notNull(query, "Query must not be null");
         Assert.notNull(entityClass, "Entity class must not be null");
 
-        return unwrap(execute(entityClass, spaceOps -> spaceOps.select(query)))
-                .stream()
-                .map(t -> mapToEntity(t, entityClass))
-                .collect(Collectors.toList());
+        return mapToEntities(unwrap(execute(entityClass, spaceOps -> spaceOps.select(query))), entityClass);
+    }
+
+    @Override
+    public <T> List<T> selectAll(Collection<Conditions> queries, Class<T> entityClass) {
+        Assert.notNull(queries, "Queries must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        List<CompletableFuture<TarantoolResult<TarantoolTuple>>> batch = new ArrayList<>(Math.min(queries.size(), TarantoolTupleMethodsHelper.QUERY_BATCH_SIZE));
+        for (Conditions query : queries) {
+            batch.add(execute(entityClass, spaceOps -> spaceOps.select(query)));
+            if (batch.size() == TarantoolTupleMethodsHelper.QUERY_BATCH_SIZE) {
+                collectBatch(batch, tuples);
+            }
+        }
+        collectBatch(batch, tuples);
+
+        return mapToEntities(tuples, entityClass);
+    }
+
+    @Override
+    public <T> Slice<T> select(Conditions query, Pageable pageable, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(pageable, "Pageable must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(select(query, entityClass), pageable, false);
+        }
+
+        int pageSize = pageable.getPageSize();
+        Conditions sliceQuery = new Conditions(query).withOffset(pageable.getOffset()).withLimit(pageSize + 1);
+        List<TarantoolTuple> tuples = unwrap(execute(entityClass, spaceOps -> spaceOps.select(sliceQuery)));
+        boolean hasNext = tuples.size() > pageSize;
+        return new SliceImpl<>(mapToEntities(hasNext ? tuples.subList(0, pageSize) : tuples, entityClass), pageable, hasNext);
+    }
+
+    @Override
+    public <T> Window<T> scroll(Conditions query, ScrollPosition position, int limit, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(position, "Scroll position must not be null");
+        Assert.isTrue(limit > 0, "Limit must be positive");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        TarantoolSpaceMetadata spaceMetadata = requiredSpaceMetadata(spaceName(entityClass));
+        boolean keyset = isProxyClient();
+        Conditions windowQuery = TarantoolTupleMethodsHelper.windowQuery(query, position, limit, keyset, messagePackMapper, spaceMetadata);
+        List<TarantoolTuple> tuples = unwrap(execute(entityClass, spaceOps -> spaceOps.select(windowQuery)));
+        boolean hasNext = tuples.size() > limit;
+        List<TarantoolTuple> windowTuples = hasNext ? tuples.subList(0, limit) : tuples;
+        return Window.from(mapToEntities(windowTuples, entityClass),
+                tupleMethodsHelper.windowPositions(position, windowTuples, keyset, spaceMetadata), hasNext);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Conditions query, int fetchSize, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.isTrue(fetchSize > 0, "Fetch size must be positive");
+        Assert.notNull(entityClass, "Entity class must not be null");
+
+        TupleCursor cursor = new TupleCursor(query, fetchSize, isProxyClient());
+        Iterator<List<TarantoolTuple>> pages = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !cursor.isExhausted();
+            }
+
+            @Override
+            public List<TarantoolTuple> next() {
+                if (cursor.isExhausted()) {
+                    throw new NoSuchElementException();
+                }
+                Conditions pageQuery = cursor.nextQuery();
+                return cursor.onPage(unwrap(execute(entityClass, spaceOps -> spaceOps.select(pageQuery))));
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(tuples -> mapToEntities(tuples, entityClass).stream());
+    }
+
+    private void collectBatch(List<CompletableFuture<TarantoolResult<TarantoolTuple>>> batch, List<TarantoolTuple> tuples) {
+        for (CompletableFuture<TarantoolResult<TarantoolTuple>> future : batch) {
+            tuples.addAll(unwrap(future));
+        }
+        batch.clear();
     }
 
     private <T> T mapToEntity(TarantoolTuple tuple, Class<T> entityClass) {
@@ -176,6 +286,19 @@ public class TarantoolTemplate extends ExceptionTranslatorSupport implements App
         return entity;
     }
 
+    private <T> List<T> mapToEntities(List<TarantoolTuple> tuples, Class<T> entityClass) {
+        String spaceName = spaceName(entityClass);
+        Function<Object, T> reader = entityReader(entityClass);
+        List<T> entities = new ArrayList<>(tuples.size());
+        for (TarantoolTuple tuple : tuples) {
+            maybeEmitEvent(new AfterLoadEvent<>(tuple, entityClass, spaceName));
+            T entity = reader.apply(tuple);
+            maybeEmitEvent(new AfterConvertEvent<>(tuple, entity, spaceName));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
     @Override
     public <T> List<T> select(Class<T> entityClass) {
         return select(Conditions.any(), entityClass);
@@ -416,13 +539,13 @@ public class TarantoolTemplate extends ExceptionTranslatorSupport implements App
                     resultMapperFactory.withSingleValueArrayToTarantoolTupleResultMapper(messagePackMapper, spaceMetadata.orElse(null)))));
             if (result != null) {
                 return result.stream()
-                        .map(tuple -> tupleToEntity(tuple, entityClass))
+                        .map(entityReader(entityClass))
                         .collect(Collectors.toList());
             } else {
                 return Collections.emptyList();
             }
         } else {
-            return callForAll(functionName, parameters, value -> tupleToEntity(messagePackMapper.fromValue(value, Map.class), entityClass));
+            return callForAll(functionName, parameters, batchValueConverter(messagePackMapper, entityClass));
         }
     }
 
@@ -1,21 +1,28 @@
 package org.springframework.data.tarantool.core;
 
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolNullField;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.protocol.TarantoolIndexQuery;
-import org.springframework.data.mapping.MappingException;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
-import org.springframework.data.tarantool.core.mapping.MapId;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
-import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
 import org.springframework.util.Assert;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
 
 /**
  * Common class to accumulate methods to create TarantoolClient {@link Conditions} an {@link TupleOperations}
@@ -23,8 +30,23 @@ import java.util.concurrent.atomic.AtomicReference;
  * @author Alexander Rublev
  */
 public class TarantoolTupleMethodsHelper {
+    /**
+     * Max number of queries of a batch sent to Tarantool concurrently
+     */
+    public static final int QUERY_BATCH_SIZE = Optional.ofNullable(System.getProperty("tarantool.query.batchSize"))
+            .map(Integer::parseInt)
+            .orElse(100);
+
+    /**
+     * Default number of tuples fetched per request by streaming queries
+     */
+    public static final int DEFAULT_FETCH_SIZE = Optional.ofNullable(System.getProperty("tarantool.query.fetchSize"))
+            .map(Integer::parseInt)
+            .orElse(1000);
+
     private final TarantoolConverter tarantoolConverter;
     private final TarantoolConverterAware tarantoolConverterAware;
+    private final Map<Class<?>, PrimaryKeyExtractor> primaryKeyExtractors = new ConcurrentHashMap<>();
 
     /**
      * Create new IndexQueryCreator
@@ -48,34 +70,7 @@ public class TarantoolTupleMethodsHelper {
      * @return primary index query {@link Conditions}
      */
     public Conditions primaryIndexQuery(TarantoolTuple tuple, Class<?> entityClass) {
-        List<Object> indexParts = new ArrayList<>();
-        TarantoolPersistentEntity<?> persistentEntity = tarantoolConverter.getMappingContext().getRequiredPersistentEntity(entityClass);
-        if (persistentEntity.hasCompositePrimaryKey()) {
-            TarantoolPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
-            TarantoolPersistentEntity<?> idPersistentEntity = tarantoolConverter.getMappingContext().getRequiredPersistentEntity(idProperty.getType());
-
-            idPersistentEntity.forEach(property -> {
-                Object value = tuple.getObject(property.getFieldName())
-                        .orElseThrow(() -> new MappingException(String.format("Id property field %s not found in tuple", property.getFieldName())));
-                indexParts.add(value);
-            });
-        } else if (!persistentEntity.hasIdProperty()) {
-            persistentEntity.forEach(property -> {
-                if (property.isPrimaryKeyField()) {
-                    Object value = tuple.getObject(property.getFieldName())
-                            .orElseThrow(() -> new MappingException(String.format("Id property field %s not found in tuple", property.getFieldName())));
-                    indexParts.add(value);
-                }
-            });
-        } else {
-            TarantoolPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
-            Object value = tuple.getObject(idProperty.getFieldName())
-                    .orElseThrow(() -> new MappingException(String.format("Id property %s not found in tuple", idProperty.getFieldName())));
-            indexParts.add(value);
-        }
-        if (indexParts.isEmpty()) {
-            throw new MappingException(String.format("Can't retrieve id fields for query for entity %s", persistentEntity.getType().getSimpleName()));
-        }
+        List<Object> indexParts = primaryKeyExtractor(entityClass).fromTuple(tuple);
         return Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, indexParts);
     }
 
@@ -101,8 +96,7 @@ public class TarantoolTupleMethodsHelper {
      * @return primary index query {@link Conditions}
      */
     public <ID> Conditions primaryIndexQueryById(ID id, Class<?> entityClass) {
-        TarantoolPersistentEntity<?> persistentEntity = tarantoolConverter.getMappingContext().getRequiredPersistentEntity(entityClass);
-        return primaryIndexQuery(id, persistentEntity);
+        return primaryKeyQuery(primaryKeyExtractor(entityClass).fromId(id));
     }
 
     /**
@@ -114,25 +108,105 @@ public class TarantoolTupleMethodsHelper {
      * @return primary index query {@link Conditions}
      */
     public <ID> Conditions primaryIndexQuery(ID id, TarantoolPersistentEntity<?> persistentEntity) {
-        List<Object> indexParts = new ArrayList<>();
-        if (persistentEntity.hasCompositePrimaryKey()) {
-            TarantoolPersistentEntity<?> idPersistentEntity = tarantoolConverter.getMappingContext().getRequiredPersistentEntity(id.getClass());
-            ConvertingPropertyAccessor<ID> idPropertyAccessor = new ConvertingPropertyAccessor<>(idPersistentEntity.getPropertyAccessor(id), tarantoolConverter.getConversionService());
-            idPersistentEntity.forEach(property -> indexParts.add(idPropertyAccessor.getProperty(property)));
-        } else if (id instanceof MapId) {
-            MapId mapId = (MapId) id;
-            persistentEntity.forEach(property -> {
-                if (property.isPrimaryKeyField()) {
-                    indexParts.add(mapId.get(property.getName()));
-                }
-            });
-        } else {
-            indexParts.add(id);
+        return primaryKeyQuery(primaryKeyExtractor(persistentEntity.getType()).fromId(id));
+    }
+
+    /**
+     * Restrict the number of tuples returned by the query. The limit of given conditions is only lowered,
+     * a smaller limit set by the caller is kept. The given conditions are not changed
+     *
+     * @param query query conditions
+     * @param limit max number of tuples to return
+     * @return new conditions
+     */
+    public static Conditions limited(Conditions query, long limit) {
+        Conditions limited = new Conditions(query);
+        if (query.getLimit() <= 0 || query.getLimit() > limit) {
+            limited.withLimit(limit);
+        }
+        return limited;
+    }
+
+    /**
+     * Create a keyset scroll position pointing after the given tuple. Keys of the position are the tuple fields,
+     * so the scan can be continued on any index
+     *
+     * @param tuple         last tuple of a window
+     * @param spaceMetadata metadata of the tuple space
+     * @return forward keyset scroll position
+     */
+    public ScrollPosition scrollPositionAfter(TarantoolTuple tuple, TarantoolSpaceMetadata spaceMetadata) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (String fieldName : spaceMetadata.getSpaceFormatMetadata().keySet()) {
+            tuple.getObject(fieldName).ifPresent(value -> keys.put(fieldName, value));
         }
-        if (indexParts.isEmpty()) {
-            throw new MappingException(String.format("Can't retrieve id fields for query for entity %s", persistentEntity.getType().getSimpleName()));
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Create the query of a scroll window fetching one tuple more than the window. Offset positions skip the tuples
+     * before them, forward keyset positions continue after their tuple. The box client can't start after a tuple,
+     * so it accepts initial keyset positions only
+     *
+     * @param query         query conditions, they are not changed
+     * @param position      offset or forward keyset scroll position
+     * @param limit         max number of entities in the window
+     * @param keyset        whether the client can continue after a tuple
+     * @param mapper        mapper to create the start tuple
+     * @param spaceMetadata metadata of the queried space
+     * @return copy of the query conditions
+     * @throws InvalidDataAccessApiUsageException for backward positions and non-initial keyset positions of the box client
+     */
+    public static Conditions windowQuery(Conditions query, ScrollPosition position, int limit, boolean keyset,
+                                         MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        Conditions windowQuery = new Conditions(query);
+        if (position instanceof OffsetScrollPosition) {
+            windowQuery.withOffset(query.getOffset() + ((OffsetScrollPosition) position).getOffset());
+        } else if (!position.isInitial()) {
+            if (!(position instanceof KeysetScrollPosition) || ((KeysetScrollPosition) position).scrollsBackward()) {
+                throw new InvalidDataAccessApiUsageException("Only offset and forward keyset scrolling is supported, but got " + position);
+            }
+            if (!keyset) {
+                throw new InvalidDataAccessApiUsageException("The box client scrolls by offset positions only, but got " + position);
+            }
+            TarantoolTuple startTuple = new TarantoolTupleImpl(mapper, spaceMetadata);
+            ((KeysetScrollPosition) position).getKeys().forEach(startTuple::putObject);
+            windowQuery.startAfter(startTuple);
         }
-        return Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, tarantoolConverterAware.mappedTValues(indexParts));
+        return windowQuery.withLimit(limit + 1);
+    }
+
+    /**
+     * Create the positions after each tuple of a scroll window. Windows started by offset, or fetched with the box
+     * client, continue by offset
+     *
+     * @param position      position the window was started from
+     * @param windowTuples  tuples of the window
+     * @param keyset        whether the client can continue after a tuple
+     * @param spaceMetadata metadata of the queried space
+     * @return function of the position after the tuple with the given index
+     */
+    public IntFunction<? extends ScrollPosition> windowPositions(ScrollPosition position, List<TarantoolTuple> windowTuples,
+                                                                 boolean keyset, TarantoolSpaceMetadata spaceMetadata) {
+        if (position instanceof OffsetScrollPosition) {
+            return OffsetScrollPosition.positionFunction(((OffsetScrollPosition) position).getOffset());
+        }
+        if (!keyset) {
+            return OffsetScrollPosition.positionFunction(0);
+        }
+        return i -> scrollPositionAfter(windowTuples.get(i), spaceMetadata);
+    }
+
+    private Conditions primaryKeyQuery(List<Object> indexParts) {
+        if (PrimaryKeyExtractor.requiresConversion(indexParts, tarantoolConverter.getCustomConversions())) {
+            return Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, tarantoolConverterAware.mappedTValues(indexParts));
+        }
+        return Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, indexParts);
+    }
+
+    private PrimaryKeyExtractor primaryKeyExtractor(Class<?> entityClass) {
+        return primaryKeyExtractors.computeIfAbsent(entityClass, type ->
+                new PrimaryKeyExtractor(tarantoolConverter.getMappingContext(), tarantoolConverter.getMappingContext().getRequiredPersistentEntity(type)));
     }
 
     /**
@@ -0,0 +1,81 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Cursor over the results of a query fetched in pages. Every page is continued after the last tuple of the previous
+ * page, so pages are fetched by bounded index scans and only a single page is held in memory. The limit of the query
+ * is respected across pages. The box client does not support start tuples, so there pages are continued by offset
+ * and every page scans the tuples of the previous pages again
+ *
+ * @author Alexander Rublev
+ */
+final class TupleCursor {
+    private final Conditions query;
+    private final int fetchSize;
+    private final boolean keyset;
+    private final long limit;
+    private long fetched;
+    @Nullable
+    private TarantoolTuple last;
+    private boolean exhausted;
+
+    /**
+     * Create new cursor
+     *
+     * @param query     query to fetch, it is copied and not changed by the cursor
+     * @param fetchSize max number of tuples in a page
+     * @param keyset    whether pages are continued after the last tuple, which requires the proxy client
+     */
+    TupleCursor(Conditions query, int fetchSize, boolean keyset) {
+        this.query = new Conditions(query);
+        this.fetchSize = fetchSize;
+        this.keyset = keyset;
+        this.limit = query.getLimit();
+    }
+
+    /**
+     * Whether all pages have been fetched
+     *
+     * @return true if there are no more tuples
+     */
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Get the query of the next page
+     *
+     * @return query conditions
+     */
+    Conditions nextQuery() {
+        long pageSize = limit > 0 ? Math.min(fetchSize, limit - fetched) : fetchSize;
+        Conditions pageQuery = new Conditions(query);
+        if (!keyset) {
+            pageQuery.withOffset(query.getOffset() + fetched);
+        } else if (last != null) {
+            pageQuery.startAfter(last);
+        }
+        return pageQuery.withLimit(pageSize);
+    }
+
+    /**
+     * Register a fetched page
+     *
+     * @param tuples tuples of the page
+     * @return the given tuples
+     */
+    List<TarantoolTuple> onPage(List<TarantoolTuple> tuples) {
+        long pageSize = limit > 0 ? Math.min(fetchSize, limit - fetched) : fetchSize;
+        fetched += tuples.size();
+        if (!tuples.isEmpty()) {
+            last = tuples.get(tuples.size() - 1);
+        }
+        exhausted = tuples.size() < pageSize || (limit > 0 && fetched >= limit);
+        return tuples;
+    }
+}
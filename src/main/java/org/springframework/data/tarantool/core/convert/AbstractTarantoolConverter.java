@@ -1,10 +1,13 @@
 package org.springframework.data.tarantool.core.convert;
 
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.ConverterRegistry;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.Collections;
@@ -20,6 +23,8 @@ public abstract class AbstractTarantoolConverter implements TarantoolConverter,
     private final ConversionService conversionService;
     private CustomConversions conversions = new TarantoolCustomConversions(Collections.emptyList());
     private EntityInstantiators instantiators = new EntityInstantiators();
+    @Nullable
+    private MessagePackMapper messagePackMapper;
 
     protected AbstractTarantoolConverter(ConversionService conversionService) {
         Assert.notNull(conversionService, "ConversionService must not be null");
@@ -35,6 +40,30 @@ public abstract class AbstractTarantoolConverter implements TarantoolConverter,
         return instantiators;
     }
 
+    /**
+     * Set the mapper for decoding MessagePack values which are not mapped to entities, usually the mapper configured
+     * for the Tarantool client. The default complex types mapper of the driver is used if not set
+     *
+     * @param messagePackMapper MessagePack mapper
+     */
+    public void setMessagePackMapper(MessagePackMapper messagePackMapper) {
+        Assert.notNull(messagePackMapper, "MessagePackMapper must not be null");
+        this.messagePackMapper = messagePackMapper;
+    }
+
+    public MessagePackMapper getMessagePackMapper() {
+        return messagePackMapper != null ? messagePackMapper : DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    }
+
+    /**
+     * Check whether a MessagePack mapper was set explicitly
+     *
+     * @return true if {@link #setMessagePackMapper(MessagePackMapper)} was called
+     */
+    public boolean hasMessagePackMapper() {
+        return messagePackMapper != null;
+    }
+
     @Override
     public ConversionService getConversionService() {
         return this.conversionService;
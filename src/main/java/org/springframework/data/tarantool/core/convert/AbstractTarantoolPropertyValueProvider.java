@@ -1,12 +1,17 @@
 package org.springframework.data.tarantool.core.convert;
 
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.mapping.MappingException;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.model.*;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.data.tarantool.core.mapping.EnumType;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
@@ -15,10 +20,12 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Abstract {@link PropertyValueProvider} to read property values from objects from tarantool
@@ -32,17 +39,25 @@ public abstract class AbstractTarantoolPropertyValueProvider implements Property
     protected final EntityInstantiators instantiators;
     protected final CustomConversions conversions;
     protected final ConversionService conversionService;
+    /**
+     * Mapper for decoding simple MessagePack values which are not mapped to entities
+     */
+    protected final MessagePackMapper valueMapper;
 
     public AbstractTarantoolPropertyValueProvider(TarantoolMappingContext mappingContext,
                                                   TypeMapper<Map<String, Object>> mapTypeMapper,
                                                   EntityInstantiators instantiators,
                                                   CustomConversions conversions,
-                                                  ConversionService conversionService) {
+                                                  ConversionService conversionService,
+                                                  MessagePackMapper valueMapper) {
+        Assert.notNull(valueMapper, "MessagePackMapper must not be null");
+
         this.mappingContext = mappingContext;
         this.mapTypeMapper = mapTypeMapper;
         this.instantiators = instantiators;
         this.conversions = conversions;
         this.conversionService = conversionService;
+        this.valueMapper = valueMapper;
     }
 
     @Nullable
@@ -59,6 +74,8 @@ public abstract class AbstractTarantoolPropertyValueProvider implements Property
         boolean canConvertSimpleType = conversions.isSimpleType(targetClass) && conversionService.canConvert(propertyValue.getClass(), targetClass);
         if (hasCustomReadTarget || canConvertSimpleType) {
             return (R) conversionService.convert(propertyValue, targetClass);
+        } else if (PrimitiveArrays.isSupported(targetClass)) {
+            return (R) PrimitiveArrays.fromObject(propertyValue, targetClass);
         } else if (propertyType.isCollectionLike()) {
             return convertCollection(asCollection(propertyValue), propertyType);
         } else if (propertyType.isMap()) {
@@ -67,7 +84,122 @@ public abstract class AbstractTarantoolPropertyValueProvider implements Property
         return (R) convertIfNeeded(propertyValue, propertyType);
     }
 
+    /**
+     * Read the value of the given property. Enum properties, collections and arrays of enum constants are resolved
+     * with the storage type of the property
+     *
+     * @param propertyValue raw property value
+     * @param property      property to read
+     * @param <R>           type of the property value
+     * @return property value
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected <R> R readValue(@Nullable Object propertyValue, TarantoolPersistentProperty property) {
+        Class<?> propertyClass = property.getType();
+        if (propertyValue != null && propertyClass.isEnum() && !conversions.hasCustomReadTarget(propertyValue.getClass(), propertyClass)) {
+            return (R) EnumValues.of(propertyClass).read(propertyValue, property.getEnumType());
+        }
+        if (propertyValue != null && isEnumeratedCollection(property)) {
+            return readEnumCollection(asCollection(propertyValue), property);
+        }
+        return readValue(propertyValue, property.getTypeInformation());
+    }
+
+    /**
+     * Whether the property is a collection or an array of enum constants stored as ordinals or codes
+     *
+     * @param property property to check
+     * @return true if the elements are read with the storage type of the property
+     */
+    protected boolean isEnumeratedCollection(TarantoolPersistentProperty property) {
+        if (property.getEnumType() == EnumType.NAME || !property.isCollectionLike()) {
+            return false;
+        }
+        TypeInformation<?> elementType = property.getTypeInformation().getComponentType();
+        return elementType != null && elementType.getType().isEnum()
+                && conversions.getCustomWriteTarget(elementType.getType()).isEmpty();
+    }
+
     @SuppressWarnings("unchecked")
+    private <R> R readEnumCollection(Collection<?> propertyValue, TarantoolPersistentProperty property) {
+        TypeInformation<?> propertyType = property.getTypeInformation();
+        Class<?> collectionClass = propertyType.getType();
+        Class<?> enumClass = propertyType.getRequiredComponentType().getType();
+        EnumValues enumValues = EnumValues.of(enumClass);
+
+        if (collectionClass.isArray()) {
+            Object[] items = (Object[]) Array.newInstance(enumClass, propertyValue.size());
+            int i = 0;
+            for (Object item : propertyValue) {
+                items[i++] = item == null ? null : enumValues.read(item, property.getEnumType());
+            }
+            return (R) items;
+        }
+
+        Collection<Object> items = CollectionFactory.createCollection(collectionClass, enumClass, propertyValue.size());
+        propertyValue.forEach(item -> items.add(item == null ? null : enumValues.read(item, property.getEnumType())));
+        return (R) items;
+    }
+
+    /**
+     * Read a property value directly from a MessagePack value. Nested entities and collections of them are
+     * decoded without building intermediate maps and lists, other values are decoded by the driver mapper
+     *
+     * @param value        MessagePack value
+     * @param propertyType type of the property
+     * @param <R>          type of the property value
+     * @return property value
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected <R> R readMessagePackValue(@Nullable Value value, TypeInformation<?> propertyType) {
+        Assert.notNull(propertyType, "Target type must not be null");
+
+        if (value == null || value.isNilValue()) {
+            return null;
+        }
+
+        Class<?> targetClass = propertyType.getType();
+        if (isReadFromMessagePackValue(targetClass)) {
+            return readValue(MessagePackValue.of(value), propertyType);
+        } else if (PrimitiveArrays.isSupported(targetClass)) {
+            return (R) PrimitiveArrays.fromValue(value, targetClass);
+        } else if (value.isMapValue() && isEntity(targetClass)) {
+            return convertCustomType(value.asMapValue(), propertyType);
+        } else if (value.isArrayValue() && propertyType.isCollectionLike()) {
+            return convertCollection(value.asArrayValue(), propertyType);
+        } else if (value.isMapValue() && propertyType.isMap()) {
+            return convertMap(value.asMapValue(), propertyType);
+        }
+        return readValue(valueMapper.fromValue(value), propertyType);
+    }
+
+    /**
+     * Whether the values of the given type are converted from raw MessagePack values, like native temporal types
+     *
+     * @param type property type
+     * @return true if the type is written to and read from {@link MessagePackValue} by custom conversions
+     */
+    protected boolean isReadFromMessagePackValue(Class<?> type) {
+        Optional<Class<?>> customTargetClass = conversions.getCustomWriteTarget(type);
+        return customTargetClass.isPresent() && MessagePackValue.class.equals(customTargetClass.get())
+                && conversions.hasCustomReadTarget(MessagePackValue.class, type);
+    }
+
+    /**
+     * Whether the values of the given type are read as nested entities
+     *
+     * @param type property type
+     * @return true if the type is a mapped entity without custom reading conversion
+     */
+    protected boolean isEntity(Class<?> type) {
+        return !conversions.isSimpleType(type)
+                && !Map.class.isAssignableFrom(type)
+                && !conversions.hasCustomReadTarget(Map.class, type)
+                && mappingContext.getPersistentEntity(type) != null;
+    }
+
     protected <R> R convertCustomType(Map<String, Object> propertyValue, TypeInformation<?> propertyType) {
         PropertyValueProvider<TarantoolPersistentProperty> propertyValueProvider = new PropertyValueProvider<>() {
             @Override
@@ -78,14 +210,20 @@ public abstract class AbstractTarantoolPropertyValueProvider implements Property
         };
 
         TypeInformation<?> typeToUse = mapTypeMapper.readType(propertyValue, propertyType);
-        TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(typeToUse);
-        ParameterValueProvider<TarantoolPersistentProperty> parameterValueProvider = new PersistentEntityParameterValueProvider<>(entity, propertyValueProvider, null);
-        Object instance = instantiators.getInstantiatorFor(entity).createInstance(entity, parameterValueProvider);
-        PersistentPropertyAccessor<?> accessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(instance), conversionService);
+        return instantiate(typeToUse, propertyValueProvider);
+    }
+
+    protected <R> R convertCustomType(MapValue propertyValue, TypeInformation<?> propertyType) {
+        TarantoolValuePropertyValueProvider propertyValueProvider = new TarantoolValuePropertyValueProvider(propertyValue,
+                mappingContext, mapTypeMapper, instantiators, conversions, conversionService, valueMapper);
 
-        entity.doWithProperties(new MappingTarantoolPropertyHandler(entity, propertyValueProvider, accessor));
+        TypeInformation<?> typeToUse = mapTypeMapper.readType(propertyValueProvider.getTypeAliasSource(), propertyType);
+        return instantiate(typeToUse, propertyValueProvider);
+    }
 
-        return (R) accessor.getBean();
+    private <R> R instantiate(TypeInformation<?> typeToUse, PropertyValueProvider<TarantoolPersistentProperty> propertyValueProvider) {
+        TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(typeToUse);
+        return TarantoolEntityInstantiator.instantiate(entity, propertyValueProvider, instantiators, conversionService);
     }
 
     private Collection<?> asCollection(Object source) {
@@ -111,6 +249,23 @@ public abstract class AbstractTarantoolPropertyValueProvider implements Property
         return (R) convertIfNeeded(items, propertyType);
     }
 
+    @SuppressWarnings("unchecked")
+    private <R> R convertCollection(ArrayValue propertyValue, TypeInformation<?> propertyType) {
+        Class<?> collectionClass = propertyType.getType();
+        TypeInformation<?> elementType = propertyType.getComponentType();
+        if (elementType == null) {
+            throw new MappingException(String.format("Couldn't get element type for collection of type %s", propertyType.getType().getSimpleName()));
+        }
+
+        int size = propertyValue.size();
+        Collection<Object> items = collectionClass.isArray() ? new ArrayList<>(size) : CollectionFactory.createCollection(collectionClass, elementType.getType(), size);
+        for (int i = 0; i < size; i++) {
+            items.add(readMessagePackValue(propertyValue.get(i), elementType));
+        }
+
+        return (R) convertIfNeeded(items, propertyType);
+    }
+
     @SuppressWarnings("unchecked")
     private <R> R convertMap(Map<String, Object> propertyValue, TypeInformation<?> propertyType) {
         Class<?> mapClass = propertyType.getType();
@@ -127,11 +282,26 @@ public abstract class AbstractTarantoolPropertyValueProvider implements Property
         return (R) convertIfNeeded(converted, propertyType);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
+    private <R> R convertMap(MapValue propertyValue, TypeInformation<?> propertyType) {
+        TypeInformation<?> keyType = propertyType.getComponentType();
+        TypeInformation<?> mapValueType = propertyType.getMapValueType();
+        if (mapValueType == null) {
+            throw new MappingException(String.format("Couldn't get map value type for map of type %s", propertyType.getType().getSimpleName()));
+        }
+
+        Map<Value, Value> entries = propertyValue.map();
+        Map<Object, Object> converted = CollectionFactory.createMap(propertyType.getType(), keyType == null ? null : keyType.getType(), entries.size());
+        entries.forEach((key, value) -> converted.put(valueMapper.fromValue(key), readMessagePackValue(value, mapValueType)));
+
+        return (R) convertIfNeeded(converted, propertyType);
+    }
+
+    @SuppressWarnings("unchecked")
     private Object convertIfNeeded(Object propertyValue, TypeInformation<?> propertyType) {
         Class<?> targetClass = propertyType.getType();
         if (Enum.class.isAssignableFrom(targetClass)) {
-            return Enum.valueOf((Class<Enum>) targetClass, propertyValue.toString());
+            return EnumValues.of(targetClass).read(propertyValue, EnumType.NAME);
         } else if (propertyValue instanceof Map && !propertyType.isMap()) {
             return convertCustomType((Map<String, Object>) propertyValue, propertyType);
         } else {
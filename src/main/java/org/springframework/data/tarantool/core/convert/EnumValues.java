@@ -0,0 +1,188 @@
+package org.springframework.data.tarantool.core.convert;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.tarantool.core.mapping.EnumCode;
+import org.springframework.data.tarantool.core.mapping.EnumType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup tables of an enum type for writing and reading its constants by name, ordinal or code.
+ * Tables are built once per enum type
+ *
+ * @author Tatiana Blinova
+ */
+final class EnumValues {
+
+    private static final int MAX_DENSE_CODE = 1024;
+    private static final Map<Class<?>, EnumValues> CACHE = new ConcurrentReferenceHashMap<>();
+
+    private final Class<?> enumType;
+    private final Enum<?>[] constants;
+    private final Map<String, Enum<?>> byName;
+    @Nullable
+    private final int[] codes;
+    @Nullable
+    private final Enum<?>[] byDenseCode;
+    @Nullable
+    private final Map<Integer, Enum<?>> byCode;
+    @Nullable
+    private final MappingException codesProblem;
+
+    private EnumValues(Class<?> enumType) {
+        this.enumType = enumType;
+        this.constants = (Enum<?>[]) enumType.getEnumConstants();
+        this.byName = new HashMap<>(constants.length * 2);
+        for (Enum<?> constant : constants) {
+            byName.put(constant.name(), constant);
+        }
+
+        int[] constantCodes = null;
+        Map<Integer, Enum<?>> constantsByCode = null;
+        MappingException problem = null;
+        try {
+            constantCodes = resolveCodes(enumType, constants);
+            constantsByCode = constantCodes == null ? null : indexByCode(enumType, constants, constantCodes);
+        } catch (MappingException e) {
+            constantCodes = null;
+            constantsByCode = null;
+            problem = e;
+        }
+        this.codes = constantCodes;
+        this.codesProblem = problem;
+
+        if (constantsByCode != null && isDense(constantsByCode)) {
+            Enum<?>[] dense = new Enum<?>[Collections.max(constantsByCode.keySet()) + 1];
+            constantsByCode.forEach((code, constant) -> dense[code] = constant);
+            this.byDenseCode = dense;
+            this.byCode = null;
+        } else {
+            this.byDenseCode = null;
+            this.byCode = constantsByCode;
+        }
+    }
+
+    /**
+     * Get lookup tables for the given enum type
+     *
+     * @param enumType enum type
+     * @return lookup tables of the enum type
+     */
+    static EnumValues of(Class<?> enumType) {
+        Class<?> type = enumType.isEnum() ? enumType : enumType.getSuperclass();
+        return CACHE.computeIfAbsent(type, EnumValues::new);
+    }
+
+    /**
+     * Get the value to store for the enum constant
+     *
+     * @param constant enum constant
+     * @param type     storage type
+     * @return name, ordinal or code of the constant
+     */
+    Object write(Enum<?> constant, EnumType type) {
+        switch (type) {
+            case ORDINAL:
+                return constant.ordinal();
+            case CODE:
+                return requireCodes()[constant.ordinal()];
+            default:
+                return constant.name();
+        }
+    }
+
+    /**
+     * Get the enum constant for the stored value. Integers are resolved as ordinals or codes depending
+     * on the storage type, strings are always resolved as names
+     *
+     * @param value stored value
+     * @param type  storage type
+     * @return enum constant
+     */
+    Enum<?> read(Object value, EnumType type) {
+        if (value instanceof Number) {
+            int number = ((Number) value).intValue();
+            Enum<?> constant = type == EnumType.CODE ? byCode(number) : byOrdinal(number);
+            if (constant == null) {
+                throw new MappingException(String.format("No constant of enum %s for %s %d",
+                        enumType.getName(), type == EnumType.CODE ? "code" : "ordinal", number));
+            }
+            return constant;
+        }
+
+        String name = value.toString();
+        Enum<?> constant = byName.get(name);
+        if (constant == null) {
+            throw new IllegalArgumentException(String.format("No enum constant %s.%s", enumType.getCanonicalName(), name));
+        }
+        return constant;
+    }
+
+    @Nullable
+    private Enum<?> byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+    }
+
+    @Nullable
+    private Enum<?> byCode(int code) {
+        requireCodes();
+        if (byDenseCode != null) {
+            return code >= 0 && code < byDenseCode.length ? byDenseCode[code] : null;
+        }
+        return byCode != null ? byCode.get(code) : null;
+    }
+
+    private int[] requireCodes() {
+        if (codesProblem != null) {
+            throw codesProblem;
+        }
+        if (codes == null) {
+            throw new MappingException(String.format("Constants of enum %s must be annotated with @EnumCode to be stored as codes", enumType.getName()));
+        }
+        return codes;
+    }
+
+    private static boolean isDense(Map<Integer, Enum<?>> constantsByCode) {
+        return Collections.min(constantsByCode.keySet()) >= 0 && Collections.max(constantsByCode.keySet()) < MAX_DENSE_CODE;
+    }
+
+    private static Map<Integer, Enum<?>> indexByCode(Class<?> enumType, Enum<?>[] constants, int[] codes) {
+        Map<Integer, Enum<?>> constantsByCode = new HashMap<>(constants.length * 2);
+        for (Enum<?> constant : constants) {
+            int code = codes[constant.ordinal()];
+            if (constantsByCode.put(code, constant) != null) {
+                throw new MappingException(String.format("Duplicate code %d in enum %s", code, enumType.getName()));
+            }
+        }
+        return constantsByCode;
+    }
+
+    @Nullable
+    private static int[] resolveCodes(Class<?> enumType, Enum<?>[] constants) {
+        int[] codes = new int[constants.length];
+        int annotated = 0;
+        for (Enum<?> constant : constants) {
+            EnumCode code;
+            try {
+                code = enumType.getField(constant.name()).getAnnotation(EnumCode.class);
+            } catch (NoSuchFieldException e) {
+                throw new MappingException(String.format("Couldn't resolve constant %s of enum %s", constant.name(), enumType.getName()), e);
+            }
+            if (code != null) {
+                codes[constant.ordinal()] = code.value();
+                annotated++;
+            }
+        }
+
+        if (annotated == 0) {
+            return null;
+        } else if (annotated < constants.length) {
+            throw new MappingException(String.format("All constants of enum %s must be annotated with @EnumCode", enumType.getName()));
+        }
+        return codes;
+    }
+}
@@ -6,9 +6,12 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
 import org.springframework.util.Assert;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * A mapping converter for Tarantool.
@@ -26,15 +29,28 @@ public class MappingTarantoolConverter extends AbstractTarantoolConverter {
     }
 
     public MappingTarantoolConverter(TarantoolMappingContext mappingContext) {
+        this(mappingContext, TypeAliasMode.ALWAYS, Collections.emptyMap());
+    }
+
+    /**
+     * Create a new converter with the given type alias settings
+     *
+     * @param mappingContext mapping context
+     * @param typeAliasMode  defines when the type alias stored along with an object is read
+     * @param typeAliases    short type aliases by type, see {@link TarantoolTypeAliasMapper}
+     */
+    public MappingTarantoolConverter(TarantoolMappingContext mappingContext, TypeAliasMode typeAliasMode, Map<? extends Class<?>, ?> typeAliases) {
         super(newConversionService());
 
         Assert.notNull(mappingContext, "TarantoolMappingContext must not be null");
+        Assert.notNull(typeAliasMode, "TypeAliasMode must not be null");
+        Assert.notNull(typeAliases, "Type aliases must not be null");
         this.mappingContext = mappingContext;
 
-        TypeMapper<TarantoolTuple> tupleTypeMapper = new TarantoolTupleTypeMapper();
-        TypeMapper<Map<String, Object>> mapTypeMapper = new TarantoolMapTypeMapper();
+        TypeMapper<TarantoolTuple> tupleTypeMapper = new TarantoolTupleTypeMapper(TarantoolTupleTypeMapper.DEFAULT_TYPE_KEY, mappingContext, typeAliasMode, typeAliases);
+        TypeMapper<Map<String, Object>> mapTypeMapper = new TarantoolMapTypeMapper(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, mappingContext, typeAliasMode, typeAliases);
 
-        this.readConverter = new MappingTarantoolReadConverter(this.mappingContext, tupleTypeMapper, mapTypeMapper, this::getInstantiators, this::getCustomConversions, getConversionService());
+        this.readConverter = new MappingTarantoolReadConverter(this.mappingContext, tupleTypeMapper, mapTypeMapper, this::getInstantiators, this::getCustomConversions, getConversionService(), this::getMessagePackMapper);
         this.writeConverter = new MappingTarantoolWriteConverter(this.mappingContext, tupleTypeMapper, mapTypeMapper, this::getCustomConversions, getConversionService());
     }
 
@@ -48,6 +64,11 @@ public class MappingTarantoolConverter extends AbstractTarantoolConverter {
         return readConverter.read(type, source);
     }
 
+    @Override
+    public <R> Function<Object, R> reader(Class<R> type) {
+        return readConverter.reader(type);
+    }
+
     @Override
     public void write(Object source, Object sink) {
         writeConverter.write(source, sink);
@@ -58,6 +79,11 @@ public class MappingTarantoolConverter extends AbstractTarantoolConverter {
         return writeConverter.convert(source);
     }
 
+    @Override
+    public Object convertToWritableType(Object source, TarantoolPersistentProperty property) {
+        return writeConverter.convert(source, property);
+    }
+
     public static TarantoolConverter newConverter() {
         MappingTarantoolConverter converter = new MappingTarantoolConverter();
         converter.afterPropertiesSet();
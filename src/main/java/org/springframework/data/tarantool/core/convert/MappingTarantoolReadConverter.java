@@ -1,23 +1,29 @@
 package org.springframework.data.tarantool.core.convert;
 
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.mapping.MappingException;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.model.*;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.PropertyValueProvider;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Mapping converter for Tarantool for reading objects from tuples or map
+ * Mapping converter for Tarantool for reading objects from tuples, maps or MessagePack map values
  *
  * @author Tatiana Blinova
  */
@@ -29,6 +35,7 @@ public class MappingTarantoolReadConverter implements TarantoolReadConverter {
     private final Supplier<EntityInstantiators> instantiators;
     private final Supplier<CustomConversions> conversions;
     private final ConversionService conversionService;
+    private final Supplier<MessagePackMapper> messagePackMapper;
 
     public MappingTarantoolReadConverter(TarantoolMappingContext mappingContext,
                                          TypeMapper<TarantoolTuple> tupleTypeMapper,
@@ -36,56 +43,128 @@ public class MappingTarantoolReadConverter implements TarantoolReadConverter {
                                          Supplier<EntityInstantiators> instantiators,
                                          Supplier<CustomConversions> conversions,
                                          ConversionService conversionService) {
+        this(mappingContext, tupleTypeMapper, mapTypeMapper, instantiators, conversions, conversionService,
+                DefaultMessagePackMapperFactory.getInstance()::defaultComplexTypesMapper);
+    }
+
+    /**
+     * Create a new read converter
+     *
+     * @param mappingContext    mapping context
+     * @param tupleTypeMapper   type mapper for tuples
+     * @param mapTypeMapper     type mapper for maps and MessagePack map values
+     * @param instantiators     supplier of entity instantiators
+     * @param conversions       supplier of custom conversions
+     * @param conversionService conversion service
+     * @param messagePackMapper supplier of the mapper for decoding MessagePack values which are not mapped to entities
+     */
+    public MappingTarantoolReadConverter(TarantoolMappingContext mappingContext,
+                                         TypeMapper<TarantoolTuple> tupleTypeMapper,
+                                         TypeMapper<Map<String, Object>> mapTypeMapper,
+                                         Supplier<EntityInstantiators> instantiators,
+                                         Supplier<CustomConversions> conversions,
+                                         ConversionService conversionService,
+                                         Supplier<MessagePackMapper> messagePackMapper) {
         this.mappingContext = mappingContext;
         this.tupleTypeMapper = tupleTypeMapper;
         this.mapTypeMapper = mapTypeMapper;
         this.instantiators = instantiators;
         this.conversions = conversions;
         this.conversionService = conversionService;
+        this.messagePackMapper = messagePackMapper;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <R> R read(Class<R> type, Object source) {
-        Assert.notNull(source, "Source object must not be null");
-
-        TypeInformation<? extends R> typeInformation;
-        PropertyValueProvider<TarantoolPersistentProperty> provider;
-        if (source instanceof TarantoolTuple) {
-            typeInformation = tupleTypeMapper.readType((TarantoolTuple) source, TypeInformation.of(type));
-
-            Class<? extends R> rawType = typeInformation.getType();
-            if (conversions.get().hasCustomReadTarget(TarantoolTuple.class, rawType)) {
-                R result = conversionService.convert(source, rawType);
-                if (result == null) {
-                    throw new MappingException(String.format("Couldn't convert source TarantoolTuple to %s with custom conversions", rawType.getSimpleName()));
-                }
-                return result;
-            } else {
-                provider = new TarantoolTuplePropertyValueProvider((TarantoolTuple) source, mappingContext, mapTypeMapper, instantiators.get(), conversions.get(), conversionService);
-            }
-        } else if (source instanceof Map) {
-            Map<String, Object> map = (Map<String, Object>) source;
-            typeInformation = mapTypeMapper.readType(map, TypeInformation.of(type));
-            provider = new TarantoolMapPropertyValueProvider(map, mappingContext, mapTypeMapper, instantiators.get(), conversions.get(), conversionService);
-        } else {
-            throw new MappingException(String.format("Couldn't read from object of type %s", source.getClass()));
+        return new BatchReader<>(type).apply(source);
+    }
+
+    @Override
+    public <R> Function<Object, R> reader(Class<R> type) {
+        Assert.notNull(type, "Type must not be null");
+        return new BatchReader<>(type);
+    }
+
+    /**
+     * Reader of entities of one type. Instantiators, conversions and the MessagePack mapper are resolved once, property value providers
+     * for tuples and MessagePack map values are created on the first read and reset for every next source.
+     * Instances are not thread-safe
+     *
+     * @param <R> entity type
+     */
+    private class BatchReader<R> implements Function<Object, R> {
+        private final TypeInformation<R> type;
+        private final EntityInstantiators entityInstantiators;
+        private final CustomConversions customConversions;
+        private final MessagePackMapper valueMapper;
+        @Nullable
+        private TarantoolTuplePropertyValueProvider tupleProvider;
+        @Nullable
+        private TarantoolValuePropertyValueProvider valueProvider;
+
+        BatchReader(Class<R> type) {
+            this.type = TypeInformation.of(type);
+            this.entityInstantiators = instantiators.get();
+            this.customConversions = conversions.get();
+            this.valueMapper = messagePackMapper.get();
         }
 
-        TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(typeInformation);
-        ConvertingPropertyAccessor<?> accessor = getConvertingPropertyAccessor(entity, provider);
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(Object source) {
+            Assert.notNull(source, "Source object must not be null");
 
-        entity.doWithProperties(new MappingTarantoolPropertyHandler(entity, provider, accessor));
+            TypeInformation<? extends R> typeInformation;
+            PropertyValueProvider<TarantoolPersistentProperty> provider;
+            if (source instanceof TarantoolTuple) {
+                TarantoolTuple tuple = (TarantoolTuple) source;
+                typeInformation = tupleTypeMapper.readType(tuple, type);
 
-        return (R) accessor.getBean();
-    }
+                Class<? extends R> rawType = typeInformation.getType();
+                if (customConversions.hasCustomReadTarget(TarantoolTuple.class, rawType)) {
+                    R result = conversionService.convert(source, rawType);
+                    if (result == null) {
+                        throw new MappingException(String.format("Couldn't convert source TarantoolTuple to %s with custom conversions", rawType.getSimpleName()));
+                    }
+                    return result;
+                }
+                provider = tupleProvider(tuple);
+            } else if (source instanceof Map) {
+                Map<String, Object> map = (Map<String, Object>) source;
+                typeInformation = mapTypeMapper.readType(map, type);
+                provider = new TarantoolMapPropertyValueProvider(map, mappingContext, mapTypeMapper, entityInstantiators, customConversions, conversionService, valueMapper);
+            } else if (source instanceof Value) {
+                Value value = (Value) source;
+                if (!value.isMapValue()) {
+                    throw new MappingException(String.format("Couldn't read from MessagePack value of type %s", value.getValueType()));
+                }
+                TarantoolValuePropertyValueProvider mapValueProvider = valueProvider(value.asMapValue());
+                typeInformation = mapTypeMapper.readType(mapValueProvider.getTypeAliasSource(), type);
+                provider = mapValueProvider;
+            } else {
+                throw new MappingException(String.format("Couldn't read from object of type %s", source.getClass()));
+            }
+
+            TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(typeInformation);
+            return TarantoolEntityInstantiator.instantiate(entity, provider, entityInstantiators, conversionService);
+        }
 
-    private ConvertingPropertyAccessor<?> getConvertingPropertyAccessor(TarantoolPersistentEntity<?> entity, PropertyValueProvider<TarantoolPersistentProperty> propertyValueProvider) {
-        EntityInstantiator instantiator = instantiators.get().getInstantiatorFor(entity);
-        ParameterValueProvider<TarantoolPersistentProperty> provider = new PersistentEntityParameterValueProvider<>(entity, propertyValueProvider, null);
-        Object instance = instantiator.createInstance(entity, provider);
-        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
+        private TarantoolTuplePropertyValueProvider tupleProvider(TarantoolTuple tuple) {
+            if (tupleProvider == null) {
+                tupleProvider = new TarantoolTuplePropertyValueProvider(tuple, mappingContext, mapTypeMapper, entityInstantiators, customConversions, conversionService, valueMapper);
+            } else {
+                tupleProvider.reset(tuple);
+            }
+            return tupleProvider;
+        }
 
-        return new ConvertingPropertyAccessor<>(accessor, conversionService);
+        private TarantoolValuePropertyValueProvider valueProvider(MapValue mapValue) {
+            if (valueProvider == null) {
+                valueProvider = new TarantoolValuePropertyValueProvider(mapValue, mappingContext, mapTypeMapper, entityInstantiators, customConversions, conversionService, valueMapper);
+            } else {
+                valueProvider.reset(mapValue);
+            }
+            return valueProvider;
+        }
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.tarantool.core.mapping.BasicTarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.EnumType;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
@@ -20,7 +21,6 @@ import org.springframework.util.ObjectUtils;
 
 import java.util.*;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Mapping converter for Tarantool for writing objects to tuples or map
@@ -74,6 +74,21 @@ public class MappingTarantoolWriteConverter implements TarantoolWriteConverter {
         }
     }
 
+    @Override
+    public Object convert(Object source, TarantoolPersistentProperty property) {
+        Assert.notNull(source, "Source object must not be null");
+        Assert.notNull(property, "Property must not be null");
+
+        if (isStoredAsNumber(source, property)) {
+            Enum<?> constant = (Enum<?>) source;
+            return EnumValues.of(constant.getDeclaringClass()).write(constant, property.getEnumType());
+        }
+        if (isEnumeratedCollection(source, property)) {
+            return writeEnumCollection(source, property);
+        }
+        return convert(source);
+    }
+
     private void write(Object source, TarantoolTuple target) {
         Optional<Class<?>> customTarget = conversions.get().getCustomWriteTarget(source.getClass(), target.getClass());
         customTarget.ifPresentOrElse(ct -> {
@@ -83,7 +98,11 @@ public class MappingTarantoolWriteConverter implements TarantoolWriteConverter {
             }
             target.getFields().clear();
             target.getFields().addAll(result.getFields());
-            tupleTypeMapper.writeType(ClassUtils.getUserClass(source.getClass()), target);
+            Class<?> type = ClassUtils.getUserClass(source.getClass());
+            if (!(tupleTypeMapper instanceof TarantoolTupleTypeMapper)
+                    || ((TarantoolTupleTypeMapper) tupleTypeMapper).requiresTypeAlias(type, TypeInformation.of(type))) {
+                tupleTypeMapper.writeType(type, target);
+            }
         }, () -> {
             TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(source.getClass());
             ConvertingPropertyAccessor<?> accessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(source), conversionService);
@@ -113,6 +132,22 @@ public class MappingTarantoolWriteConverter implements TarantoolWriteConverter {
                 return;
             }
 
+            if (property.isPackedArray() && PrimitiveArrays.isSupported(value.getClass())) {
+                convertedProperties.put(property.getFieldName(), MessagePackValue.of(PrimitiveArrays.toBinaryValue(value)));
+                return;
+            }
+
+            if (isStoredAsNumber(value, property)) {
+                Enum<?> constant = (Enum<?>) value;
+                convertedProperties.put(property.getFieldName(), EnumValues.of(constant.getDeclaringClass()).write(constant, property.getEnumType()));
+                return;
+            }
+
+            if (isEnumeratedCollection(value, property)) {
+                convertedProperties.put(property.getFieldName(), writeEnumCollection(value, property));
+                return;
+            }
+
             Object valueToWrite = getValueToWrite(value, property.getTypeInformation());
             if (valueToWrite != null) {
                 convertedProperties.put(property.getFieldName(), valueToWrite);
@@ -122,6 +157,31 @@ public class MappingTarantoolWriteConverter implements TarantoolWriteConverter {
         return convertedProperties;
     }
 
+    private boolean isStoredAsNumber(Object value, TarantoolPersistentProperty property) {
+        return value instanceof Enum
+                && property.getEnumType() != EnumType.NAME
+                && conversions.get().getCustomWriteTarget(value.getClass()).isEmpty();
+    }
+
+    private boolean isEnumeratedCollection(Object value, TarantoolPersistentProperty property) {
+        if (property.getEnumType() == EnumType.NAME || !(value instanceof Collection || value.getClass().isArray())) {
+            return false;
+        }
+        TypeInformation<?> elementType = property.getTypeInformation().getComponentType();
+        return elementType != null && elementType.getType().isEnum()
+                && conversions.get().getCustomWriteTarget(elementType.getType()).isEmpty();
+    }
+
+    private List<Object> writeEnumCollection(Object value, TarantoolPersistentProperty property) {
+        Collection<?> elements = asCollection(value);
+        EnumValues enumValues = EnumValues.of(property.getTypeInformation().getRequiredComponentType().getType());
+        List<Object> result = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            result.add(element == null ? null : enumValues.write((Enum<?>) element, property.getEnumType()));
+        }
+        return result;
+    }
+
     @Nullable
     private Object getValueToWrite(@Nullable Object value, @Nullable TypeInformation<?> type) {
         if (value == null) {
@@ -147,6 +207,10 @@ public class MappingTarantoolWriteConverter implements TarantoolWriteConverter {
     }
 
     private Object getNonSimpleValueToWrite(Object value, TypeInformation<?> type) {
+        if (PrimitiveArrays.isSupported(value.getClass())) {
+            return MessagePackValue.of(PrimitiveArrays.toArrayValue(value));
+        }
+
         TypeInformation<?> valueType = TypeInformation.of(value.getClass());
         if (valueType.isCollectionLike()) {
             return convertCollection(asCollection(value), type);
@@ -188,7 +252,11 @@ public class MappingTarantoolWriteConverter implements TarantoolWriteConverter {
     }
 
     private List<Object> convertCollection(Collection<?> source) {
-        return source.stream().map(this::convertValue).collect(Collectors.toList());
+        List<Object> result = new ArrayList<>(source.size());
+        for (Object element : source) {
+            result.add(convertValue(element));
+        }
+        return result;
     }
 
     private List<Object> convertCollection(final Collection<?> source, final TypeInformation<?> type) {
@@ -196,7 +264,11 @@ public class MappingTarantoolWriteConverter implements TarantoolWriteConverter {
         Assert.notNull(type, "Type must not be null");
 
         TypeInformation<?> componentType = type.getComponentType();
-        return source.stream().map(element -> getValueToWrite(element, componentType)).collect(Collectors.toList());
+        List<Object> result = new ArrayList<>(source.size());
+        for (Object element : source) {
+            result.add(getValueToWrite(element, componentType));
+        }
+        return result;
     }
 
     private Map<String, Object> convertMap(final Map<Object, Object> source, final TypeInformation<?> type) {
@@ -226,7 +298,11 @@ public class MappingTarantoolWriteConverter implements TarantoolWriteConverter {
             if (result == null) {
                 throw new MappingException("Couldn't convert source object to Map with custom conversions");
             }
-            mapTypeMapper.writeType(ClassUtils.getUserClass(source.getClass()), result);
+            Class<?> sourceType = ClassUtils.getUserClass(source.getClass());
+            if (!(mapTypeMapper instanceof TarantoolMapTypeMapper)
+                    || ((TarantoolMapTypeMapper) mapTypeMapper).requiresTypeAlias(sourceType, type)) {
+                mapTypeMapper.writeType(sourceType, result);
+            }
             return result;
         }).orElseGet(() -> {
             TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(source.getClass());
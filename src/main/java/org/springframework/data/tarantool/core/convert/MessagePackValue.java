@@ -0,0 +1,68 @@
+package org.springframework.data.tarantool.core.convert;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.Packable;
+import org.msgpack.value.Value;
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+
+/**
+ * Holder of an already encoded MessagePack {@link Value}. Used as a target type of converters which produce
+ * MessagePack representation of a property directly, so the value is put into a tuple as is without
+ * any additional conversion by the driver mapper, and as a source type of converters which read
+ * a property from a raw tuple field value
+ *
+ * @author Tatiana Blinova
+ */
+public final class MessagePackValue implements Packable {
+
+    private final Value value;
+
+    private MessagePackValue(Value value) {
+        this.value = value;
+    }
+
+    /**
+     * Create a new holder for the given MessagePack value
+     *
+     * @param value MessagePack value, must not be null
+     * @return new instance of {@link MessagePackValue}
+     */
+    public static MessagePackValue of(Value value) {
+        Assert.notNull(value, "Value must not be null");
+        return new MessagePackValue(value);
+    }
+
+    /**
+     * Get the wrapped MessagePack value
+     *
+     * @return MessagePack value
+     */
+    public Value getValue() {
+        return value;
+    }
+
+    @Override
+    public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MessagePackValue that = (MessagePackValue) o;
+        return Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return "MessagePackValue{" + value + '}';
+    }
+}
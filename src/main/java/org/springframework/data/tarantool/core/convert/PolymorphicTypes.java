@@ -0,0 +1,62 @@
+package org.springframework.data.tarantool.core.convert;
+
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Detects types which instances may be stored as objects of different types, so a type alias must be read
+ * to resolve the actual type. Supertypes of the persistent entities are collected into an immutable snapshot,
+ * which is replaced as a whole when new entities are added to the mapping context
+ *
+ * @author Tatiana Blinova
+ */
+final class PolymorphicTypes {
+
+    private final TarantoolMappingContext mappingContext;
+    private volatile Snapshot snapshot = new Snapshot(-1, Set.of());
+
+    PolymorphicTypes(TarantoolMappingContext mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    boolean isPolymorphic(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return true;
+        }
+        return getSnapshot().supertypes.contains(type);
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        long version = mappingContext.getPersistentEntitiesVersion();
+        if (current.version != version) {
+            current = new Snapshot(version, collectSupertypes());
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Set<Class<?>> collectSupertypes() {
+        Set<Class<?>> supertypes = new HashSet<>();
+        for (TarantoolPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            for (Class<?> type = entity.getType().getSuperclass(); type != null && type != Object.class; type = type.getSuperclass()) {
+                supertypes.add(type);
+            }
+        }
+        return Set.copyOf(supertypes);
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final Set<Class<?>> supertypes;
+
+        Snapshot(long version, Set<Class<?>> supertypes) {
+            this.version = version;
+            this.supertypes = supertypes;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.springframework.data.tarantool.core.convert;
+
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.springframework.data.mapping.MappingException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Conversion of numeric primitive arrays to and from MessagePack values without boxing of the elements.
+ * Arrays are stored either as MessagePack arrays or as binary values with little-endian packed elements
+ *
+ * @author Tatiana Blinova
+ */
+final class PrimitiveArrays {
+
+    private PrimitiveArrays() {
+    }
+
+    /**
+     * Whether the given type is a numeric primitive array supported by this class
+     *
+     * @param type type to check
+     * @return true for {@code int[]}, {@code long[]}, {@code float[]} and {@code double[]}
+     */
+    static boolean isSupported(Class<?> type) {
+        return type == int[].class || type == long[].class || type == float[].class || type == double[].class;
+    }
+
+    /**
+     * Convert a numeric primitive array to a MessagePack array. Only boxing is saved, every element is still
+     * a separate {@link Value}, see {@link org.springframework.data.tarantool.core.mapping.PackedArray}
+     *
+     * @param array numeric primitive array
+     * @return MessagePack array of the elements
+     */
+    static Value toArrayValue(Object array) {
+        Value[] values;
+        if (array instanceof int[]) {
+            int[] source = (int[]) array;
+            values = new Value[source.length];
+            for (int i = 0; i < source.length; i++) {
+                values[i] = ValueFactory.newInteger(source[i]);
+            }
+        } else if (array instanceof long[]) {
+            long[] source = (long[]) array;
+            values = new Value[source.length];
+            for (int i = 0; i < source.length; i++) {
+                values[i] = ValueFactory.newInteger(source[i]);
+            }
+        } else if (array instanceof float[]) {
+            float[] source = (float[]) array;
+            values = new Value[source.length];
+            for (int i = 0; i < source.length; i++) {
+                values[i] = ValueFactory.newFloat(source[i]);
+            }
+        } else if (array instanceof double[]) {
+            double[] source = (double[]) array;
+            values = new Value[source.length];
+            for (int i = 0; i < source.length; i++) {
+                values[i] = ValueFactory.newFloat(source[i]);
+            }
+        } else {
+            throw unsupportedType(array.getClass());
+        }
+        return ValueFactory.newArray(values, true);
+    }
+
+    static Value toBinaryValue(Object array) {
+        ByteBuffer buffer;
+        if (array instanceof int[]) {
+            int[] source = (int[]) array;
+            buffer = ByteBuffer.allocate(source.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asIntBuffer().put(source);
+        } else if (array instanceof long[]) {
+            long[] source = (long[]) array;
+            buffer = ByteBuffer.allocate(source.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asLongBuffer().put(source);
+        } else if (array instanceof float[]) {
+            float[] source = (float[]) array;
+            buffer = ByteBuffer.allocate(source.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asFloatBuffer().put(source);
+        } else if (array instanceof double[]) {
+            double[] source = (double[]) array;
+            buffer = ByteBuffer.allocate(source.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asDoubleBuffer().put(source);
+        } else {
+            throw unsupportedType(array.getClass());
+        }
+        return ValueFactory.newBinary(buffer.array(), true);
+    }
+
+    /**
+     * Read an array of the given type from a MessagePack array or binary value
+     *
+     * @param value MessagePack value
+     * @param type  target array type
+     * @return new array
+     */
+    static Object fromValue(Value value, Class<?> type) {
+        if (value.isBinaryValue()) {
+            return fromBytes(value.asBinaryValue().asByteBuffer(), type);
+        }
+        if (!value.isArrayValue()) {
+            throw new MappingException(String.format("Couldn't read %s from MessagePack value of type %s", type.getSimpleName(), value.getValueType()));
+        }
+
+        ArrayValue source = value.asArrayValue();
+        int size = source.size();
+        if (type == int[].class) {
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = source.get(i).asNumberValue().toInt();
+            }
+            return result;
+        } else if (type == long[].class) {
+            long[] result = new long[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = source.get(i).asNumberValue().toLong();
+            }
+            return result;
+        } else if (type == float[].class) {
+            float[] result = new float[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = source.get(i).asNumberValue().toFloat();
+            }
+            return result;
+        } else if (type == double[].class) {
+            double[] result = new double[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = source.get(i).asNumberValue().toDouble();
+            }
+            return result;
+        }
+        throw unsupportedType(type);
+    }
+
+    /**
+     * Read an array of the given type from an object already decoded by the driver:
+     * a collection of numbers or a byte array with packed elements
+     *
+     * @param source decoded object
+     * @param type   target array type
+     * @return new array
+     */
+    static Object fromObject(Object source, Class<?> type) {
+        if (source.getClass() == type) {
+            return source;
+        }
+        if (source instanceof byte[]) {
+            return fromBytes(ByteBuffer.wrap((byte[]) source), type);
+        }
+        if (!(source instanceof Collection)) {
+            throw new MappingException(String.format("Couldn't read %s from object of type %s", type.getSimpleName(), source.getClass()));
+        }
+
+        Collection<?> collection = (Collection<?>) source;
+        Iterator<?> iterator = collection.iterator();
+        int size = collection.size();
+        if (type == int[].class) {
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = ((Number) iterator.next()).intValue();
+            }
+            return result;
+        } else if (type == long[].class) {
+            long[] result = new long[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = ((Number) iterator.next()).longValue();
+            }
+            return result;
+        } else if (type == float[].class) {
+            float[] result = new float[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = ((Number) iterator.next()).floatValue();
+            }
+            return result;
+        } else if (type == double[].class) {
+            double[] result = new double[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = ((Number) iterator.next()).doubleValue();
+            }
+            return result;
+        }
+        throw unsupportedType(type);
+    }
+
+    private static Object fromBytes(ByteBuffer source, Class<?> type) {
+        int elementBytes = elementBytes(type);
+        if (source.remaining() % elementBytes != 0) {
+            throw new MappingException(String.format("Couldn't read %s from %d bytes, the length must be a multiple of %d",
+                    type.getSimpleName(), source.remaining(), elementBytes));
+        }
+
+        ByteBuffer buffer = source.order(ByteOrder.LITTLE_ENDIAN);
+        if (type == int[].class) {
+            int[] result = new int[buffer.remaining() / Integer.BYTES];
+            buffer.asIntBuffer().get(result);
+            return result;
+        } else if (type == long[].class) {
+            long[] result = new long[buffer.remaining() / Long.BYTES];
+            buffer.asLongBuffer().get(result);
+            return result;
+        } else if (type == float[].class) {
+            float[] result = new float[buffer.remaining() / Float.BYTES];
+            buffer.asFloatBuffer().get(result);
+            return result;
+        } else if (type == double[].class) {
+            double[] result = new double[buffer.remaining() / Double.BYTES];
+            buffer.asDoubleBuffer().get(result);
+            return result;
+        }
+        throw unsupportedType(type);
+    }
+
+    private static int elementBytes(Class<?> type) {
+        if (type == int[].class) {
+            return Integer.BYTES;
+        } else if (type == long[].class) {
+            return Long.BYTES;
+        } else if (type == float[].class) {
+            return Float.BYTES;
+        } else if (type == double[].class) {
+            return Double.BYTES;
+        }
+        throw unsupportedType(type);
+    }
+
+    private static MappingException unsupportedType(Class<?> type) {
+        return new MappingException(String.format("Unsupported primitive array type %s", type.getSimpleName()));
+    }
+}
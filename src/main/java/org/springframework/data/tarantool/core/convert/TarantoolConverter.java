@@ -6,6 +6,8 @@ import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
 
+import java.util.function.Function;
+
 /**
  * Basic Tarantool entity-to-tuple converter interface
  *
@@ -31,4 +33,28 @@ public interface TarantoolConverter extends EntityConverter<TarantoolPersistentE
      * @return the result of the conversion
      */
     Object convertToWritableType(Object source);
+
+    /**
+     * Convert the given value of the property into a value Tarantool will be able to store in space,
+     * taking property-level storage settings like {@link org.springframework.data.tarantool.core.mapping.Enumerated} into account
+     *
+     * @param source   {@link Object} to convert; must not be {@literal null}
+     * @param property property the value belongs to; must not be {@literal null}
+     * @return the result of the conversion
+     */
+    default Object convertToWritableType(Object source, TarantoolPersistentProperty property) {
+        return convertToWritableType(source);
+    }
+
+    /**
+     * Create a reader of entities of the given type to convert a batch of tuples or values. The reader reuses
+     * its decoding state between sources, so it must be confined to a single thread
+     *
+     * @param type entity type; must not be {@literal null}
+     * @param <R>  entity type
+     * @return reader function
+     */
+    default <R> Function<Object, R> reader(Class<R> type) {
+        return source -> read(type, source);
+    }
 }
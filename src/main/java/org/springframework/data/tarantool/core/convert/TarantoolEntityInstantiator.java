@@ -0,0 +1,51 @@
+package org.springframework.data.tarantool.core.convert;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+
+/**
+ * Creates entity instances from property values. Records and classes whose constructor takes all
+ * persistent properties are created with a single constructor call, other entities get the remaining
+ * properties set after instantiation
+ *
+ * @author Tatiana Blinova
+ */
+final class TarantoolEntityInstantiator {
+
+    private TarantoolEntityInstantiator() {
+    }
+
+    /**
+     * Create an instance of the entity reading property values from the given provider
+     *
+     * @param entity            persistent entity to create
+     * @param provider          provider of property values
+     * @param instantiators     entity instantiators
+     * @param conversionService conversion service for properties set after instantiation
+     * @param <R>               entity type
+     * @return new entity instance
+     */
+    @SuppressWarnings("unchecked")
+    static <R> R instantiate(TarantoolPersistentEntity<?> entity,
+                             PropertyValueProvider<TarantoolPersistentProperty> provider,
+                             EntityInstantiators instantiators,
+                             ConversionService conversionService) {
+        ParameterValueProvider<TarantoolPersistentProperty> parameterValueProvider = new PersistentEntityParameterValueProvider<>(entity, provider, null);
+        Object instance = instantiators.getInstantiatorFor(entity).createInstance(entity, parameterValueProvider);
+        if (entity.isFullyInitializedByCreator()) {
+            return (R) instance;
+        }
+
+        PersistentPropertyAccessor<?> accessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(instance), conversionService);
+        entity.doWithProperties(new MappingTarantoolPropertyHandler(entity, provider, accessor));
+
+        return (R) accessor.getBean();
+    }
+}
@@ -1,5 +1,6 @@
 package org.springframework.data.tarantool.core.convert;
 
+import io.tarantool.driver.mappers.MessagePackMapper;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.TypeMapper;
@@ -28,8 +29,9 @@ public class TarantoolMapPropertyValueProvider extends AbstractTarantoolProperty
                                              TypeMapper<Map<String, Object>> mapTypeMapper,
                                              EntityInstantiators instantiators,
                                              CustomConversions conversions,
-                                             ConversionService conversionService) {
-        super(mappingContext, mapTypeMapper, instantiators, conversions, conversionService);
+                                             ConversionService conversionService,
+                                             MessagePackMapper valueMapper) {
+        super(mappingContext, mapTypeMapper, instantiators, conversions, conversionService, valueMapper);
 
         Assert.notNull(tarantoolMap, "Map object must not be null");
 
@@ -54,6 +56,6 @@ public class TarantoolMapPropertyValueProvider extends AbstractTarantoolProperty
             propertyValue = tarantoolMap.get(fieldName);
         }
 
-        return readValue(propertyValue, propertyType);
+        return readValue(propertyValue, property);
     }
 }
@@ -22,7 +22,9 @@ public class TarantoolMapTypeAliasAccessor implements TypeAliasAccessor<Map<Stri
 
     @Override
     public Alias readAliasFrom(Map<String, Object> source) {
-        return Alias.ofNullable(source.get(typeKey));
+        Object alias = source.get(typeKey);
+        // short integer aliases may be decoded to any integral type
+        return Alias.ofNullable(alias instanceof Number ? Integer.valueOf(((Number) alias).intValue()) : alias);
     }
 
     @Override
@@ -1,6 +1,9 @@
 package org.springframework.data.tarantool.core.convert;
 
 import org.springframework.data.convert.DefaultTypeMapper;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 
 import java.util.Map;
 
@@ -13,11 +16,63 @@ public class TarantoolMapTypeMapper extends DefaultTypeMapper<Map<String, Object
 
     public static final String DEFAULT_TYPE_KEY = "_class";
 
+    private final String typeKey;
+    @Nullable
+    private final PolymorphicTypes polymorphicTypes;
+
     public TarantoolMapTypeMapper() {
-        super(new TarantoolMapTypeAliasAccessor(DEFAULT_TYPE_KEY));
+        this(DEFAULT_TYPE_KEY);
     }
 
     public TarantoolMapTypeMapper(final String typeKey) {
         super(new TarantoolMapTypeAliasAccessor(typeKey));
+        this.typeKey = typeKey;
+        this.polymorphicTypes = null;
+    }
+
+    /**
+     * Create a type mapper writing registered short aliases or fully qualified class names, in this order of
+     * precedence. {@link org.springframework.data.annotation.TypeAlias} values are resolved on read as well
+     *
+     * @param typeKey        name of the nested object key to store the type alias
+     * @param mappingContext mapping context
+     * @param typeAliasMode  defines when the type alias is read
+     * @param typeAliases    registered type aliases, see {@link TarantoolTypeAliasMapper}
+     */
+    public TarantoolMapTypeMapper(final String typeKey, TarantoolMappingContext mappingContext,
+                                  TypeAliasMode typeAliasMode, Map<? extends Class<?>, ?> typeAliases) {
+        super(new TarantoolMapTypeAliasAccessor(typeKey), TarantoolTypeAliasMapper.typeInformationMappers(mappingContext, typeAliases));
+        this.typeKey = typeKey;
+        this.polymorphicTypes = typeAliasMode == TypeAliasMode.POLYMORPHIC_ONLY ? new PolymorphicTypes(mappingContext) : null;
+    }
+
+    /**
+     * Get the name of the nested object key the type alias is stored in
+     *
+     * @return type key
+     */
+    public String getTypeKey() {
+        return typeKey;
+    }
+
+    /**
+     * Whether the type alias must be written for a value of the given type stored as the declared type. In
+     * {@link TypeAliasMode#POLYMORPHIC_ONLY} mode the alias is skipped for values of the declared type which is
+     * not polymorphic, because they are read as the declared type without the alias
+     *
+     * @param type         actual type of the value
+     * @param declaredType declared type of the value
+     * @return true if the type alias must be written
+     */
+    public boolean requiresTypeAlias(Class<?> type, TypeInformation<?> declaredType) {
+        return polymorphicTypes == null || !type.equals(declaredType.getType()) || polymorphicTypes.isPolymorphic(type);
+    }
+
+    @Override
+    public <T> TypeInformation<? extends T> readType(Map<String, Object> source, TypeInformation<T> basicType) {
+        if (polymorphicTypes != null && !polymorphicTypes.isPolymorphic(basicType.getType())) {
+            return basicType;
+        }
+        return super.readType(source, basicType);
     }
 }
@@ -1,7 +1,17 @@
 package org.springframework.data.tarantool.core.convert;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.msgpack.value.RawValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mapping.MappingException;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -19,6 +29,12 @@ public class TarantoolMessagePackConverters {
         converters.add(ShortToLongConverter.INSTANCE);
         converters.add(ShortToIntegerConverter.INSTANCE);
         converters.add(FloatToDoubleConverter.INSTANCE);
+        converters.add(ByteBufferToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToByteBufferConverter.INSTANCE);
+        converters.add(ByteArrayToByteBufferConverter.INSTANCE);
+        converters.add(ByteBufToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToByteBufConverter.INSTANCE);
+        converters.add(ByteArrayToByteBufConverter.INSTANCE);
         return converters;
     }
 
@@ -69,4 +85,105 @@ public class TarantoolMessagePackConverters {
             return Double.valueOf(source);
         }
     }
+
+    /**
+     * Binary buffer is written as MessagePack binary value. Buffers backed by a whole accessible array
+     * are wrapped without copying, the remaining bytes of other buffers are copied once
+     */
+    @WritingConverter
+    public enum ByteBufferToMessagePackValueConverter implements Converter<ByteBuffer, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(ByteBuffer source) {
+            if (source.hasArray()) {
+                return MessagePackValue.of(ValueFactory.newBinary(source.array(), source.arrayOffset() + source.position(), source.remaining(), true));
+            }
+            byte[] bytes = new byte[source.remaining()];
+            source.duplicate().get(bytes);
+            return MessagePackValue.of(ValueFactory.newBinary(bytes, true));
+        }
+    }
+
+    /**
+     * Binary buffer is read as a read-only view of the decoded MessagePack binary or string value without copying
+     */
+    @ReadingConverter
+    public enum MessagePackValueToByteBufferConverter implements Converter<MessagePackValue, ByteBuffer> {
+
+        INSTANCE;
+
+        @Override
+        public ByteBuffer convert(MessagePackValue source) {
+            return asRawValue(source.getValue()).asByteBuffer();
+        }
+    }
+
+    /**
+     * Binary values returned from functions are decoded by the driver to byte arrays, which are wrapped without copying
+     */
+    @ReadingConverter
+    public enum ByteArrayToByteBufferConverter implements Converter<byte[], ByteBuffer> {
+
+        INSTANCE;
+
+        @Override
+        public ByteBuffer convert(byte[] source) {
+            return ByteBuffer.wrap(source).asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * Netty buffer is written as MessagePack binary value. Buffers backed by a whole accessible array
+     * are wrapped without copying, the readable bytes of other buffers are copied once
+     */
+    @WritingConverter
+    public enum ByteBufToMessagePackValueConverter implements Converter<ByteBuf, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(ByteBuf source) {
+            if (source.hasArray()) {
+                return MessagePackValue.of(ValueFactory.newBinary(source.array(), source.arrayOffset() + source.readerIndex(), source.readableBytes(), true));
+            }
+            return MessagePackValue.of(ValueFactory.newBinary(ByteBufUtil.getBytes(source), true));
+        }
+    }
+
+    /**
+     * Netty buffer is read as a read-only view of the decoded MessagePack binary or string value without copying
+     */
+    @ReadingConverter
+    public enum MessagePackValueToByteBufConverter implements Converter<MessagePackValue, ByteBuf> {
+
+        INSTANCE;
+
+        @Override
+        public ByteBuf convert(MessagePackValue source) {
+            return Unpooled.wrappedBuffer(asRawValue(source.getValue()).asByteBuffer()).asReadOnly();
+        }
+    }
+
+    /**
+     * Binary values returned from functions are decoded by the driver to byte arrays, which are wrapped without copying
+     */
+    @ReadingConverter
+    public enum ByteArrayToByteBufConverter implements Converter<byte[], ByteBuf> {
+
+        INSTANCE;
+
+        @Override
+        public ByteBuf convert(byte[] source) {
+            return Unpooled.wrappedBuffer(source).asReadOnly();
+        }
+    }
+
+    private static RawValue asRawValue(Value value) {
+        if (!value.isRawValue()) {
+            throw new MappingException(String.format("Couldn't read binary data from MessagePack value of type %s", value.getValueType()));
+        }
+        return value.asRawValue();
+    }
 }
@@ -0,0 +1,397 @@
+package org.springframework.data.tarantool.core.convert;
+
+import org.msgpack.value.ExtensionValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mapping.MappingException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tarantool date converters using native MessagePack extensions: {@code datetime} for date and time types
+ * and {@code interval} for {@link Duration} and {@link Period}. Not registered by default, see
+ * {@link org.springframework.data.tarantool.config.TarantoolConfigurationSupport#useNativeTemporalTypes()}.
+ * <p>
+ * Local date and time values are stored as UTC wall-clock time, so no time zone lookup is performed during conversion.
+ * Values stored in the default format (epoch milliseconds and strings) are still readable.
+ *
+ * @author Tatiana Blinova
+ */
+public class TarantoolNativeJsr310Converters {
+
+    static final byte DATETIME_EXTENSION_TYPE = 4;
+    static final byte INTERVAL_EXTENSION_TYPE = 6;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private static final int INTERVAL_YEAR = 0;
+    private static final int INTERVAL_MONTH = 1;
+    private static final int INTERVAL_WEEK = 2;
+    private static final int INTERVAL_DAY = 3;
+    private static final int INTERVAL_HOUR = 4;
+    private static final int INTERVAL_MINUTE = 5;
+    private static final int INTERVAL_SECOND = 6;
+    private static final int INTERVAL_NANOSECOND = 7;
+    private static final int INTERVAL_ADJUST = 8;
+    private static final int INTERVAL_FIELDS = 9;
+
+    public static Collection<Converter<?, ?>> getConvertersToRegister() {
+        List<Converter<?, ?>> converters = new ArrayList<>();
+        converters.add(InstantToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToInstantConverter.INSTANCE);
+        converters.add(LocalDateTimeToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToLocalDateTimeConverter.INSTANCE);
+        converters.add(LocalDateToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToLocalDateConverter.INSTANCE);
+        converters.add(OffsetDateTimeToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToOffsetDateTimeConverter.INSTANCE);
+        converters.add(ZonedDateTimeToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToZonedDateTimeConverter.INSTANCE);
+        converters.add(DurationToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToDurationConverter.INSTANCE);
+        converters.add(PeriodToMessagePackValueConverter.INSTANCE);
+        converters.add(MessagePackValueToPeriodConverter.INSTANCE);
+        return converters;
+    }
+
+    @WritingConverter
+    public enum InstantToMessagePackValueConverter implements Converter<Instant, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(Instant source) {
+            return datetime(source.getEpochSecond(), source.getNano(), 0);
+        }
+    }
+
+    @ReadingConverter
+    public enum MessagePackValueToInstantConverter implements Converter<MessagePackValue, Instant> {
+
+        INSTANCE;
+
+        @Override
+        public Instant convert(MessagePackValue source) {
+            Value value = source.getValue();
+            if (value.isIntegerValue()) {
+                return TarantoolJsr310Converters.NumberToInstantConverter.INSTANCE.convert(value.asIntegerValue().toLong());
+            }
+            ByteBuffer datetime = datetime(value);
+            return Instant.ofEpochSecond(datetime.getLong(0), datetimeNanos(datetime));
+        }
+    }
+
+    @WritingConverter
+    public enum LocalDateTimeToMessagePackValueConverter implements Converter<LocalDateTime, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(LocalDateTime source) {
+            return datetime(source.toEpochSecond(ZoneOffset.UTC), source.getNano(), 0);
+        }
+    }
+
+    @ReadingConverter
+    public enum MessagePackValueToLocalDateTimeConverter implements Converter<MessagePackValue, LocalDateTime> {
+
+        INSTANCE;
+
+        @Override
+        public LocalDateTime convert(MessagePackValue source) {
+            Value value = source.getValue();
+            if (value.isIntegerValue()) {
+                return TarantoolJsr310Converters.NumberToLocalDateTimeConverter.INSTANCE.convert(value.asIntegerValue().toLong());
+            }
+            ByteBuffer datetime = datetime(value);
+            return LocalDateTime.ofEpochSecond(datetime.getLong(0), datetimeNanos(datetime), datetimeOffset(datetime));
+        }
+    }
+
+    @WritingConverter
+    public enum LocalDateToMessagePackValueConverter implements Converter<LocalDate, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(LocalDate source) {
+            return datetime(source.toEpochDay() * SECONDS_PER_DAY, 0, 0);
+        }
+    }
+
+    @ReadingConverter
+    public enum MessagePackValueToLocalDateConverter implements Converter<MessagePackValue, LocalDate> {
+
+        INSTANCE;
+
+        @Override
+        public LocalDate convert(MessagePackValue source) {
+            Value value = source.getValue();
+            if (value.isIntegerValue()) {
+                return TarantoolJsr310Converters.NumberToLocalDateConverter.INSTANCE.convert(value.asIntegerValue().toLong());
+            }
+            ByteBuffer datetime = datetime(value);
+            long localSeconds = datetime.getLong(0) + datetimeOffset(datetime).getTotalSeconds();
+            return LocalDate.ofEpochDay(Math.floorDiv(localSeconds, SECONDS_PER_DAY));
+        }
+    }
+
+    @WritingConverter
+    public enum OffsetDateTimeToMessagePackValueConverter implements Converter<OffsetDateTime, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(OffsetDateTime source) {
+            return datetime(source.toEpochSecond(), source.getNano(), source.getOffset().getTotalSeconds() / 60);
+        }
+    }
+
+    @ReadingConverter
+    public enum MessagePackValueToOffsetDateTimeConverter implements Converter<MessagePackValue, OffsetDateTime> {
+
+        INSTANCE;
+
+        @Override
+        public OffsetDateTime convert(MessagePackValue source) {
+            ByteBuffer datetime = datetime(source.getValue());
+            return OffsetDateTime.ofInstant(Instant.ofEpochSecond(datetime.getLong(0), datetimeNanos(datetime)), datetimeOffset(datetime));
+        }
+    }
+
+    /**
+     * Zoned date and time is stored with its current offset, the region of the zone is not preserved
+     */
+    @WritingConverter
+    public enum ZonedDateTimeToMessagePackValueConverter implements Converter<ZonedDateTime, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(ZonedDateTime source) {
+            return datetime(source.toEpochSecond(), source.getNano(), source.getOffset().getTotalSeconds() / 60);
+        }
+    }
+
+    @ReadingConverter
+    public enum MessagePackValueToZonedDateTimeConverter implements Converter<MessagePackValue, ZonedDateTime> {
+
+        INSTANCE;
+
+        @Override
+        public ZonedDateTime convert(MessagePackValue source) {
+            ByteBuffer datetime = datetime(source.getValue());
+            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(datetime.getLong(0), datetimeNanos(datetime)), datetimeOffset(datetime));
+        }
+    }
+
+    @WritingConverter
+    public enum DurationToMessagePackValueConverter implements Converter<Duration, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(Duration source) {
+            long[] fields = new long[INTERVAL_FIELDS];
+            fields[INTERVAL_SECOND] = source.getSeconds();
+            fields[INTERVAL_NANOSECOND] = source.getNano();
+            return interval(fields);
+        }
+    }
+
+    @ReadingConverter
+    public enum MessagePackValueToDurationConverter implements Converter<MessagePackValue, Duration> {
+
+        INSTANCE;
+
+        @Override
+        public Duration convert(MessagePackValue source) {
+            Value value = source.getValue();
+            if (value.isStringValue()) {
+                return Duration.parse(value.asStringValue().asString());
+            }
+            long[] fields = interval(value);
+            if (fields[INTERVAL_YEAR] != 0 || fields[INTERVAL_MONTH] != 0) {
+                throw new MappingException("Couldn't convert interval with years or months to Duration");
+            }
+            long seconds = Math.addExact(Math.multiplyExact(fields[INTERVAL_WEEK] * 7 + fields[INTERVAL_DAY], SECONDS_PER_DAY),
+                    fields[INTERVAL_HOUR] * 3600 + fields[INTERVAL_MINUTE] * 60 + fields[INTERVAL_SECOND]);
+            return Duration.ofSeconds(seconds, fields[INTERVAL_NANOSECOND]);
+        }
+    }
+
+    @WritingConverter
+    public enum PeriodToMessagePackValueConverter implements Converter<Period, MessagePackValue> {
+
+        INSTANCE;
+
+        @Override
+        public MessagePackValue convert(Period source) {
+            long[] fields = new long[INTERVAL_FIELDS];
+            fields[INTERVAL_YEAR] = source.getYears();
+            fields[INTERVAL_MONTH] = source.getMonths();
+            fields[INTERVAL_DAY] = source.getDays();
+            return interval(fields);
+        }
+    }
+
+    @ReadingConverter
+    public enum MessagePackValueToPeriodConverter implements Converter<MessagePackValue, Period> {
+
+        INSTANCE;
+
+        @Override
+        public Period convert(MessagePackValue source) {
+            Value value = source.getValue();
+            if (value.isStringValue()) {
+                return Period.parse(value.asStringValue().asString());
+            }
+            long[] fields = interval(value);
+            if (fields[INTERVAL_HOUR] != 0 || fields[INTERVAL_MINUTE] != 0 || fields[INTERVAL_SECOND] != 0 || fields[INTERVAL_NANOSECOND] != 0) {
+                throw new MappingException("Couldn't convert interval with time fields to Period");
+            }
+            return Period.of(Math.toIntExact(fields[INTERVAL_YEAR]), Math.toIntExact(fields[INTERVAL_MONTH]),
+                    Math.toIntExact(fields[INTERVAL_WEEK] * 7 + fields[INTERVAL_DAY]));
+        }
+    }
+
+    /**
+     * Datetime extension payload: little-endian 8 bytes of epoch seconds, optionally followed by 4 bytes of
+     * nanoseconds, 2 bytes of time zone offset in minutes and 2 bytes of time zone index
+     */
+    private static MessagePackValue datetime(long seconds, int nanos, int offsetMinutes) {
+        boolean compact = nanos == 0 && offsetMinutes == 0;
+        ByteBuffer buffer = ByteBuffer.allocate(compact ? 8 : 16).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(seconds);
+        if (!compact) {
+            buffer.putInt(nanos);
+            buffer.putShort((short) offsetMinutes);
+            buffer.putShort((short) 0);
+        }
+        return MessagePackValue.of(ValueFactory.newExtension(DATETIME_EXTENSION_TYPE, buffer.array()));
+    }
+
+    private static ByteBuffer datetime(Value value) {
+        byte[] data = extensionData(value, DATETIME_EXTENSION_TYPE);
+        if (data.length != 8 && data.length != 16) {
+            throw new MappingException(String.format("Unexpected size of datetime extension value: %d", data.length));
+        }
+        return ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int datetimeNanos(ByteBuffer datetime) {
+        return datetime.capacity() > 8 ? datetime.getInt(8) : 0;
+    }
+
+    private static ZoneOffset datetimeOffset(ByteBuffer datetime) {
+        return datetime.capacity() > 8 ? ZoneOffset.ofTotalSeconds(datetime.getShort(12) * 60) : ZoneOffset.UTC;
+    }
+
+    /**
+     * Interval extension payload: 1 byte of the number of non-zero fields, followed by pairs of
+     * MessagePack encoded field id and field value
+     */
+    private static MessagePackValue interval(long[] fields) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + INTERVAL_FIELDS * 10);
+        buffer.put((byte) 0);
+        int count = 0;
+        for (int i = 0; i < INTERVAL_FIELDS; i++) {
+            if (fields[i] != 0) {
+                packLong(buffer, i);
+                packLong(buffer, fields[i]);
+                count++;
+            }
+        }
+        buffer.put(0, (byte) count);
+        return MessagePackValue.of(ValueFactory.newExtension(INTERVAL_EXTENSION_TYPE, Arrays.copyOf(buffer.array(), buffer.position())));
+    }
+
+    private static long[] interval(Value value) {
+        ByteBuffer buffer = ByteBuffer.wrap(extensionData(value, INTERVAL_EXTENSION_TYPE));
+        long[] fields = new long[INTERVAL_FIELDS];
+        int count = Byte.toUnsignedInt(buffer.get());
+        for (int i = 0; i < count; i++) {
+            long field = unpackLong(buffer);
+            long fieldValue = unpackLong(buffer);
+            if (field < 0 || field >= INTERVAL_FIELDS) {
+                throw new MappingException(String.format("Unknown interval field: %d", field));
+            }
+            fields[(int) field] = field == INTERVAL_ADJUST ? 0 : fieldValue;
+        }
+        return fields;
+    }
+
+    private static byte[] extensionData(Value value, byte type) {
+        if (!value.isExtensionValue()) {
+            throw new MappingException(String.format("Expected MessagePack extension value but got %s", value.getValueType()));
+        }
+        ExtensionValue extension = value.asExtensionValue();
+        if (extension.getType() != type) {
+            throw new MappingException(String.format("Expected MessagePack extension of type %d but got %d", type, extension.getType()));
+        }
+        return extension.getData();
+    }
+
+    private static void packLong(ByteBuffer buffer, long value) {
+        if (value >= 0) {
+            if (value < 0x80) {
+                buffer.put((byte) value);
+            } else if (value < 0x100) {
+                buffer.put((byte) 0xcc).put((byte) value);
+            } else if (value < 0x10000) {
+                buffer.put((byte) 0xcd).putShort((short) value);
+            } else if (value < 0x100000000L) {
+                buffer.put((byte) 0xce).putInt((int) value);
+            } else {
+                buffer.put((byte) 0xcf).putLong(value);
+            }
+        } else {
+            if (value >= -32) {
+                buffer.put((byte) value);
+            } else if (value >= Byte.MIN_VALUE) {
+                buffer.put((byte) 0xd0).put((byte) value);
+            } else if (value >= Short.MIN_VALUE) {
+                buffer.put((byte) 0xd1).putShort((short) value);
+            } else if (value >= Integer.MIN_VALUE) {
+                buffer.put((byte) 0xd2).putInt((int) value);
+            } else {
+                buffer.put((byte) 0xd3).putLong(value);
+            }
+        }
+    }
+
+    private static long unpackLong(ByteBuffer buffer) {
+        byte format = buffer.get();
+        if (format >= -32) {
+            return format;
+        }
+        switch (format & 0xff) {
+            case 0xcc:
+                return Byte.toUnsignedLong(buffer.get());
+            case 0xcd:
+                return Short.toUnsignedLong(buffer.getShort());
+            case 0xce:
+                return Integer.toUnsignedLong(buffer.getInt());
+            case 0xcf:
+            case 0xd3:
+                return buffer.getLong();
+            case 0xd0:
+                return buffer.get();
+            case 0xd1:
+                return buffer.getShort();
+            case 0xd2:
+                return buffer.getInt();
+            default:
+                throw new MappingException(String.format("Unexpected MessagePack integer format: 0x%02x", format & 0xff));
+        }
+    }
+}
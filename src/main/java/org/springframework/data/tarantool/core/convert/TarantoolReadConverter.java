@@ -2,5 +2,17 @@ package org.springframework.data.tarantool.core.convert;
 
 import org.springframework.data.convert.EntityReader;
 
+import java.util.function.Function;
+
 public interface TarantoolReadConverter extends EntityReader<Object, Object> {
+
+    /**
+     * Create a reader of entities of the given type to convert a batch of sources. The reader reuses its
+     * decoding state between sources, so it must be confined to a single thread
+     *
+     * @param type entity type
+     * @param <R>  entity type
+     * @return reader function
+     */
+    <R> Function<Object, R> reader(Class<R> type);
 }
@@ -1,6 +1,9 @@
 package org.springframework.data.tarantool.core.convert;
 
+import io.tarantool.driver.api.tuple.TarantoolField;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.msgpack.value.Value;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.TypeMapper;
@@ -24,21 +27,33 @@ import java.util.Optional;
  */
 public class TarantoolTuplePropertyValueProvider extends AbstractTarantoolPropertyValueProvider {
 
-    private final TarantoolTuple tarantoolTuple;
+    private TarantoolTuple tarantoolTuple;
 
     public TarantoolTuplePropertyValueProvider(TarantoolTuple tarantoolTuple,
                                                TarantoolMappingContext mappingContext,
                                                TypeMapper<Map<String, Object>> mapTypeMapper,
                                                EntityInstantiators instantiators,
                                                CustomConversions conversions,
-                                               ConversionService conversionService) {
-        super(mappingContext, mapTypeMapper, instantiators, conversions, conversionService);
+                                               ConversionService conversionService,
+                                               MessagePackMapper valueMapper) {
+        super(mappingContext, mapTypeMapper, instantiators, conversions, conversionService, valueMapper);
 
         Assert.notNull(tarantoolTuple, "Tuple object must not be null");
 
         this.tarantoolTuple = tarantoolTuple;
     }
 
+    /**
+     * Switch the provider to read property values from another tuple
+     *
+     * @param tarantoolTuple tuple to read
+     */
+    void reset(TarantoolTuple tarantoolTuple) {
+        Assert.notNull(tarantoolTuple, "Tuple object must not be null");
+
+        this.tarantoolTuple = tarantoolTuple;
+    }
+
     @Override
     @Nullable
     @SuppressWarnings("unchecked")
@@ -54,7 +69,10 @@ public class TarantoolTuplePropertyValueProvider extends AbstractTarantoolProper
             });
         } else {
             String fieldName = property.getFieldName();
-            if (propertyType.isCollectionLike()) {
+            if (PrimitiveArrays.isSupported(propertyType.getType())) {
+                Value value = getFieldValue(fieldName);
+                return value != null ? (R) PrimitiveArrays.fromValue(value, propertyType.getType()) : null;
+            } else if (propertyType.isCollectionLike()) {
                 if (propertyType.getType().equals(byte[].class)) {
                     if (tarantoolTuple.canGetObject(fieldName, byte[].class)) {
                         propertyValue = tarantoolTuple.getByteArray(fieldName);
@@ -64,25 +82,53 @@ public class TarantoolTuplePropertyValueProvider extends AbstractTarantoolProper
                         propertyValue = tarantoolTuple.getObject(fieldName).orElse(null);
                     }
                 } else {
+                    TypeInformation<?> elementType = propertyType.getComponentType();
+                    if (elementType != null && (isEntity(elementType.getType()) || isReadFromMessagePackValue(elementType.getType()))) {
+                        return readMessagePackValue(getFieldValue(fieldName), propertyType);
+                    }
                     propertyValue = tarantoolTuple.getList(fieldName);
                 }
             } else if (propertyType.isMap()) {
+                TypeInformation<?> mapValueType = propertyType.getMapValueType();
+                if (mapValueType != null && isReadFromMessagePackValue(mapValueType.getType())) {
+                    return readMessagePackValue(getFieldValue(fieldName), propertyType);
+                }
                 propertyValue = tarantoolTuple.getMap(fieldName);
             } else {
                 Class<?> propertyClass = propertyType.getType();
                 Optional<Class<?>> customTargetClass = conversions.getCustomWriteTarget(propertyClass);
                 boolean canUseCustomTargetClass = customTargetClass.isPresent() && conversions.hasCustomReadTarget(customTargetClass.get(), propertyClass);
 
-                if (canUseCustomTargetClass && tarantoolTuple.canGetObject(fieldName, customTargetClass.get())) {
+                if (canUseCustomTargetClass && MessagePackValue.class.equals(customTargetClass.get())) {
+                    Value value = getFieldValue(fieldName);
+                    propertyValue = value != null ? MessagePackValue.of(value) : null;
+                } else if (canUseCustomTargetClass && tarantoolTuple.canGetObject(fieldName, customTargetClass.get())) {
                     propertyValue = tarantoolTuple.getObject(fieldName, customTargetClass.get()).orElse(null);
-                } else if (tarantoolTuple.canGetObject(fieldName, Map.class)) {
-                    Map<String, Object> map = (Map<String, Object>) tarantoolTuple.getMap(fieldName);
-                    propertyValue = map != null ? convertCustomType(map, propertyType) : null;
                 } else {
+                    Value value = getFieldValue(fieldName);
+                    if (value != null && value.isMapValue()) {
+                        return readMessagePackValue(value, propertyType);
+                    }
                     propertyValue = tarantoolTuple.getObject(fieldName).orElse(null);
                 }
             }
         }
-        return readValue(propertyValue, propertyType);
+        return readValue(propertyValue, property);
+    }
+
+    /**
+     * Get the MessagePack value of the tuple field as it was decoded, without mapping it to a Java object
+     *
+     * @param fieldName name of the field
+     * @return field value or null if the field is absent or has a nil value
+     */
+    @Nullable
+    private Value getFieldValue(String fieldName) {
+        Optional<TarantoolField> field = tarantoolTuple.getField(fieldName);
+        if (field.isEmpty()) {
+            return null;
+        }
+        Value value = field.get().toMessagePackValue(valueMapper);
+        return value.isNilValue() ? null : value;
     }
 }
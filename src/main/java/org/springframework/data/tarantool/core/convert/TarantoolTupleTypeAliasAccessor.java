@@ -21,7 +21,9 @@ public class TarantoolTupleTypeAliasAccessor implements TypeAliasAccessor<Tarant
 
     @Override
     public Alias readAliasFrom(TarantoolTuple source) {
-        return Alias.ofNullable(source.getObject(typeKey, String.class).orElse(null));
+        Object alias = source.getObject(typeKey).orElse(null);
+        // short integer aliases may be decoded to any integral type
+        return Alias.ofNullable(alias instanceof Number ? Integer.valueOf(((Number) alias).intValue()) : alias);
     }
 
     @Override
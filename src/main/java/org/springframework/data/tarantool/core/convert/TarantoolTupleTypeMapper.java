@@ -2,6 +2,11 @@ package org.springframework.data.tarantool.core.convert;
 
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import org.springframework.data.convert.DefaultTypeMapper;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
 
 /**
  * Tarantool tuple value type mapper based on the special "class" field value
@@ -12,11 +17,52 @@ public class TarantoolTupleTypeMapper extends DefaultTypeMapper<TarantoolTuple>
 
     public static final String DEFAULT_TYPE_KEY = "_class";
 
+    @Nullable
+    private final PolymorphicTypes polymorphicTypes;
+
     public TarantoolTupleTypeMapper() {
         super(new TarantoolTupleTypeAliasAccessor(DEFAULT_TYPE_KEY));
+        this.polymorphicTypes = null;
     }
 
     public TarantoolTupleTypeMapper(final String typeKey) {
         super(new TarantoolTupleTypeAliasAccessor(typeKey));
+        this.polymorphicTypes = null;
+    }
+
+    /**
+     * Create a type mapper writing registered short aliases or fully qualified class names, in this order of
+     * precedence. {@link org.springframework.data.annotation.TypeAlias} values are resolved on read as well
+     *
+     * @param typeKey        name of the field to store the type alias
+     * @param mappingContext mapping context
+     * @param typeAliasMode  defines when the type alias is read
+     * @param typeAliases    registered type aliases, see {@link TarantoolTypeAliasMapper}
+     */
+    public TarantoolTupleTypeMapper(final String typeKey, TarantoolMappingContext mappingContext,
+                                    TypeAliasMode typeAliasMode, Map<? extends Class<?>, ?> typeAliases) {
+        super(new TarantoolTupleTypeAliasAccessor(typeKey), TarantoolTypeAliasMapper.typeInformationMappers(mappingContext, typeAliases));
+        this.polymorphicTypes = typeAliasMode == TypeAliasMode.POLYMORPHIC_ONLY ? new PolymorphicTypes(mappingContext) : null;
+    }
+
+    /**
+     * Whether the type alias must be written for a value of the given type stored as the declared type. In
+     * {@link TypeAliasMode#POLYMORPHIC_ONLY} mode the alias is skipped for values of the declared type which is
+     * not polymorphic, because they are read as the declared type without the alias
+     *
+     * @param type         actual type of the value
+     * @param declaredType declared type of the value
+     * @return true if the type alias must be written
+     */
+    public boolean requiresTypeAlias(Class<?> type, TypeInformation<?> declaredType) {
+        return polymorphicTypes == null || !type.equals(declaredType.getType()) || polymorphicTypes.isPolymorphic(type);
+    }
+
+    @Override
+    public <T> TypeInformation<? extends T> readType(TarantoolTuple source, TypeInformation<T> basicType) {
+        if (polymorphicTypes != null && !polymorphicTypes.isPolymorphic(basicType.getType())) {
+            return basicType;
+        }
+        return super.readType(source, basicType);
     }
 }
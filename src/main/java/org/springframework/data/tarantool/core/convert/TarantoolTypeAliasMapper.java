@@ -0,0 +1,87 @@
+package org.springframework.data.tarantool.core.convert;
+
+import org.springframework.data.convert.MappingContextTypeInformationMapper;
+import org.springframework.data.convert.SimpleTypeInformationMapper;
+import org.springframework.data.convert.TypeInformationMapper;
+import org.springframework.data.mapping.Alias;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TypeInformationMapper} using explicitly registered short type aliases, like small integers or strings,
+ * instead of fully qualified class names. Alias-to-type table is computed once at creation
+ *
+ * @author Tatiana Blinova
+ */
+public class TarantoolTypeAliasMapper implements TypeInformationMapper {
+
+    private final Map<Class<?>, Alias> typeToAlias;
+    private final Map<Object, TypeInformation<?>> aliasToType;
+
+    /**
+     * Create a new mapper for the given aliases
+     *
+     * @param typeAliases type aliases by type, each alias must be either {@link String} or {@link Integer}
+     */
+    public TarantoolTypeAliasMapper(Map<? extends Class<?>, ?> typeAliases) {
+        Assert.notNull(typeAliases, "Type aliases must not be null");
+
+        this.typeToAlias = new HashMap<>(typeAliases.size());
+        this.aliasToType = new HashMap<>(typeAliases.size());
+        typeAliases.forEach((type, alias) -> {
+            if (!(alias instanceof String || alias instanceof Integer)) {
+                throw new MappingException(String.format("Type alias for %s must be a String or an Integer", type.getName()));
+            }
+            if (aliasToType.put(alias, TypeInformation.of(type)) != null) {
+                throw new MappingException(String.format("Duplicate type alias %s for %s", alias, type.getName()));
+            }
+            typeToAlias.put(type, Alias.of(alias));
+        });
+    }
+
+    @Nullable
+    @Override
+    public TypeInformation<?> resolveTypeFrom(Alias alias) {
+        Object value = alias.getValue();
+        return value == null ? null : aliasToType.get(value);
+    }
+
+    @Override
+    public Alias createAliasFor(TypeInformation<?> type) {
+        return typeToAlias.getOrDefault(type.getType(), Alias.NONE);
+    }
+
+    /**
+     * Create the mappers of the type mappers of the converter. Registered aliases are written if present,
+     * otherwise fully qualified class names are written as before. {@link org.springframework.data.annotation.TypeAlias}
+     * values are only resolved on read
+     *
+     * @param mappingContext mapping context
+     * @param typeAliases    registered type aliases
+     * @return type information mappers in the order of precedence
+     */
+    static List<TypeInformationMapper> typeInformationMappers(TarantoolMappingContext mappingContext,
+                                                              Map<? extends Class<?>, ?> typeAliases) {
+        MappingContextTypeInformationMapper annotatedAliases = new MappingContextTypeInformationMapper(mappingContext);
+        TypeInformationMapper annotatedAliasReader = new TypeInformationMapper() {
+            @Nullable
+            @Override
+            public TypeInformation<?> resolveTypeFrom(Alias alias) {
+                return annotatedAliases.resolveTypeFrom(alias);
+            }
+
+            @Override
+            public Alias createAliasFor(TypeInformation<?> type) {
+                return Alias.NONE;
+            }
+        };
+        return List.of(new TarantoolTypeAliasMapper(typeAliases), annotatedAliasReader, new SimpleTypeInformationMapper());
+    }
+}
@@ -0,0 +1,110 @@
+package org.springframework.data.tarantool.core.convert;
+
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.convert.TypeMapper;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link PropertyValueProvider} to read property values directly from a MessagePack map value
+ *
+ * @author Tatiana Blinova
+ */
+public class TarantoolValuePropertyValueProvider extends AbstractTarantoolPropertyValueProvider {
+
+    private Value[] keyValues;
+
+    public TarantoolValuePropertyValueProvider(MapValue mapValue,
+                                               TarantoolMappingContext mappingContext,
+                                               TypeMapper<Map<String, Object>> mapTypeMapper,
+                                               EntityInstantiators instantiators,
+                                               CustomConversions conversions,
+                                               ConversionService conversionService,
+                                               MessagePackMapper valueMapper) {
+        super(mappingContext, mapTypeMapper, instantiators, conversions, conversionService, valueMapper);
+
+        Assert.notNull(mapValue, "Map value must not be null");
+
+        this.keyValues = mapValue.getKeyValueArray();
+    }
+
+    /**
+     * Switch the provider to read property values from another map value
+     *
+     * @param mapValue map value to read
+     */
+    void reset(MapValue mapValue) {
+        Assert.notNull(mapValue, "Map value must not be null");
+
+        this.keyValues = mapValue.getKeyValueArray();
+    }
+
+    @Override
+    @Nullable
+    public <R> R getPropertyValue(TarantoolPersistentProperty property) {
+        if (property.isCompositePrimaryKey()) {
+            Map<String, Object> propertyValue = new HashMap<>();
+            mappingContext.getRequiredPersistentEntity(property.getType()).forEach(idProperty -> {
+                String fieldName = idProperty.getFieldName();
+                Value value = getValue(fieldName);
+                propertyValue.put(fieldName, value == null || value.isNilValue() ? null : valueMapper.fromValue(value));
+            });
+            return readValue(propertyValue, property.getTypeInformation());
+        }
+
+        Value value = getValue(property.getFieldName());
+        if ((property.getType().isEnum() && conversions.getCustomWriteTarget(property.getType()).isEmpty())
+                || isEnumeratedCollection(property)) {
+            return readValue(value == null || value.isNilValue() ? null : valueMapper.fromValue(value), property);
+        }
+        return readMessagePackValue(value, property.getTypeInformation());
+    }
+
+    /**
+     * Get a map containing only the type alias of the object, if present, for resolving the type to read.
+     * The whole map value is decoded if the type key of the configured type mapper is unknown
+     *
+     * @return map with the type alias or an empty map
+     */
+    Map<String, Object> getTypeAliasSource() {
+        if (!(mapTypeMapper instanceof TarantoolMapTypeMapper)) {
+            Map<String, Object> source = new HashMap<>();
+            for (int i = 0; i < keyValues.length; i += 2) {
+                if (keyValues[i].isStringValue() && !keyValues[i + 1].isNilValue()) {
+                    source.put(keyValues[i].asStringValue().asString(), valueMapper.fromValue(keyValues[i + 1]));
+                }
+            }
+            return source;
+        }
+
+        String typeKey = ((TarantoolMapTypeMapper) mapTypeMapper).getTypeKey();
+        Value alias = getValue(typeKey);
+        if (alias == null || alias.isNilValue()) {
+            return Collections.emptyMap();
+        }
+        return Collections.singletonMap(typeKey, valueMapper.fromValue(alias));
+    }
+
+    @Nullable
+    private Value getValue(String key) {
+        for (int i = 0; i < keyValues.length; i += 2) {
+            Value keyValue = keyValues[i];
+            if (keyValue.isStringValue() && key.equals(keyValue.asStringValue().asString())) {
+                return keyValues[i + 1];
+            }
+        }
+        return null;
+    }
+}
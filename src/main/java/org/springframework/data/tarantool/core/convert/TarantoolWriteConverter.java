@@ -1,8 +1,18 @@
 package org.springframework.data.tarantool.core.convert;
 
 import org.springframework.data.convert.EntityWriter;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
 
 public interface TarantoolWriteConverter extends EntityWriter<Object, Object> {
 
     Object convert(Object source);
+
+    /**
+     * Convert the value of the given property, taking property-level storage settings into account
+     *
+     * @param source   value to convert
+     * @param property property the value belongs to
+     * @return the result of the conversion
+     */
+    Object convert(Object source, TarantoolPersistentProperty property);
 }
@@ -0,0 +1,21 @@
+package org.springframework.data.tarantool.core.convert;
+
+/**
+ * Defines when the type alias stored along with an object is used for resolving the type to read
+ *
+ * @author Tatiana Blinova
+ */
+public enum TypeAliasMode {
+
+    /**
+     * Type alias is read for every tuple and nested object
+     */
+    ALWAYS,
+
+    /**
+     * Type alias is read only for interfaces, abstract classes and types having persistent subtypes known to the
+     * mapping context. Objects of other types are read as the requested type without looking up the type alias,
+     * so the mapping context should be populated with the initial entity set in this mode
+     */
+    POLYMORPHIC_ONLY
+}
@@ -7,6 +7,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.TargetAwareIdentifierAccessor;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.support.IsNewStrategy;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -18,6 +19,8 @@ import org.springframework.util.StringUtils;
  */
 public class BasicTarantoolPersistentEntity<T> extends BasicPersistentEntity<T, TarantoolPersistentProperty> implements TarantoolPersistentEntity<T> {
 
+    private final Lazy<Boolean> fullyInitializedByCreator = Lazy.of(this::resolveFullyInitializedByCreator);
+
     public BasicTarantoolPersistentEntity(TypeInformation<T> information) {
         super(information);
     }
@@ -48,6 +51,23 @@ public class BasicTarantoolPersistentEntity<T> extends BasicPersistentEntity<T,
         return hasIdProperty() && getRequiredIdProperty().isCompositePrimaryKey();
     }
 
+    @Override
+    public boolean isFullyInitializedByCreator() {
+        return fullyInitializedByCreator.get();
+    }
+
+    private boolean resolveFullyInitializedByCreator() {
+        if (getInstanceCreatorMetadata() == null) {
+            return false;
+        }
+        for (TarantoolPersistentProperty property : this) {
+            if (!isCreatorArgument(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAssociation(Association<TarantoolPersistentProperty> association) {
         throw new UnsupportedTarantoolOperationException("Tarantool does not support associations");
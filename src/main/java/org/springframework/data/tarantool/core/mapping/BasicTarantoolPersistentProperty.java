@@ -6,6 +6,7 @@ import org.springframework.data.mapping.model.AnnotationBasedPersistentProperty;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.util.Lazy;
 import org.springframework.util.StringUtils;
 
 /**
@@ -16,6 +17,7 @@ import org.springframework.util.StringUtils;
 public class BasicTarantoolPersistentProperty extends AnnotationBasedPersistentProperty<TarantoolPersistentProperty> implements TarantoolPersistentProperty {
 
     private final FieldNamingStrategy fieldNamingStrategy;
+    private final Lazy<EnumType> enumType;
 
     /**
      * Creates a new {@link BasicTarantoolPersistentProperty}.
@@ -28,6 +30,10 @@ public class BasicTarantoolPersistentProperty extends AnnotationBasedPersistentP
     public BasicTarantoolPersistentProperty(Property property, TarantoolPersistentEntity<?> owner, SimpleTypeHolder simpleTypeHolder, FieldNamingStrategy fieldNamingStrategy) {
         super(property, owner, simpleTypeHolder);
         this.fieldNamingStrategy = fieldNamingStrategy;
+        this.enumType = Lazy.of(() -> {
+            Enumerated enumerated = findAnnotation(Enumerated.class);
+            return enumerated == null ? EnumType.NAME : enumerated.value();
+        });
     }
 
     @Override
@@ -74,4 +80,14 @@ public class BasicTarantoolPersistentProperty extends AnnotationBasedPersistentP
     public boolean isPrimaryKeyField() {
         return isAnnotationPresent(PrimaryKeyField.class);
     }
+
+    @Override
+    public boolean isPackedArray() {
+        return isAnnotationPresent(PackedArray.class);
+    }
+
+    @Override
+    public EnumType getEnumType() {
+        return enumType.get();
+    }
 }
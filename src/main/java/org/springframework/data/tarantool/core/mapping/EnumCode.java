@@ -0,0 +1,21 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares the code of an enum constant stored for properties annotated with {@code @Enumerated(EnumType.CODE)}.
+ * If any constant of an enum declares a code, all constants must declare unique codes
+ *
+ * @author Tatiana Blinova
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface EnumCode {
+
+    /**
+     * The code of the enum constant
+     *
+     * @return code value
+     */
+    int value();
+}
@@ -0,0 +1,25 @@
+package org.springframework.data.tarantool.core.mapping;
+
+/**
+ * Defines how values of an enum property are stored in Tarantool
+ *
+ * @author Tatiana Blinova
+ * @see Enumerated
+ */
+public enum EnumType {
+
+    /**
+     * Store the name of the enum constant as a string, the default
+     */
+    NAME,
+
+    /**
+     * Store the ordinal of the enum constant as an integer
+     */
+    ORDINAL,
+
+    /**
+     * Store the code declared with {@link EnumCode} on the enum constant as an integer
+     */
+    CODE
+}
@@ -0,0 +1,23 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import java.lang.annotation.*;
+
+/**
+ * Defines how values of an enum property are stored. Ordinals and codes are written as MessagePack integers,
+ * so small values take a single byte instead of the whole constant name. Reading accepts both integers
+ * and names, so stored data can be migrated from one storage type to another
+ *
+ * @author Tatiana Blinova
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+public @interface Enumerated {
+
+    /**
+     * The storage type of the enum property
+     *
+     * @return {@link EnumType#NAME} by default
+     */
+    EnumType value() default EnumType.NAME;
+}
@@ -0,0 +1,301 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Base class of the id interface implementations generated by {@link MapIdFactory}. Every property of the id
+ * interface is stored in a field of the generated class, so its getters and setters are plain field accesses.
+ * Keys which are not properties of the interface are kept in a separate map. Equality and hash code are those
+ * of a {@link Map}, so generated ids are interchangeable with {@link BasicMapId}.
+ *
+ * @author Tatiana Blinova
+ */
+public abstract class GeneratedMapId extends AbstractMap<String, Object> implements MapId, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long present;
+
+    @Nullable
+    private Map<String, Object> others;
+
+    protected GeneratedMapId() {
+    }
+
+    /**
+     * Get the property names of the id interface in the order of the property fields
+     *
+     * @return property names, must not be modified
+     */
+    protected abstract String[] propertyNames();
+
+    /**
+     * Get the value of the property field
+     *
+     * @param index property index
+     * @return field value
+     */
+    @Nullable
+    protected abstract Object getField(int index);
+
+    /**
+     * Set the value of the property field without marking the property as present
+     *
+     * @param index property index
+     * @param value field value
+     */
+    protected abstract void setField(int index, @Nullable Object value);
+
+    /**
+     * Mark the property as present, called by the generated setters
+     *
+     * @param index property index
+     */
+    protected final void present(int index) {
+        present |= 1L << index;
+    }
+
+    private boolean isPresent(int index) {
+        return (present & (1L << index)) != 0;
+    }
+
+    private int indexOf(@Nullable Object name) {
+        String[] names = propertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public MapId with(String name, @Nullable Object value) {
+        put(name, value);
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(present) + (others == null ? 0 : others.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        int index = indexOf(name);
+        if (index >= 0) {
+            return isPresent(index);
+        }
+        return others != null && others.containsKey(name);
+    }
+
+    @Override
+    @Nullable
+    public Object get(Object name) {
+        int index = indexOf(name);
+        if (index >= 0) {
+            return getField(index);
+        }
+        return others == null ? null : others.get(name);
+    }
+
+    @Override
+    @Nullable
+    public Object put(String name, @Nullable Object value) {
+        int index = indexOf(name);
+        if (index < 0) {
+            if (others == null) {
+                others = new HashMap<>();
+            }
+            return others.put(name, value);
+        }
+        Object previous = getField(index);
+        setField(index, value);
+        present(index);
+        return previous;
+    }
+
+    @Override
+    @Nullable
+    public Object remove(Object name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return others == null ? null : others.remove(name);
+        }
+        Object previous = getField(index);
+        removeProperty(index);
+        return previous;
+    }
+
+    private void removeProperty(int index) {
+        setField(index, null);
+        present &= ~(1L << index);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < propertyNames().length; i++) {
+            setField(i, null);
+        }
+        present = 0;
+        others = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder("{ ");
+
+        boolean first = true;
+        for (Entry<String, Object> entry : entrySet()) {
+            if (first) {
+                first = false;
+            } else {
+                s.append(", ");
+            }
+            s.append(entry.getKey()).append(" : ").append(entry.getValue());
+        }
+
+        return s.append(" }").toString();
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return GeneratedMapId.this.size();
+        }
+
+        @Override
+        public void clear() {
+            GeneratedMapId.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private final Iterator<Entry<String, Object>> othersIterator =
+                others == null ? null : others.entrySet().iterator();
+        private int next = nextProperty(0);
+        private int last = -1;
+        private boolean lastIsOther;
+
+        private int nextProperty(int from) {
+            int count = propertyNames().length;
+            for (int i = from; i < count; i++) {
+                if (isPresent(i)) {
+                    return i;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < propertyNames().length || (othersIterator != null && othersIterator.hasNext());
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (next < propertyNames().length) {
+                last = next;
+                lastIsOther = false;
+                next = nextProperty(next + 1);
+                return new PropertyEntry(last);
+            }
+            if (othersIterator == null) {
+                throw new NoSuchElementException();
+            }
+            lastIsOther = true;
+            return othersIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastIsOther) {
+                othersIterator.remove();
+                lastIsOther = false;
+                last = -1;
+                return;
+            }
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeProperty(last);
+            last = -1;
+        }
+    }
+
+    private class PropertyEntry implements Entry<String, Object> {
+
+        private final int index;
+
+        PropertyEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return propertyNames()[index];
+        }
+
+        @Override
+        @Nullable
+        public Object getValue() {
+            return getField(index);
+        }
+
+        @Override
+        @Nullable
+        public Object setValue(@Nullable Object value) {
+            Object previous = getField(index);
+            setField(index, value);
+            present(index);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            if (!(that instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) that;
+            return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates implementations of id interfaces which keep every property in a field, see {@link GeneratedMapId}.
+ * A class is defined in the package and the class loader of its id interface with the ASM library of Spring core.
+ * Interfaces which can't be implemented this way yield no class, {@link MapIdFactory} falls back to JDK proxies
+ * for them.
+ *
+ * @author Tatiana Blinova
+ */
+final class MapIdClassGenerator {
+
+    private static final String BASE_CLASS = Type.getInternalName(GeneratedMapId.class);
+    private static final String OBJECT_DESCRIPTOR = Type.getDescriptor(Object.class);
+    private static final String PROPERTY_NAMES = "PROPERTY_NAMES";
+    private static final String PROPERTY_NAMES_DESCRIPTOR = Type.getDescriptor(String[].class);
+    private static final String CLASS_NAME_SUFFIX = "$$MapId$$";
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private MapIdClassGenerator() {
+    }
+
+    /**
+     * Generate and define an implementation of the id interface
+     *
+     * @param idInterface id interface
+     * @param interfaces  all interfaces of the id, see {@link MapIdFactory#getProxyInterfaces(Class)}
+     * @return implementation class or {@literal null} if the interface can't be implemented with fields
+     */
+    @Nullable
+    static Class<? extends GeneratedMapId> generate(Class<?> idInterface, Class<?>[] interfaces) {
+        Map<String, Integer> properties = new LinkedHashMap<>();
+        List<Accessor> accessors = resolveAccessors(idInterface, interfaces, properties);
+        if (accessors == null || properties.size() > Long.SIZE) {
+            return null;
+        }
+
+        String className = idInterface.getName() + CLASS_NAME_SUFFIX + COUNTER.incrementAndGet();
+        byte[] bytes = generate(className.replace('.', '/'), interfaces, properties, accessors);
+        try {
+            return MethodHandles.privateLookupIn(idInterface, MethodHandles.lookup())
+                    .defineClass(bytes)
+                    .asSubclass(GeneratedMapId.class);
+        } catch (IllegalAccessException | LinkageError | SecurityException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static List<Accessor> resolveAccessors(Class<?> idInterface, Class<?>[] interfaces,
+                                                   Map<String, Integer> properties) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        List<Accessor> accessors = new ArrayList<>();
+        for (Class<?> type : interfaces) {
+            for (Method method : type.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                Method implemented = ReflectionUtils.findMethod(GeneratedMapId.class, method.getName(), method.getParameterTypes());
+                if (implemented != null) {
+                    if (!Modifier.isPublic(implemented.getModifiers()) || !implemented.getReturnType().equals(method.getReturnType())) {
+                        return null;
+                    }
+                    continue;
+                }
+
+                String descriptor = Type.getMethodDescriptor(method);
+                String signature = method.getName() + descriptor.substring(0, descriptor.indexOf(')') + 1);
+                Method known = methods.putIfAbsent(signature, method);
+                if (known != null) {
+                    if (!known.getReturnType().equals(method.getReturnType())) {
+                        return null;
+                    }
+                    continue;
+                }
+
+                String property = propertyName(idInterface, method);
+                if (property == null) {
+                    return null;
+                }
+                Integer index = properties.computeIfAbsent(property, p -> properties.size());
+                accessors.add(new Accessor(method, index));
+            }
+        }
+        return accessors;
+    }
+
+    @Nullable
+    private static String propertyName(Class<?> idInterface, Method method) {
+        String name = method.getName();
+        Class<?> returnType = method.getReturnType();
+        if (method.getParameterCount() == 0) {
+            if (void.class.equals(returnType)) {
+                return null;
+            }
+            if (name.startsWith("get")) {
+                return name.length() == 3 ? null : StringUtils.uncapitalize(name.substring(3));
+            }
+            return name;
+        }
+        if (method.getParameterCount() > 1
+                || !(void.class.equals(returnType) || returnType.isAssignableFrom(idInterface)
+                || returnType.isAssignableFrom(GeneratedMapId.class))) {
+            return null;
+        }
+        int prefixLength = name.startsWith("set") ? 3 : name.startsWith("with") ? 4 : 0;
+        if (prefixLength > 0) {
+            return name.length() == prefixLength ? null : StringUtils.uncapitalize(name.substring(prefixLength));
+        }
+        return name;
+    }
+
+    private static byte[] generate(String className, Class<?>[] interfaces, Map<String, Integer> properties,
+                                   List<Accessor> accessors) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                return Type.getInternalName(Object.class);
+            }
+        };
+        List<String> interfaceNames = new ArrayList<>();
+        for (Class<?> type : interfaces) {
+            if (!MapId.class.equals(type)) {
+                interfaceNames.add(Type.getInternalName(type));
+            }
+        }
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+                className, null, BASE_CLASS, interfaceNames.toArray(new String[0]));
+
+        writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, PROPERTY_NAMES,
+                PROPERTY_NAMES_DESCRIPTOR, null, null).visitEnd();
+        for (int i = 0; i < properties.size(); i++) {
+            writer.visitField(Opcodes.ACC_PRIVATE, field(i), OBJECT_DESCRIPTOR, null, null).visitEnd();
+        }
+
+        generatePropertyNames(writer, className, properties);
+        generateConstructor(writer);
+        generateGetField(writer, className, properties.size());
+        generateSetField(writer, className, properties.size());
+        for (Accessor accessor : accessors) {
+            if (accessor.method.getParameterCount() == 0) {
+                generateGetter(writer, className, accessor);
+            } else {
+                generateSetter(writer, className, accessor);
+            }
+        }
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void generatePropertyNames(ClassWriter writer, String className, Map<String, Integer> properties) {
+        MethodVisitor clinit = writer.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        clinit.visitCode();
+        push(clinit, properties.size());
+        clinit.visitTypeInsn(Opcodes.ANEWARRAY, Type.getInternalName(String.class));
+        for (Map.Entry<String, Integer> property : properties.entrySet()) {
+            clinit.visitInsn(Opcodes.DUP);
+            push(clinit, property.getValue());
+            clinit.visitLdcInsn(property.getKey());
+            clinit.visitInsn(Opcodes.AASTORE);
+        }
+        clinit.visitFieldInsn(Opcodes.PUTSTATIC, className, PROPERTY_NAMES, PROPERTY_NAMES_DESCRIPTOR);
+        clinit.visitInsn(Opcodes.RETURN);
+        clinit.visitMaxs(0, 0);
+        clinit.visitEnd();
+
+        MethodVisitor names = writer.visitMethod(Opcodes.ACC_PROTECTED, "propertyNames",
+                "()" + PROPERTY_NAMES_DESCRIPTOR, null, null);
+        names.visitCode();
+        names.visitFieldInsn(Opcodes.GETSTATIC, className, PROPERTY_NAMES, PROPERTY_NAMES_DESCRIPTOR);
+        names.visitInsn(Opcodes.ARETURN);
+        names.visitMaxs(0, 0);
+        names.visitEnd();
+    }
+
+    private static void generateConstructor(ClassWriter writer) {
+        MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, BASE_CLASS, "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+    }
+
+    private static void generateGetField(ClassWriter writer, String className, int count) {
+        MethodVisitor getField = writer.visitMethod(Opcodes.ACC_PROTECTED, "getField",
+                "(I)" + OBJECT_DESCRIPTOR, null, null);
+        getField.visitCode();
+        Label[] cases = switchOnIndex(getField, count);
+        for (int i = 0; i < count; i++) {
+            getField.visitLabel(cases[i]);
+            getField.visitVarInsn(Opcodes.ALOAD, 0);
+            getField.visitFieldInsn(Opcodes.GETFIELD, className, field(i), OBJECT_DESCRIPTOR);
+            getField.visitInsn(Opcodes.ARETURN);
+        }
+        getField.visitLabel(cases[count]);
+        getField.visitInsn(Opcodes.ACONST_NULL);
+        getField.visitInsn(Opcodes.ARETURN);
+        getField.visitMaxs(0, 0);
+        getField.visitEnd();
+    }
+
+    private static void generateSetField(ClassWriter writer, String className, int count) {
+        MethodVisitor setField = writer.visitMethod(Opcodes.ACC_PROTECTED, "setField",
+                "(I" + OBJECT_DESCRIPTOR + ")V", null, null);
+        setField.visitCode();
+        Label[] cases = switchOnIndex(setField, count);
+        for (int i = 0; i < count; i++) {
+            setField.visitLabel(cases[i]);
+            setField.visitVarInsn(Opcodes.ALOAD, 0);
+            setField.visitVarInsn(Opcodes.ALOAD, 2);
+            setField.visitFieldInsn(Opcodes.PUTFIELD, className, field(i), OBJECT_DESCRIPTOR);
+            setField.visitInsn(Opcodes.RETURN);
+        }
+        setField.visitLabel(cases[count]);
+        setField.visitInsn(Opcodes.RETURN);
+        setField.visitMaxs(0, 0);
+        setField.visitEnd();
+    }
+
+    /**
+     * Emit a switch on the index argument
+     *
+     * @return labels of the cases followed by the label of the default case
+     */
+    private static Label[] switchOnIndex(MethodVisitor method, int count) {
+        Label[] labels = new Label[count + 1];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = new Label();
+        }
+        if (count > 0) {
+            Label[] cases = new Label[count];
+            System.arraycopy(labels, 0, cases, 0, count);
+            method.visitVarInsn(Opcodes.ILOAD, 1);
+            method.visitTableSwitchInsn(0, count - 1, labels[count], cases);
+        }
+        return labels;
+    }
+
+    private static void generateGetter(ClassWriter writer, String className, Accessor accessor) {
+        Method method = accessor.method;
+        MethodVisitor getter = writer.visitMethod(Opcodes.ACC_PUBLIC, method.getName(),
+                Type.getMethodDescriptor(method), null, null);
+        getter.visitCode();
+        getter.visitVarInsn(Opcodes.ALOAD, 0);
+        getter.visitFieldInsn(Opcodes.GETFIELD, className, field(accessor.index), OBJECT_DESCRIPTOR);
+
+        Class<?> returnType = method.getReturnType();
+        if (returnType.isPrimitive()) {
+            Class<?> wrapper = ClassUtils.resolvePrimitiveIfNecessary(returnType);
+            getter.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(wrapper));
+            getter.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(wrapper), returnType.getName() + "Value",
+                    "()" + Type.getDescriptor(returnType), false);
+        } else if (!Object.class.equals(returnType)) {
+            getter.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(returnType));
+        }
+        getter.visitInsn(Type.getType(returnType).getOpcode(Opcodes.IRETURN));
+        getter.visitMaxs(0, 0);
+        getter.visitEnd();
+    }
+
+    private static void generateSetter(ClassWriter writer, String className, Accessor accessor) {
+        Method method = accessor.method;
+        MethodVisitor setter = writer.visitMethod(Opcodes.ACC_PUBLIC, method.getName(),
+                Type.getMethodDescriptor(method), null, null);
+        setter.visitCode();
+        setter.visitVarInsn(Opcodes.ALOAD, 0);
+        push(setter, accessor.index);
+        setter.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_CLASS, "present", "(I)V", false);
+
+        setter.visitVarInsn(Opcodes.ALOAD, 0);
+        Class<?> parameterType = method.getParameterTypes()[0];
+        setter.visitVarInsn(Type.getType(parameterType).getOpcode(Opcodes.ILOAD), 1);
+        if (parameterType.isPrimitive()) {
+            Class<?> wrapper = ClassUtils.resolvePrimitiveIfNecessary(parameterType);
+            setter.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(wrapper), "valueOf",
+                    "(" + Type.getDescriptor(parameterType) + ")" + Type.getDescriptor(wrapper), false);
+        }
+        setter.visitFieldInsn(Opcodes.PUTFIELD, className, field(accessor.index), OBJECT_DESCRIPTOR);
+
+        if (void.class.equals(method.getReturnType())) {
+            setter.visitInsn(Opcodes.RETURN);
+        } else {
+            setter.visitVarInsn(Opcodes.ALOAD, 0);
+            setter.visitInsn(Opcodes.ARETURN);
+        }
+        setter.visitMaxs(0, 0);
+        setter.visitEnd();
+    }
+
+    private static void push(MethodVisitor method, int value) {
+        if (value <= 5) {
+            method.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            method.visitIntInsn(Opcodes.BIPUSH, value);
+        } else {
+            method.visitIntInsn(Opcodes.SIPUSH, value);
+        }
+    }
+
+    private static String field(int index) {
+        return "property" + index;
+    }
+
+    /**
+     * Getter or setter of an id interface property
+     */
+    private static final class Accessor {
+        private final Method method;
+        private final int index;
+
+        Accessor(Method method, int index) {
+            this.method = method;
+            this.index = index;
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package org.springframework.data.tarantool.core.mapping;
 
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.NativeDetector;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Factory class for producing implementations of given id interfaces. For restrictions on id interfaces definitions,
- * see {@link IdInterfaceValidator#validate(Class)}.
+ * see {@link IdInterfaceValidator#validate(Class)}. Ids are instances of classes generated once per interface which
+ * keep the properties in fields, see {@link GeneratedMapId}. JDK proxies delegating to {@link BasicMapId} are used
+ * in native images and for interfaces which can't be implemented by a generated class.
  *
  * @author Tatiana Blinova
  */
 @SuppressWarnings("unchecked")
 public class MapIdFactory {
 
+    private static final Map<Class<?>, Class<?>[]> PROXY_INTERFACES = new ConcurrentReferenceHashMap<>();
+
+    private static final Map<Class<?>, Supplier<Object>> ID_FACTORIES = new ConcurrentReferenceHashMap<>();
+
     /**
      * Produces an implementation of the given id interface type using the type's class loader. For restrictions on id
      * interfaces definitions, see {@link IdInterfaceValidator#validate(Class)}. Returns an implementation of the given
@@ -48,14 +60,47 @@ public class MapIdFactory {
             return (T) new BasicMapId();
         }
 
-        IdInterfaceValidator.validate(idInterface);
+        Class<?>[] proxyInterfaces = getProxyInterfaces(idInterface);
+        if (loader == idInterface.getClassLoader()) {
+            return (T) ID_FACTORIES.computeIfAbsent(idInterface, type -> idFactory(type, proxyInterfaces)).get();
+        }
+        return (T) Proxy.newProxyInstance(loader, proxyInterfaces, new MapIdProxyDelegate(idInterface));
+    }
+
+    private static Supplier<Object> idFactory(Class<?> idInterface, Class<?>[] proxyInterfaces) {
+        if (!NativeDetector.inNativeImage()) {
+            Class<? extends GeneratedMapId> idClass = MapIdClassGenerator.generate(idInterface, proxyInterfaces);
+            if (idClass != null) {
+                Constructor<? extends GeneratedMapId> constructor = ClassUtils.getConstructorIfAvailable(idClass);
+                Assert.state(constructor != null, () -> "No default constructor of " + idClass);
+                return () -> BeanUtils.instantiateClass(constructor);
+            }
+        }
+        ClassLoader loader = idInterface.getClassLoader();
+        return () -> Proxy.newProxyInstance(loader, proxyInterfaces, new MapIdProxyDelegate(idInterface));
+    }
+
+    /**
+     * Get interfaces implemented by the ids of the given id interface. The interfaces are validated
+     * and resolved once per id interface, {@link MapId} always comes first, so the order is stable
+     * and the same proxy class is reused for all ids of the interface.
+     *
+     * @param idInterface The type of the id interface.
+     * @return interfaces to implement
+     * @see IdInterfaceValidator#validate(Class)
+     * @see MapIdProxyHints
+     */
+    static Class<?>[] getProxyInterfaces(Class<?> idInterface) {
+        return PROXY_INTERFACES.computeIfAbsent(idInterface, type -> {
+            IdInterfaceValidator.validate(type);
 
-        Class<?>[] idInterfaces = ClassUtils.getAllInterfacesForClass(idInterface);
-        Set<Class<?>> proxyInterfaces = new HashSet<>(idInterfaces.length + 1, 1);
+            Class<?>[] idInterfaces = ClassUtils.getAllInterfacesForClass(type);
+            Set<Class<?>> proxyInterfaces = new LinkedHashSet<>(idInterfaces.length + 1, 1);
 
-        proxyInterfaces.add(MapId.class);
-        proxyInterfaces.addAll(Arrays.asList(idInterfaces));
+            proxyInterfaces.add(MapId.class);
+            proxyInterfaces.addAll(Arrays.asList(idInterfaces));
 
-        return (T) Proxy.newProxyInstance(loader, proxyInterfaces.toArray(new Class[proxyInterfaces.size()]), new MapIdProxyDelegate(idInterface));
+            return proxyInterfaces.toArray(new Class<?>[0]);
+        });
     }
 }
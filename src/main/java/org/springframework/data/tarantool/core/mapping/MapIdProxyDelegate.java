@@ -1,73 +1,97 @@
 package org.springframework.data.tarantool.core.mapping;
 
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Delegate class for dynamic proxies of id interfaces; delegates to {@link BasicMapId}.
+ * Methods of an id interface are resolved to {@link MapId} calls, getters and setters once per interface,
+ * so an invocation is a single lookup of the precomputed {@link Invocation}.
  *
  * @author Tatiana Blinova
  */
 class MapIdProxyDelegate implements InvocationHandler {
 
-    private static final Map<Signature, Signature> MAP_ID_SIGNATURES;
+    private static final Map<Signature, Method> MAP_ID_SIGNATURES;
+
+    private static final Map<Class<?>, Map<Method, Invocation>> INVOCATIONS = new ConcurrentReferenceHashMap<>();
 
     static {
         Method[] mapIdMethods = MapId.class.getMethods();
-        MAP_ID_SIGNATURES = Arrays.stream(mapIdMethods).map(m -> new Signature(m, true))
-                .collect(Collectors.toMap(o -> o, o -> o));
+        MAP_ID_SIGNATURES = Arrays.stream(mapIdMethods)
+                .collect(Collectors.toMap(m -> new Signature(m, true), Function.identity(), (m1, m2) -> m1));
     }
 
     private final MapId delegate = new BasicMapId();
-    private final Class<?> idInterface;
+    private final Map<Method, Invocation> invocations;
 
     MapIdProxyDelegate(Class<?> idInterface) {
-        this.idInterface = idInterface;
+        this.invocations = INVOCATIONS.computeIfAbsent(idInterface, MapIdProxyDelegate::resolveInvocations);
     }
 
     @Nullable
     @Override
     public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
-        if (isMapIdMethod(method)) {
+        Invocation invocation = invocations.get(method);
+        if (invocation == null) {
             return method.invoke(delegate, args);
         }
+        return invocation.invoke(proxy, delegate, args);
+    }
 
-        if (args != null && args.length > 1) {
-            throw new IllegalArgumentException(String.format("Method [%s] on interface [%s] must take zero or one argument", method, idInterface));
+    private static Map<Method, Invocation> resolveInvocations(Class<?> idInterface) {
+        Map<Method, Invocation> invocations = new HashMap<>();
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(idInterface)) {
+            for (Method method : type.getMethods()) {
+                invocations.computeIfAbsent(method, m -> resolveInvocation(idInterface, m));
+            }
         }
-        boolean isSetter = args != null && args.length == 1;
-
-        if (isSetter) {
-            invokeSetter(method, args[0]);
-            return void.class.equals(method.getReturnType()) ? null : proxy;
+        for (Method method : MapId.class.getMethods()) {
+            invocations.computeIfAbsent(method, m -> resolveInvocation(idInterface, m));
         }
-
-        return invokeGetter(method);
+        return invocations;
     }
 
-    private boolean isMapIdMethod(Method method) {
-        return MAP_ID_SIGNATURES.containsKey(new Signature(method, true));
+    private static Invocation resolveInvocation(Class<?> idInterface, Method method) {
+        Method mapIdMethod = MAP_ID_SIGNATURES.get(new Signature(method, true));
+        if (mapIdMethod != null) {
+            return (proxy, delegate, args) -> mapIdMethod.invoke(delegate, args);
+        }
+
+        int parameterCount = method.getParameterCount();
+        if (parameterCount > 1) {
+            return failing(String.format("Method [%s] on interface [%s] must take zero or one argument", method, idInterface));
+        }
+        if (parameterCount == 1) {
+            return resolveSetter(idInterface, method);
+        }
+        return resolveGetter(idInterface, method);
     }
 
-    private Object invokeGetter(Method method) {
+    private static Invocation resolveGetter(Class<?> idInterface, Method method) {
         String name = method.getName();
         if (name.startsWith("get")) {
             if (name.length() == 3) {
-                throw new IllegalArgumentException(String.format("Method [%s] on interface [%s] must be of form "
+                return failing(String.format("Method [%s] on interface [%s] must be of form "
                         + "'<PropertyType> get<PropertyName>()' or " + "'<PropertyType> <propertyName>()'", name, idInterface));
             }
             name = StringUtils.uncapitalize(name.substring(3));
         }
-        return delegate.get(name);
+        String propertyName = name;
+        return (proxy, delegate, args) -> delegate.get(propertyName);
     }
 
-    private void invokeSetter(Method method, @Nullable Object value) {
+    private static Invocation resolveSetter(Class<?> idInterface, Method method) {
         String name = method.getName();
         int minLength = 1;
         boolean isSet = name.startsWith("set");
@@ -76,7 +100,7 @@ class MapIdProxyDelegate implements InvocationHandler {
         int length = name.length();
         if (isSet || isWith) {
             if (length < minLength) {
-                throw new IllegalArgumentException(String.format("Method [%s] on interface [%s] must be of form "
+                return failing(String.format("Method [%s] on interface [%s] must be of form "
                         + "'<IdType|void> set<PropertyName>(<PropertyType>)', "
                         + "'<IdType|void> with<PropertyName>(<PropertyType>)' or "
                         + "'<IdType|void> <propertyName>(<PropertyType>)'", name, idInterface));
@@ -84,12 +108,27 @@ class MapIdProxyDelegate implements InvocationHandler {
             name = StringUtils.uncapitalize(name.substring(minLength - 1));
         }
 
-        if (value == null) {
-            delegate.put(name, null);
-            return;
-        }
+        String propertyName = name;
+        boolean returnsVoid = void.class.equals(method.getReturnType());
+        return (proxy, delegate, args) -> {
+            delegate.put(propertyName, args[0]);
+            return returnsVoid ? null : proxy;
+        };
+    }
+
+    private static Invocation failing(String message) {
+        return (proxy, delegate, args) -> {
+            throw new IllegalArgumentException(message);
+        };
+    }
 
-        delegate.put(name, value);
+    /**
+     * Resolved call of an id interface method
+     */
+    @FunctionalInterface
+    private interface Invocation {
+        @Nullable
+        Object invoke(Object proxy, MapId delegate, @Nullable Object[] args) throws Throwable;
     }
 
     static class Signature {
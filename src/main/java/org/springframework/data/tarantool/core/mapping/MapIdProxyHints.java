@@ -0,0 +1,42 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.util.Assert;
+
+/**
+ * Registers JDK proxy hints for id interfaces. Classes can't be generated in native images,
+ * so {@link MapIdFactory} implements id interfaces with JDK proxies there, which must be known ahead of time.
+ *
+ * @author Alexander Rublev
+ */
+public final class MapIdProxyHints {
+
+    private MapIdProxyHints() {
+    }
+
+    /**
+     * Register the JDK proxy implementing the given id interface. Types which are not valid id interfaces are ignored
+     *
+     * @param hints  runtime hints to register with
+     * @param idType id type, for example the id type of a repository
+     * @return true if the type is an id interface and its proxy was registered
+     * @see IdInterfaceValidator#validate(Class)
+     */
+    public static boolean registerIdInterface(RuntimeHints hints, Class<?> idType) {
+        Assert.notNull(hints, "RuntimeHints must not be null");
+        Assert.notNull(idType, "Id type must not be null");
+
+        if (!idType.isInterface() || MapId.class.equals(idType) || idType.getName().startsWith("java.")) {
+            return false;
+        }
+        Class<?>[] proxyInterfaces;
+        try {
+            proxyInterfaces = MapIdFactory.getProxyInterfaces(idType);
+        } catch (MappingException e) {
+            return false;
+        }
+        hints.proxies().registerJdkProxy(proxyInterfaces);
+        return true;
+    }
+}
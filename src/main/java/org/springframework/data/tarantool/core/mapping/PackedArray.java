@@ -0,0 +1,20 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a numeric primitive array property ({@code int[]}, {@code long[]}, {@code float[]} or {@code double[]})
+ * to be stored as a single MessagePack binary value with little-endian packed elements instead of
+ * a MessagePack array. Useful for large numeric arrays like vectors or time series, which are not
+ * processed element-wise on the Tarantool side
+ * <p>
+ * Without this annotation the elements are not boxed, but the driver packs tuples from MessagePack values,
+ * so one {@link org.msgpack.value.Value} is still allocated per element. A packed array is a single binary value
+ *
+ * @author Tatiana Blinova
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+public @interface PackedArray {
+}
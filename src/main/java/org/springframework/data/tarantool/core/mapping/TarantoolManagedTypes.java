@@ -0,0 +1,67 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import org.springframework.data.domain.ManagedTypes;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Tarantool specific {@link ManagedTypes}: the set of entity types known in advance. During ahead-of-time processing
+ * the types are resolved at build time, so the classpath is not scanned for entities on startup.
+ *
+ * @author Alexander Rublev
+ */
+public final class TarantoolManagedTypes implements ManagedTypes {
+
+    private final ManagedTypes delegate;
+
+    private TarantoolManagedTypes(ManagedTypes types) {
+        this.delegate = types;
+    }
+
+    /**
+     * Wrap the given {@link ManagedTypes}
+     *
+     * @param managedTypes types to wrap, must not be null
+     * @return new instance of {@link TarantoolManagedTypes}
+     */
+    public static TarantoolManagedTypes from(ManagedTypes managedTypes) {
+        Assert.notNull(managedTypes, "ManagedTypes must not be null");
+        return new TarantoolManagedTypes(managedTypes);
+    }
+
+    /**
+     * Create managed types for the given entity types
+     *
+     * @param types entity types
+     * @return new instance of {@link TarantoolManagedTypes}
+     */
+    public static TarantoolManagedTypes from(Class<?>... types) {
+        return fromIterable(Arrays.asList(types));
+    }
+
+    /**
+     * Create managed types for the given entity types
+     *
+     * @param types entity types, must not be null
+     * @return new instance of {@link TarantoolManagedTypes}
+     */
+    public static TarantoolManagedTypes fromIterable(Iterable<? extends Class<?>> types) {
+        return from(ManagedTypes.fromIterable(types));
+    }
+
+    /**
+     * Create empty managed types
+     *
+     * @return new instance of {@link TarantoolManagedTypes}
+     */
+    public static TarantoolManagedTypes empty() {
+        return from(ManagedTypes.empty());
+    }
+
+    @Override
+    public void forEach(Consumer<Class<?>> action) {
+        delegate.forEach(action);
+    }
+}
@@ -8,6 +8,9 @@ import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Default {@link org.springframework.data.mapping.context.MappingContext} implementation for Tarantool
  *
@@ -15,6 +18,8 @@ import org.springframework.lang.Nullable;
  */
 public class TarantoolMappingContext extends AbstractMappingContext<BasicTarantoolPersistentEntity<?>, TarantoolPersistentProperty> {
     private FieldNamingStrategy fieldNamingStrategy = PropertyNameFieldNamingStrategy.INSTANCE;
+    private final AtomicLong createdEntities = new AtomicLong();
+    private final AtomicLong persistentEntitiesVersion = new AtomicLong();
 
     /**
      * Configures the {@link FieldNamingStrategy} to be used to determine the field name if no manual mapping is applied.
@@ -27,8 +32,27 @@ public class TarantoolMappingContext extends AbstractMappingContext<BasicTaranto
         this.fieldNamingStrategy = fieldNamingStrategy == null ? PropertyNameFieldNamingStrategy.INSTANCE : fieldNamingStrategy;
     }
 
+    /**
+     * Get the version of the set of persistent entities. It changes only when a new entity is added, so results
+     * computed from the known entities can be invalidated. Lookups of known entities keep the version
+     *
+     * @return version of the set of persistent entities
+     */
+    public long getPersistentEntitiesVersion() {
+        return persistentEntitiesVersion.get();
+    }
+
+    @Override
+    protected Optional<BasicTarantoolPersistentEntity<?>> addPersistentEntity(TypeInformation<?> typeInformation) {
+        Optional<BasicTarantoolPersistentEntity<?>> entity = super.addPersistentEntity(typeInformation);
+        // published after the entity is registered, so the version never runs ahead of the entity set
+        persistentEntitiesVersion.accumulateAndGet(createdEntities.get(), Math::max);
+        return entity;
+    }
+
     @Override
     protected <T> BasicTarantoolPersistentEntity<?> createPersistentEntity(TypeInformation<T> typeInformation) {
+        createdEntities.incrementAndGet();
         return new BasicTarantoolPersistentEntity<>(typeInformation);
     }
 
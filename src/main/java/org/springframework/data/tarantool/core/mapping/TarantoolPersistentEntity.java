@@ -35,4 +35,11 @@ public interface TarantoolPersistentEntity<T> extends PersistentEntity<T, Tarant
      * @return true if the {@link PrimaryKey} has type, annotated with {@link PrimaryKeyClass}
      */
     boolean hasCompositePrimaryKey();
+
+    /**
+     * Get information whether all persistent properties are set by the instance creator, for example
+     * by the canonical constructor of a record or by an all-args constructor
+     * @return true if no properties have to be set after the instance is created
+     */
+    boolean isFullyInitializedByCreator();
 }
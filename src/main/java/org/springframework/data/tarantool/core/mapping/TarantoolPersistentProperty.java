@@ -29,4 +29,18 @@ public interface TarantoolPersistentProperty extends PersistentProperty<Tarantoo
      * @return true if this property is primary key field
      */
     boolean isPrimaryKeyField();
+
+    /**
+     * Whether the property is a numeric primitive array stored as packed binary value
+     *
+     * @return true if this property is annotated with {@link PackedArray}
+     */
+    boolean isPackedArray();
+
+    /**
+     * How values of the enum property are stored
+     *
+     * @return storage type from {@link Enumerated}, {@link EnumType#NAME} if the property isn't annotated
+     */
+    EnumType getEnumType();
 }
@@ -1,8 +1,10 @@
 package org.springframework.data.tarantool.core.mapping;
 
+import io.netty.buffer.ByteBuf;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.Set;
 import java.util.UUID;
 
@@ -18,6 +20,8 @@ public class TarantoolSimpleTypeHolder extends SimpleTypeHolder {
                 int.class,
                 byte.class,
                 byte[].class,
+                ByteBuffer.class,
+                ByteBuf.class,
                 float.class,
                 double.class,
                 char.class,
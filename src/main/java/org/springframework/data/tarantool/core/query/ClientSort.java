@@ -0,0 +1,150 @@
+package org.springframework.data.tarantool.core.query;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Order of query results applied on the client. Used when no TREE index of the space returns tuples in the order
+ * of a sort, so all matching entities have to be fetched before they are sorted and limited
+ *
+ * @author Alexander Rublev
+ */
+public final class ClientSort implements Comparator<Object> {
+    private final Sort sort;
+    private final TarantoolPersistentEntity<?> entity;
+    private final List<PropertyOrder> orders;
+
+    private ClientSort(Sort sort, TarantoolPersistentEntity<?> entity, List<PropertyOrder> orders) {
+        this.sort = sort;
+        this.entity = entity;
+        this.orders = orders;
+    }
+
+    /**
+     * Create client order of entities by Spring Data sort
+     *
+     * @param sort   sort by entity properties
+     * @param entity sorted entity
+     * @return new client sort
+     * @throws InvalidDataAccessApiUsageException if the sort has unknown or not comparable properties
+     */
+    public static ClientSort of(Sort sort, TarantoolPersistentEntity<?> entity) {
+        Assert.notNull(sort, "Sort must not be null");
+        Assert.notNull(entity, "Entity must not be null");
+        Assert.isTrue(sort.isSorted(), "Sort must be sorted");
+
+        List<PropertyOrder> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            TarantoolPersistentProperty property = entity.getPersistentProperty(order.getProperty());
+            if (property == null) {
+                throw new InvalidDataAccessApiUsageException(
+                        String.format("No property %s found for entity %s", order.getProperty(), entity.getType().getName()));
+            }
+            if (!Comparable.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(property.getType()))) {
+                throw new InvalidDataAccessApiUsageException(
+                        String.format("Property %s of entity %s is not comparable and can't be sorted", order.getProperty(), entity.getType().getName()));
+            }
+            orders.add(new PropertyOrder(property, order));
+        }
+        return new ClientSort(sort, entity, orders);
+    }
+
+    /**
+     * Sort entities
+     *
+     * @param entities entities to sort
+     * @param <T>      entity type
+     * @return new sorted list
+     */
+    public <T> List<T> sort(Collection<? extends T> entities) {
+        List<T> sorted = new ArrayList<>(entities);
+        sorted.sort(this);
+        return sorted;
+    }
+
+    /**
+     * Sort entities and cut the requested slice
+     *
+     * @param entities all matching entities
+     * @param pageable requested slice
+     * @param <T>      entity type
+     * @return slice of sorted entities
+     */
+    public <T> Slice<T> slice(Collection<? extends T> entities, Pageable pageable) {
+        List<T> sorted = sort(entities);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(sorted, pageable, false);
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new SliceImpl<>(new ArrayList<>(sorted.subList(from, to)), pageable, to < sorted.size());
+    }
+
+    @Override
+    public int compare(Object left, Object right) {
+        for (PropertyOrder order : orders) {
+            int result = order.compare(entity.getPropertyAccessor(left).getProperty(order.property),
+                    entity.getPropertyAccessor(right).getProperty(order.property));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ClientSort.class.getSimpleName() + "[", "]")
+                .add("sort=" + sort)
+                .toString();
+    }
+
+    /**
+     * Order of a single property, nulls go first unless requested otherwise
+     */
+    private static final class PropertyOrder {
+        private final TarantoolPersistentProperty property;
+        private final Sort.Order order;
+
+        private PropertyOrder(TarantoolPersistentProperty property, Sort.Order order) {
+            this.property = property;
+            this.order = order;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private int compare(Object left, Object right) {
+            if (left == null || right == null) {
+                if (left == right) {
+                    return 0;
+                }
+                switch (order.getNullHandling()) {
+                    case NULLS_FIRST:
+                        return left == null ? -1 : 1;
+                    case NULLS_LAST:
+                        return left == null ? 1 : -1;
+                    default:
+                        int result = left == null ? -1 : 1;
+                        return order.isAscending() ? result : -result;
+                }
+            }
+
+            int result = order.isIgnoreCase() && left instanceof String && right instanceof String
+                    ? ((String) left).compareToIgnoreCase((String) right)
+                    : ((Comparable) left).compareTo(right);
+            return order.isAscending() ? result : -result;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package org.springframework.data.tarantool.core.query;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.tarantool.core.TarantoolClientAware;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiles the probe of an {@link Example} into query conditions. Non-null probe properties are matched for equality:
+ * the longest prefix of TREE index parts, or the full key of a HASH index, covered by them is looked up by the index
+ * key and the remaining properties are sent to the server as field filters. Examples sorted by a TREE index scan that
+ * index instead, examples sorted on the client with {@link ClientSort} are looked up as unsorted ones.
+ * <p>
+ * The box client filters by a single index key only, so there all probe properties must be the key of one index
+ *
+ * @author Alexander Rublev
+ */
+public final class ExampleConditions {
+
+    private ExampleConditions() {
+    }
+
+    /**
+     * Create query conditions matching the example
+     *
+     * @param example     example with the probe entity
+     * @param indexSort   index order of results, null for unsorted results
+     * @param converter   converter to resolve properties and convert probe values
+     * @param clientAware source of space and index metadata
+     * @return new query conditions
+     * @throws InvalidDataAccessApiUsageException if the example matcher can't be executed by equality conditions,
+     *                                            or by a single index key with the box client
+     */
+    public static Conditions of(Example<?> example, @Nullable IndexSort indexSort, TarantoolConverter converter,
+                                TarantoolClientAware clientAware) {
+        Assert.notNull(example, "Example must not be null");
+        Assert.notNull(converter, "TarantoolConverter must not be null");
+        Assert.notNull(clientAware, "TarantoolClientAware must not be null");
+
+        ExampleMatcher matcher = example.getMatcher();
+        if (matcher.isAnyMatching()) {
+            throw new InvalidDataAccessApiUsageException("Only examples matching all properties are supported, but got " + matcher);
+        }
+        if (matcher.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+            throw new InvalidDataAccessApiUsageException("Matching null properties of examples is not supported, but got " + matcher);
+        }
+
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(example.getProbeType());
+        Map<String, Object> fields = new LinkedHashMap<>();
+        collect(entity, entity.getPropertyAccessor(example.getProbe()), "", matcher, converter, fields);
+
+        if (!clientAware.isProxyClient()) {
+            return boxConditions(entity.getSpaceName(), fields, indexSort, clientAware);
+        }
+
+        Conditions conditions;
+        if (indexSort != null) {
+            conditions = indexSort.toConditions();
+        } else {
+            IndexKey key = indexKey(entity.getSpaceName(), fields, null, clientAware);
+            conditions = key != null ? key.remove(fields) : Conditions.any();
+        }
+        fields.forEach(conditions::andEquals);
+        return conditions;
+    }
+
+    /**
+     * Create conditions of the box client, which rejects index and field conditions together. All fields must be
+     * the key of one index, sorted examples must be sorted by that index
+     */
+    private static Conditions boxConditions(String spaceName, Map<String, Object> fields, @Nullable IndexSort indexSort,
+                                            TarantoolClientAware clientAware) {
+        if (fields.isEmpty()) {
+            return indexSort != null ? indexSort.toConditions() : Conditions.any();
+        }
+
+        IndexKey key = indexKey(spaceName, fields, indexSort != null ? indexSort.getIndexName() : null, clientAware);
+        if (key == null || key.fieldNames.size() != fields.size()) {
+            throw new InvalidDataAccessApiUsageException(String.format(indexSort != null
+                    ? "Examples with the box client must match a key prefix of the sort index, but got properties %s"
+                    : "Examples with the box client must match the key of one index, but got properties %s", fields.keySet()));
+        }
+        Conditions conditions = key.remove(fields);
+        return indexSort != null && indexSort.isDescending() ? conditions.withDescending() : conditions;
+    }
+
+    private static void collect(TarantoolPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor, String prefix,
+                                ExampleMatcher matcher, TarantoolConverter converter, Map<String, Object> fields) {
+        entity.doWithProperties((PropertyHandler<TarantoolPersistentProperty>) property -> {
+            String path = prefix + property.getName();
+            if (matcher.isIgnoredPath(path)) {
+                return;
+            }
+
+            ExampleMatcher.PropertySpecifier specifier = matcher.getPropertySpecifiers().getForPath(path);
+            Object value = accessor.getProperty(property);
+            if (specifier != null) {
+                value = specifier.transformValue(Optional.ofNullable(value)).orElse(null);
+            }
+            if (value == null) {
+                return;
+            }
+
+            if (property.isCompositePrimaryKey()) {
+                TarantoolPersistentEntity<?> keyEntity = converter.getMappingContext().getRequiredPersistentEntity(property.getType());
+                collect(keyEntity, keyEntity.getPropertyAccessor(value), path + ".", matcher, converter, fields);
+                return;
+            }
+            if (property.isEntity() || property.isCollectionLike() || property.isMap()) {
+                throw new InvalidDataAccessApiUsageException(
+                        String.format("Property %s of example can't be matched, only simple properties are supported", path));
+            }
+            if (value instanceof CharSequence) {
+                verifyStringMatching(path, specifier, matcher);
+            }
+
+            fields.put(property.getFieldName(), converter.convertToWritableType(value, property));
+        });
+    }
+
+    private static void verifyStringMatching(String path, @Nullable ExampleMatcher.PropertySpecifier specifier, ExampleMatcher matcher) {
+        ExampleMatcher.StringMatcher stringMatcher = specifier != null && specifier.getStringMatcher() != null
+                ? specifier.getStringMatcher()
+                : matcher.getDefaultStringMatcher();
+        boolean ignoreCase = specifier != null && specifier.getIgnoreCase() != null
+                ? specifier.getIgnoreCase()
+                : matcher.isIgnoreCaseEnabled();
+        if (ignoreCase || (stringMatcher != ExampleMatcher.StringMatcher.DEFAULT && stringMatcher != ExampleMatcher.StringMatcher.EXACT)) {
+            throw new InvalidDataAccessApiUsageException(
+                    String.format("Only exact case-sensitive matching of strings is supported, but got %s for property %s", stringMatcher, path));
+        }
+    }
+
+    /**
+     * Find the longest key covered by the fields: a prefix of TREE index parts or all parts of a HASH index
+     */
+    @Nullable
+    private static IndexKey indexKey(String spaceName, Map<String, Object> fields, @Nullable String indexName,
+                                     TarantoolClientAware clientAware) {
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        Optional<TarantoolSpaceMetadata> spaceMetadata = clientAware.spaceMetadata(spaceName);
+        Map<String, TarantoolIndexMetadata> indexes = clientAware.spaceIndexes(spaceName);
+        if (spaceMetadata == null || spaceMetadata.isEmpty() || indexes == null || indexes.isEmpty()) {
+            return null;
+        }
+
+        Map<Integer, String> fieldNames = new LinkedHashMap<>();
+        for (String fieldName : fields.keySet()) {
+            spaceMetadata.get().getFieldByName(fieldName)
+                    .map(TarantoolFieldMetadata::getFieldPosition)
+                    .ifPresent(position -> fieldNames.put(position, fieldName));
+        }
+
+        List<TarantoolIndexMetadata> candidates = new ArrayList<>(indexes.values());
+        candidates.sort(Comparator.comparingInt(TarantoolIndexMetadata::getIndexId));
+
+        IndexKey bestKey = null;
+        for (TarantoolIndexMetadata index : candidates) {
+            if (indexName != null && !indexName.equals(index.getIndexName())) {
+                continue;
+            }
+            boolean hash = index.getIndexType() == TarantoolIndexType.HASH;
+            if (!TarantoolIndexes.isTree(index) && !hash) {
+                continue;
+            }
+            List<Integer> parts = TarantoolIndexes.partPositions(index);
+            List<String> key = new ArrayList<>();
+            for (Integer position : parts) {
+                String fieldName = fieldNames.get(position);
+                if (fieldName == null) {
+                    break;
+                }
+                key.add(fieldName);
+            }
+            if (hash && key.size() < parts.size()) {
+                continue;
+            }
+            if (!key.isEmpty() && (bestKey == null || key.size() > bestKey.fieldNames.size())) {
+                bestKey = new IndexKey(index.getIndexName(), key);
+            }
+        }
+        return bestKey;
+    }
+
+    private static final class IndexKey {
+        private final String indexName;
+        private final List<String> fieldNames;
+
+        private IndexKey(String indexName, List<String> fieldNames) {
+            this.indexName = indexName;
+            this.fieldNames = fieldNames;
+        }
+
+        /**
+         * Create index key conditions, the fields of the key are removed from the given map
+         */
+        private Conditions remove(Map<String, Object> fields) {
+            List<Object> keyValues = new ArrayList<>(fieldNames.size());
+            for (String fieldName : fieldNames) {
+                keyValues.add(fields.remove(fieldName));
+            }
+            return Conditions.indexEquals(indexName, keyValues);
+        }
+    }
+}
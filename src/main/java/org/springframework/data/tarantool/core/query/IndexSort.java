@@ -0,0 +1,176 @@
+package org.springframework.data.tarantool.core.query;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.tarantool.core.TarantoolClientAware;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Order of query results given by an index iterator. Tuples are returned by the server in the order of the index,
+ * so a limited query returns the top tuples of the index. Only TREE indexes are ordered, sorts without a matching
+ * TREE index are applied on the client with {@link ClientSort}
+ *
+ * @author Alexander Rublev
+ */
+public final class IndexSort {
+    private final String indexName;
+    private final boolean primary;
+    private final boolean descending;
+
+    private IndexSort(String indexName, boolean primary, boolean descending) {
+        this.indexName = indexName;
+        this.primary = primary;
+        this.descending = descending;
+    }
+
+    /**
+     * Create ascending order of the given index
+     *
+     * @param indexName name of the index
+     * @return new index sort
+     */
+    public static IndexSort ascending(String indexName) {
+        Assert.hasText(indexName, "Index name must not be empty");
+        return new IndexSort(indexName, false, false);
+    }
+
+    /**
+     * Create descending order of the given index
+     *
+     * @param indexName name of the index
+     * @return new index sort
+     */
+    public static IndexSort descending(String indexName) {
+        Assert.hasText(indexName, "Index name must not be empty");
+        return new IndexSort(indexName, false, true);
+    }
+
+    /**
+     * Resolve Spring Data sort to a TREE index of the entity space. The sort properties must be a prefix of the index
+     * parts in the same order and have the same direction, index iterators scan in a single direction
+     *
+     * @param sort        sort by entity properties
+     * @param entity      sorted entity
+     * @param clientAware source of space and index metadata
+     * @return index sort or empty if no TREE index matches the sort
+     * @throws InvalidDataAccessApiUsageException if the sort has unknown properties
+     */
+    public static Optional<IndexSort> resolve(Sort sort, TarantoolPersistentEntity<?> entity, TarantoolClientAware clientAware) {
+        Assert.notNull(sort, "Sort must not be null");
+        Assert.notNull(entity, "Entity must not be null");
+        Assert.notNull(clientAware, "TarantoolClientAware must not be null");
+        Assert.isTrue(sort.isSorted(), "Sort must be sorted");
+
+        String spaceName = entity.getSpaceName();
+        TarantoolSpaceMetadata spaceMetadata = clientAware.requiredSpaceMetadata(spaceName);
+        return resolve(sort, entity, spaceMetadata, clientAware.spaceIndexes(spaceName).values());
+    }
+
+    /**
+     * Resolve Spring Data sort to one of the given TREE indexes
+     *
+     * @param sort          sort by entity properties
+     * @param entity        sorted entity
+     * @param spaceMetadata metadata of the entity space
+     * @param indexes       indexes of the entity space
+     * @return index sort or empty if no TREE index matches the sort
+     * @throws InvalidDataAccessApiUsageException if the sort has unknown properties
+     */
+    public static Optional<IndexSort> resolve(Sort sort, TarantoolPersistentEntity<?> entity,
+                                              TarantoolSpaceMetadata spaceMetadata, Collection<TarantoolIndexMetadata> indexes) {
+        List<Integer> positions = new ArrayList<>();
+        Sort.Direction direction = null;
+        for (Sort.Order order : sort) {
+            if (direction != null && direction != order.getDirection()) {
+                return Optional.empty();
+            }
+            direction = order.getDirection();
+
+            TarantoolPersistentProperty property = entity.getPersistentProperty(order.getProperty());
+            if (property == null) {
+                throw new InvalidDataAccessApiUsageException(
+                        String.format("No property %s found for entity %s", order.getProperty(), entity.getType().getName()));
+            }
+            Optional<TarantoolFieldMetadata> field = spaceMetadata.getFieldByName(property.getFieldName());
+            if (field.isEmpty()) {
+                return Optional.empty();
+            }
+            positions.add(field.get().getFieldPosition());
+        }
+
+        List<TarantoolIndexMetadata> candidates = new ArrayList<>(indexes);
+        candidates.sort(Comparator.comparingInt(TarantoolIndexMetadata::getIndexId));
+        for (TarantoolIndexMetadata index : candidates) {
+            if (!TarantoolIndexes.isTree(index)) {
+                continue;
+            }
+            List<Integer> parts = TarantoolIndexes.partPositions(index);
+            if (parts.size() >= positions.size() && parts.subList(0, positions.size()).equals(positions)) {
+                return Optional.of(new IndexSort(index.getIndexName(), index.getIndexId() == 0, direction == Sort.Direction.DESC));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Create new conditions scanning the whole index in the sort direction
+     *
+     * @return new query conditions
+     */
+    public Conditions toConditions() {
+        if (primary) {
+            return descending ? Conditions.descending() : Conditions.ascending();
+        }
+        return descending
+                ? Conditions.indexLessOrEquals(indexName, Collections.emptyList())
+                : Conditions.indexGreaterOrEquals(indexName, Collections.emptyList());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IndexSort indexSort = (IndexSort) o;
+        return primary == indexSort.primary && descending == indexSort.descending && indexName.equals(indexSort.indexName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(indexName, primary, descending);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", IndexSort.class.getSimpleName() + "[", "]")
+                .add("indexName=" + indexName)
+                .add("descending=" + descending)
+                .toString();
+    }
+}
@@ -0,0 +1,44 @@
+package org.springframework.data.tarantool.core.query;
+
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for matching query criteria, sorts and examples with space indexes
+ *
+ * @author Alexander Rublev
+ */
+public final class TarantoolIndexes {
+
+    private TarantoolIndexes() {
+    }
+
+    /**
+     * Get the positions of the fields of the index parts
+     *
+     * @param index index metadata
+     * @return field positions in the order of the index parts
+     */
+    public static List<Integer> partPositions(TarantoolIndexMetadata index) {
+        List<Integer> positions = new ArrayList<>();
+        for (TarantoolIndexPartMetadata<?> part : index.getIndexParts()) {
+            positions.add(part.getFieldIndex());
+        }
+        return positions;
+    }
+
+    /**
+     * Whether the index iterates tuples in the order of its key, which is required for range and prefix scans
+     * and for sorting. Indexes without a known type are TREE indexes by default
+     *
+     * @param index index metadata
+     * @return true for TREE indexes
+     */
+    public static boolean isTree(TarantoolIndexMetadata index) {
+        return index.getIndexType() == null || index.getIndexType() == TarantoolIndexType.TREE;
+    }
+}
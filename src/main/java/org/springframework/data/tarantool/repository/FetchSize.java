@@ -0,0 +1,21 @@
+package org.springframework.data.tarantool.repository;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to declare the number of tuples fetched per request by derived query methods returning
+ * {@link java.util.stream.Stream} or {@link reactor.core.publisher.Flux}.
+ *
+ * @author Alexander Rublev
+ */
+@Documented
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FetchSize {
+
+    /**
+     * Max number of tuples fetched per request
+     * @return the fetch size
+     */
+    int value();
+}
@@ -1,17 +1,23 @@
 package org.springframework.data.tarantool.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
- * Tarantool specific {@link Repository} interface with reactive support.
+ * Tarantool specific {@link Repository} interface with reactive support. Examples are matched by equality of their
+ * non-null properties, looked up by the best matching index.
  *
  * @author Alexander Rublev
  */
 @NoRepositoryBean
-public interface ReactiveTarantoolRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+public interface ReactiveTarantoolRepository<T, ID> extends ReactiveCrudRepository<T, ID>, ReactiveQueryByExampleExecutor<T> {
 
     /**
      * Returns all entities sorted by the given options.
@@ -21,4 +27,35 @@ public interface ReactiveTarantoolRepository<T, ID> extends ReactiveCrudReposito
      * @throws IllegalArgumentException in case the given {@link Sort} is {@literal null}.
      */
     Flux<T> findAll(Sort sort);
+
+    /**
+     * Returns all entities in the order of the TREE index whose leading parts match the sort properties. Sorts without
+     * a matching index, including sorts mixing directions, are applied on the client.
+     *
+     * @param sort must not be {@literal null}.
+     * @return all entities sorted by the given options.
+     * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the sort has unknown properties.
+     */
+    Flux<T> findAll(org.springframework.data.domain.Sort sort);
+
+    /**
+     * Returns the first entities in the order of the TREE index whose leading parts match the sort properties. Only the
+     * limited number of tuples is fetched from the server if an index matches the sort, otherwise all entities are
+     * fetched and sorted on the client.
+     *
+     * @param sort  must not be {@literal null}.
+     * @param limit must not be {@literal null}.
+     * @return the first entities sorted by the given options.
+     * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the sort has unknown properties.
+     */
+    Flux<T> findAll(org.springframework.data.domain.Sort sort, Limit limit);
+
+    /**
+     * Returns a window of entities in primary index order starting after the given position.
+     *
+     * @param position initial or keyset position, must not be {@literal null}.
+     * @param limit    max number of entities in the window.
+     * @return a window of entities.
+     */
+    Mono<Window<T>> findAll(ScrollPosition position, int limit);
 }
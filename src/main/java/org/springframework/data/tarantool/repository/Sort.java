@@ -1,20 +1,72 @@
 package org.springframework.data.tarantool.repository;
 
+import org.springframework.data.tarantool.core.query.IndexSort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
 import java.util.StringJoiner;
 
 public class Sort {
     private final Direction direction;
+    @Nullable
+    private final String indexName;
 
-    private Sort(Direction direction) {
+    private Sort(Direction direction, @Nullable String indexName) {
         this.direction = direction;
+        this.indexName = indexName;
     }
 
     public static Sort asc() {
-        return new Sort(Direction.ASC);
+        return new Sort(Direction.ASC, null);
     }
 
     public static Sort desc() {
-        return new Sort(Direction.DESC);
+        return new Sort(Direction.DESC, null);
+    }
+
+    /**
+     * Create ascending order of the given index
+     *
+     * @param indexName name of a space index
+     * @return new sort
+     */
+    public static Sort asc(String indexName) {
+        Assert.hasText(indexName, "Index name must not be empty");
+        return new Sort(Direction.ASC, indexName);
+    }
+
+    /**
+     * Create descending order of the given index
+     *
+     * @param indexName name of a space index
+     * @return new sort
+     */
+    public static Sort desc(String indexName) {
+        Assert.hasText(indexName, "Index name must not be empty");
+        return new Sort(Direction.DESC, indexName);
+    }
+
+    /**
+     * Returns the name of the sorting index.
+     *
+     * @return index name or null for the primary index
+     */
+    @Nullable
+    public String getIndexName() {
+        return indexName;
+    }
+
+    /**
+     * Returns the order of the sorting index, null for the primary index.
+     *
+     * @return index order or null
+     */
+    @Nullable
+    public IndexSort toIndexSort() {
+        if (indexName == null) {
+            return null;
+        }
+        return direction.isAscending() ? IndexSort.ascending(indexName) : IndexSort.descending(indexName);
     }
 
     /**
@@ -39,6 +91,7 @@ public class Sort {
     public String toString() {
         return new StringJoiner(", ", Sort.class.getSimpleName() + "[", "]")
                 .add("direction=" + direction)
+                .add("indexName=" + indexName)
                 .toString();
     }
 
@@ -1,8 +1,14 @@
 package org.springframework.data.tarantool.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.QueryByExampleExecutor;
 import org.springframework.data.tarantool.core.mapping.MapId;
 import org.springframework.data.tarantool.core.mapping.Space;
 
@@ -13,13 +19,14 @@ import java.util.List;
  * identity of the {@link Space @Space} (or {@link Persistable}) type.
  * Repositories based on {@link TarantoolRepository} can define either a single primary key, use a primary key class or
  * a compound primary key without a primary key class. Types using a compound primary key without a primary key class
- * must use {@link MapId} to declare their key value.
+ * must use {@link MapId} to declare their key value. Examples are matched by equality of their non-null properties,
+ * looked up by the best matching index.
  *
  * @author Alexander Rublev
  * @see MapIdTarantoolRepository
  */
 @NoRepositoryBean
-public interface TarantoolRepository<T, ID> extends CrudRepository<T, ID> {
+public interface TarantoolRepository<T, ID> extends CrudRepository<T, ID>, QueryByExampleExecutor<T> {
 
     /**
      * Returns all entities sorted by the given options.
@@ -29,4 +36,45 @@ public interface TarantoolRepository<T, ID> extends CrudRepository<T, ID> {
      * @throws IllegalArgumentException in case the given {@link Sort} is {@literal null}.
      */
     List<T> findAll(Sort sort);
+
+    /**
+     * Returns all entities in the order of the TREE index whose leading parts match the sort properties. Sorts without
+     * a matching index, including sorts mixing directions, are applied on the client.
+     *
+     * @param sort must not be {@literal null}.
+     * @return all entities sorted by the given options.
+     * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the sort has unknown properties.
+     */
+    List<T> findAll(org.springframework.data.domain.Sort sort);
+
+    /**
+     * Returns the first entities in the order of the TREE index whose leading parts match the sort properties. Only the
+     * limited number of tuples is fetched from the server if an index matches the sort, otherwise all entities are
+     * fetched and sorted on the client.
+     *
+     * @param sort  must not be {@literal null}.
+     * @param limit must not be {@literal null}.
+     * @return the first entities sorted by the given options.
+     * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the sort has unknown properties.
+     */
+    List<T> findAll(org.springframework.data.domain.Sort sort, Limit limit);
+
+    /**
+     * Returns a slice of entities. Sorted page requests are fetched in the order of the matching index. Slices are
+     * fetched with the offset of the page request, use
+     * {@link #findAll(ScrollPosition, int)} for deep paging.
+     *
+     * @param pageable must not be {@literal null}.
+     * @return a slice of entities.
+     */
+    Slice<T> findAll(Pageable pageable);
+
+    /**
+     * Returns a window of entities in primary index order starting after the given position.
+     *
+     * @param position initial or keyset position, must not be {@literal null}.
+     * @param limit    max number of entities in the window.
+     * @return a window of entities.
+     */
+    Window<T> findAll(ScrollPosition position, int limit);
 }
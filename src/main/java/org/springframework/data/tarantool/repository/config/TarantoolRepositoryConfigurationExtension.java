@@ -1,10 +1,12 @@
 package org.springframework.data.tarantool.repository.config;
 
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.tarantool.aot.TarantoolRepositoryRegistrationAotProcessor;
 import org.springframework.data.tarantool.core.mapping.Space;
 import org.springframework.data.tarantool.repository.TarantoolRepository;
 import org.springframework.data.tarantool.repository.support.TarantoolRepositoryFactoryBean;
@@ -37,6 +39,11 @@ public class TarantoolRepositoryConfigurationExtension extends RepositoryConfigu
         return TarantoolRepositoryFactoryBean.class.getName();
     }
 
+    @Override
+    public Class<? extends BeanRegistrationAotProcessor> getRepositoryAotProcessor() {
+        return TarantoolRepositoryRegistrationAotProcessor.class;
+    }
+
     @Override
     public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
         String tarantoolTemplateRef = config.getAttributes().getString("tarantoolTemplateRef");
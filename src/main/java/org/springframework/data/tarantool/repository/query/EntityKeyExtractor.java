@@ -0,0 +1,51 @@
+package org.springframework.data.tarantool.repository.query;
+
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts primary keys of entities to de-duplicate results merged from several queries. Entities without
+ * an id property are compared by themselves
+ *
+ * @author Alexander Rublev
+ */
+final class EntityKeyExtractor {
+    private final TarantoolPersistentEntity<?> entity;
+
+    EntityKeyExtractor(TarantoolPersistentEntity<?> entity) {
+        this.entity = entity;
+    }
+
+    /**
+     * Get the key identifying the given entity instance
+     *
+     * @param value entity instance
+     * @return primary key or the instance itself if the entity has no id
+     */
+    Object keyOf(Object value) {
+        if (!entity.hasIdProperty() || !entity.getType().isInstance(value)) {
+            return value;
+        }
+        Object id = entity.getIdentifierAccessor(value).getIdentifier();
+        return id == null ? value : id;
+    }
+
+    /**
+     * Remove entities with the same key keeping the first occurrence
+     *
+     * @param values entity instances
+     * @param <T>    entity type
+     * @return distinct entity instances in the original order
+     */
+    <T> List<T> distinct(List<T> values) {
+        Map<Object, T> distinct = new LinkedHashMap<>(values.size());
+        for (T value : values) {
+            distinct.putIfAbsent(keyOf(value), value);
+        }
+        return distinct.size() == values.size() ? values : new ArrayList<>(distinct.values());
+    }
+}
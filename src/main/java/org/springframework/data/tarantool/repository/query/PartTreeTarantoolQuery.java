@@ -1,15 +1,30 @@
 package org.springframework.data.tarantool.repository.query;
 
 import io.tarantool.driver.api.conditions.Conditions;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.tarantool.core.TarantoolOperations;
-import org.springframework.data.tarantool.core.convert.TarantoolConverter;
-import org.springframework.data.tarantool.core.query.Query;
+import org.springframework.data.tarantool.core.TarantoolTupleMethodsHelper;
+import org.springframework.data.tarantool.core.query.ClientSort;
+import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * PartTree {@link RepositoryQuery} implementation for Tarantool.
@@ -18,32 +33,36 @@ import java.util.Optional;
  */
 public class PartTreeTarantoolQuery extends TarantoolRepositoryQuerySupport {
     private final TarantoolOperations operations;
-    private final TarantoolConverter converter;
     private final PartTree tree;
+    private final Class<?> domainType;
+    private final Lazy<TarantoolQueryPlan> plan;
+    private final PartTreeTarantoolQueryExecution execution;
 
     /**
-     * Create a new {@link PartTreeTarantoolQuery} from the given {@link ReactiveTarantoolQueryMethod} and
+     * Create a new {@link PartTreeTarantoolQuery} from the given {@link TarantoolQueryMethod} and
      * {@link TarantoolOperations}.
      *
      * @param queryMethod must not be {@literal null}.
      * @param operations  must not be {@literal null}.
      */
-    public PartTreeTarantoolQuery(ReactiveTarantoolQueryMethod queryMethod,
+    public PartTreeTarantoolQuery(TarantoolQueryMethod queryMethod,
                                   TarantoolOperations operations) {
         super(queryMethod, operations.getConverter());
         this.operations = operations;
-        this.converter = operations.getConverter();
-        this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
+        this.domainType = queryMethod.getResultProcessor().getReturnedType().getDomainType();
+        this.tree = new PartTree(queryMethod.getName(), domainType);
+        this.plan = Lazy.of(() -> TarantoolQueryPlan.compile(queryMethod.getName(), tree,
+                operations.getConverter().getMappingContext().getRequiredPersistentEntity(domainType), operations.getConverter(), operations));
+        this.execution = createExecution();
     }
 
     @Nullable
     @Override
     public Object execute(Object[] parameters) {
-        final Class<?> type = getQueryMethod().getResultProcessor().getReturnedType().getDomainType();
-        ParametersParameterAccessor parameterAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
-        TarantoolQueryCreator queryCreator = new TarantoolQueryCreator(tree, parameterAccessor, converter, operations.isProxyClient());
-        Query query = queryCreator.createQuery();
-        return getExecution().execute(query.getConditions(), type);
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+        TarantoolQueryPlan queryPlan = plan.get();
+        List<Conditions> queries = queryPlan.bind(accessor);
+        return execution.execute(queries, queryPlan.getClientSort(accessor), queryPlan.getClientFilter(accessor), accessor, domainType);
     }
 
     /**
@@ -52,16 +71,43 @@ public class PartTreeTarantoolQuery extends TarantoolRepositoryQuerySupport {
      * @return never {@literal null}.
      */
     public PartTreeTarantoolQueryExecution getExecution() {
+        return execution;
+    }
+
+    private PartTreeTarantoolQueryExecution createExecution() {
+        EntityKeyExtractor keys = tree.stream().count() > 1
+                ? new EntityKeyExtractor(operations.getConverter().getMappingContext().getRequiredPersistentEntity(domainType))
+                : null;
         if (tree.isCountProjection()) {
-            return new PartTreeTarantoolQueryExecution.CountExecution(operations);
+            return new PartTreeTarantoolQueryExecution.CountExecution(operations, keys, getQueryMethod().getFetchSize());
         } else if (tree.isExistsProjection()) {
             return new PartTreeTarantoolQueryExecution.ExistsExecution(operations);
         } else if (tree.isDelete()) {
             return new PartTreeTarantoolQueryExecution.DeleteExecution(operations);
+        } else if (getQueryMethod().isScrollQuery()) {
+            return new PartTreeTarantoolQueryExecution.ScrollExecution(operations, tree.getMaxResults());
+        } else if (getQueryMethod().isPageQuery()) {
+            throw new InvalidDataAccessApiUsageException(
+                    String.format("Page is not supported as return type of query method %s, use Slice or Window", getQueryMethod().getName()));
+        } else if (getQueryMethod().isSliceQuery()) {
+            return new PartTreeTarantoolQueryExecution.SliceExecution(operations, getQueryMethod().getFetchSize());
+        } else if (getQueryMethod().isStreamQuery()) {
+            return new PartTreeTarantoolQueryExecution.StreamExecution(operations, tree.getMaxResults(), keys, getQueryMethod().getFetchSize());
         } else if (getQueryMethod().isCollectionQuery()) {
-            return new PartTreeTarantoolQueryExecution.CollectionExecution(operations);
+            return new PartTreeTarantoolQueryExecution.CollectionExecution(operations, tree.getMaxResults(), keys, getQueryMethod().getFetchSize());
         } else {
-            return new PartTreeTarantoolQueryExecution.SingleEntityExecution(operations);
+            return new PartTreeTarantoolQueryExecution.SingleEntityExecution(operations, tree.getMaxResults(), keys, getQueryMethod().getFetchSize());
+        }
+    }
+
+    /**
+     * Select the results of a prefix scan of the box client in pages of the fetch size, up to the first result
+     * without the prefix
+     */
+    private static List<?> selectPrefix(TarantoolOperations operations, Conditions query, Predicate<Object> clientFilter,
+                                        int fetchSize, Class<?> type) {
+        try (Stream<?> result = operations.stream(query, fetchSize, type)) {
+            return result.takeWhile(clientFilter).collect(Collectors.toList());
         }
     }
 
@@ -73,23 +119,60 @@ public class PartTreeTarantoolQuery extends TarantoolRepositoryQuerySupport {
     @FunctionalInterface
     interface PartTreeTarantoolQueryExecution {
 
-        Object execute(Conditions conditions, Class<?> type);
+        /**
+         * Execute bound queries, results of several queries are merged
+         *
+         * @param queries    bound queries, several for {@code In} criteria and {@code Or} branches
+         * @param clientSort   order to apply to the results on the client, null if the results are in the requested order
+         * @param clientFilter filter of a prefix scan ending at the first rejected result, null if the query is bounded on the server
+         * @param accessor     parameter values of the invocation
+         * @param type         domain type
+         * @return query result
+         */
+        Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                       ParametersParameterAccessor accessor, Class<?> type);
 
         /**
-         * {@link PartTreeTarantoolQueryExecution} for count queries.
+         * {@link PartTreeTarantoolQueryExecution} for count queries. Queries are counted on the server, only
+         * overlapping {@code Or} branches and prefix scans cut on the client are streamed in pages of the fetch size,
+         * keeping just the keys of counted entities.
          *
          * @author Alexander Rublev
          */
         final class CountExecution implements PartTreeTarantoolQueryExecution {
             private final TarantoolOperations operations;
+            @Nullable
+            private final EntityKeyExtractor keys;
+            private final int fetchSize;
 
-            CountExecution(TarantoolOperations operations) {
+            CountExecution(TarantoolOperations operations, @Nullable EntityKeyExtractor keys, int fetchSize) {
                 this.operations = operations;
+                this.keys = keys;
+                this.fetchSize = fetchSize;
             }
 
             @Override
-            public Object execute(Conditions conditions, Class<?> type) {
-                return operations.count(conditions, type);
+            public Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                  ParametersParameterAccessor accessor, Class<?> type) {
+                if (clientFilter != null) {
+                    try (Stream<?> result = operations.stream(TarantoolQueryPlan.singleQuery(queries), fetchSize, type)) {
+                        return result.takeWhile(clientFilter).count();
+                    }
+                }
+                if (keys != null) {
+                    Set<Object> counted = new HashSet<>();
+                    for (Conditions conditions : queries) {
+                        try (Stream<?> result = operations.stream(conditions, fetchSize, type)) {
+                            result.forEach(value -> counted.add(keys.keyOf(value)));
+                        }
+                    }
+                    return (long) counted.size();
+                }
+                long count = 0;
+                for (Conditions conditions : queries) {
+                    count += operations.count(conditions, type);
+                }
+                return count;
             }
         }
 
@@ -106,8 +189,17 @@ public class PartTreeTarantoolQuery extends TarantoolRepositoryQuerySupport {
             }
 
             @Override
-            public Object execute(Conditions conditions, Class<?> type) {
-                return Optional.ofNullable(operations.selectOne(conditions, type)).isPresent();
+            public Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                  ParametersParameterAccessor accessor, Class<?> type) {
+                if (clientFilter != null) {
+                    return operations.select(TarantoolQueryPlan.singleQuery(queries).withLimit(1), type).stream().anyMatch(clientFilter);
+                }
+                for (Conditions conditions : queries) {
+                    if (operations.exists(conditions, type)) {
+                        return true;
+                    }
+                }
+                return false;
             }
         }
 
@@ -124,45 +216,234 @@ public class PartTreeTarantoolQuery extends TarantoolRepositoryQuerySupport {
             }
 
             @Override
-            public Object execute(Conditions conditions, Class<?> type) {
-                return operations.delete(conditions, type);
+            public Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                  ParametersParameterAccessor accessor, Class<?> type) {
+                if (clientFilter != null) {
+                    throw new InvalidDataAccessApiUsageException("Deleting by a prefix is not supported with the box client");
+                }
+                if (queries.size() == 1) {
+                    return operations.delete(queries.get(0), type);
+                }
+                List<Object> deleted = new ArrayList<>();
+                for (Conditions conditions : queries) {
+                    deleted.addAll(operations.delete(conditions, type));
+                }
+                return deleted;
             }
         }
 
         /**
-         * {@link PartTreeTarantoolQueryExecution} for collection returning queries.
+         * {@link PartTreeTarantoolQueryExecution} for collection returning queries. Unpaged prefix scans of the box
+         * client are fetched in pages of the fetch size up to the first result without the prefix.
          *
          * @author Alexander Rublev
          */
         final class CollectionExecution implements PartTreeTarantoolQueryExecution {
             private final TarantoolOperations operations;
+            @Nullable
+            private final Integer maxResults;
+            @Nullable
+            private final EntityKeyExtractor keys;
+            private final int fetchSize;
+
+            CollectionExecution(TarantoolOperations operations, @Nullable Integer maxResults, @Nullable EntityKeyExtractor keys, int fetchSize) {
+                this.operations = operations;
+                this.maxResults = maxResults;
+                this.keys = keys;
+                this.fetchSize = fetchSize;
+            }
+
+            @Override
+            public Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                  ParametersParameterAccessor accessor, Class<?> type) {
+                Pageable pageable = TarantoolQueryPlan.pageable(accessor);
+                if (pageable.isPaged() && clientSort == null) {
+                    return TarantoolQueryPlan.takeWhile(operations.select(TarantoolQueryPlan.singleQuery(queries), pageable, type).getContent(), clientFilter);
+                }
+                List<?> result;
+                if (clientFilter != null) {
+                    result = selectPrefix(operations, TarantoolQueryPlan.singleQuery(queries), clientFilter, fetchSize, type);
+                } else {
+                    result = queries.size() == 1 ? operations.select(queries.get(0), type) : operations.selectAll(queries, type);
+                }
+                if (queries.size() == 1 && clientSort == null) {
+                    return result;
+                }
+                if (keys != null) {
+                    result = keys.distinct(result);
+                }
+                if (clientSort != null) {
+                    if (pageable.isPaged()) {
+                        return clientSort.slice(result, pageable).getContent();
+                    }
+                    result = clientSort.sort(result);
+                }
+                Integer maxResults = TarantoolQueryPlan.maxResults(this.maxResults, accessor);
+                return maxResults != null && result.size() > maxResults ? result.subList(0, maxResults) : result;
+            }
+        }
+
+        /**
+         * {@link PartTreeTarantoolQueryExecution} for queries returning a {@link Stream}. Tuples are fetched in pages
+         * of the fetch size while the stream is consumed, several queries one after another.
+         *
+         * @author Alexander Rublev
+         */
+        final class StreamExecution implements PartTreeTarantoolQueryExecution {
+            private final TarantoolOperations operations;
+            @Nullable
+            private final Integer maxResults;
+            @Nullable
+            private final EntityKeyExtractor keys;
+            private final int fetchSize;
+
+            StreamExecution(TarantoolOperations operations, @Nullable Integer maxResults, @Nullable EntityKeyExtractor keys, int fetchSize) {
+                this.operations = operations;
+                this.maxResults = maxResults;
+                this.keys = keys;
+                this.fetchSize = fetchSize;
+            }
+
+            @Override
+            public Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                  ParametersParameterAccessor accessor, Class<?> type) {
+                if (queries.size() == 1 && clientSort == null && clientFilter == null) {
+                    return operations.stream(queries.get(0), fetchSize, type);
+                }
+                Stream<?> result = queries.stream().flatMap(conditions -> operations.stream(conditions, fetchSize, type));
+                if (clientFilter != null) {
+                    result = result.takeWhile(clientFilter);
+                }
+                if (keys != null) {
+                    Set<Object> seen = new HashSet<>();
+                    result = result.filter(value -> seen.add(keys.keyOf(value)));
+                }
+                if (clientSort != null) {
+                    result = result.sorted(clientSort);
+                }
+                Integer maxResults = TarantoolQueryPlan.maxResults(this.maxResults, accessor);
+                return maxResults == null ? result : result.limit(maxResults);
+            }
+        }
+
+        /**
+         * {@link PartTreeTarantoolQueryExecution} for queries returning a {@link Slice}. Unpaged prefix scans of the box
+         * client are fetched in pages of the fetch size up to the first result without the prefix.
+         *
+         * @author Alexander Rublev
+         */
+        final class SliceExecution implements PartTreeTarantoolQueryExecution {
+            private final TarantoolOperations operations;
+            private final int fetchSize;
 
-            CollectionExecution(TarantoolOperations operations) {
+            SliceExecution(TarantoolOperations operations, int fetchSize) {
                 this.operations = operations;
+                this.fetchSize = fetchSize;
             }
 
             @Override
-            public Object execute(Conditions conditions, Class<?> type) {
-                return operations.select(conditions, type);
+            public Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                  ParametersParameterAccessor accessor, Class<?> type) {
+                Conditions query = TarantoolQueryPlan.singleQuery(queries);
+                Pageable pageable = accessor.getPageable();
+                if (clientSort != null) {
+                    return clientSort.slice(clientFilter == null ? operations.select(query, type)
+                            : selectPrefix(operations, query, clientFilter, fetchSize, type), pageable);
+                }
+                if (clientFilter == null) {
+                    return operations.select(query, pageable, type);
+                }
+                if (pageable.isUnpaged()) {
+                    return new SliceImpl<>(selectPrefix(operations, query, clientFilter, fetchSize, type), pageable, false);
+                }
+                List<?> content = TarantoolQueryPlan.takeWhile(
+                        operations.select(query.withOffset(pageable.getOffset()).withLimit(pageable.getPageSize() + 1), type), clientFilter);
+                boolean hasNext = content.size() > pageable.getPageSize();
+                return new SliceImpl<Object>(new ArrayList<>(hasNext ? content.subList(0, pageable.getPageSize()) : content), pageable, hasNext);
             }
         }
 
         /**
-         * {@link PartTreeTarantoolQueryExecution} to return a single entity.
+         * {@link PartTreeTarantoolQueryExecution} for queries returning a {@link Window} after a keyset position.
+         *
+         * @author Alexander Rublev
+         */
+        final class ScrollExecution implements PartTreeTarantoolQueryExecution {
+            private final TarantoolOperations operations;
+            @Nullable
+            private final Integer maxResults;
+
+            ScrollExecution(TarantoolOperations operations, @Nullable Integer maxResults) {
+                this.operations = operations;
+                this.maxResults = maxResults;
+            }
+
+            @Override
+            public Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                  ParametersParameterAccessor accessor, Class<?> type) {
+                ScrollPosition position = accessor.getScrollPosition();
+                Assert.notNull(position, "ScrollPosition must not be null");
+                if (clientSort != null) {
+                    throw new InvalidDataAccessApiUsageException("Scrolling requires a TREE index matching the sort, but got " + clientSort);
+                }
+                if (clientFilter != null) {
+                    throw new InvalidDataAccessApiUsageException("Scrolling by a prefix is not supported with the box client");
+                }
+
+                return operations.scroll(TarantoolQueryPlan.singleQuery(queries), position, TarantoolQueryPlan.windowSize(maxResults, accessor), type);
+            }
+        }
+
+        /**
+         * {@link PartTreeTarantoolQueryExecution} to return a single entity. At most two entities are fetched
+         * to check that the result is unique, unless the first entity is chosen by a sort applied on the client.
          *
          * @author Alexander Rublev
          */
         final class SingleEntityExecution implements PartTreeTarantoolQueryExecution {
             private final TarantoolOperations operations;
+            @Nullable
+            private final Integer maxResults;
+            @Nullable
+            private final EntityKeyExtractor keys;
+            private final int fetchSize;
 
-            SingleEntityExecution(TarantoolOperations operations) {
+            SingleEntityExecution(TarantoolOperations operations, @Nullable Integer maxResults, @Nullable EntityKeyExtractor keys, int fetchSize) {
                 this.operations = operations;
+                this.maxResults = maxResults;
+                this.keys = keys;
+                this.fetchSize = fetchSize;
             }
 
             @Override
             @Nullable
-            public Object execute(Conditions conditions, Class<?> type) {
-                return operations.selectOne(conditions, type);
+            public Object execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                  ParametersParameterAccessor accessor, Class<?> type) {
+                Integer maxResults = TarantoolQueryPlan.maxResults(this.maxResults, accessor);
+                if (maxResults == null) {
+                    queries = queries.stream().map(conditions -> TarantoolTupleMethodsHelper.limited(conditions, 2)).collect(Collectors.toList());
+                }
+                List<?> result;
+                if (clientFilter != null) {
+                    result = selectPrefix(operations, TarantoolQueryPlan.singleQuery(queries), clientFilter, fetchSize, type);
+                } else {
+                    result = queries.size() == 1 ? operations.select(queries.get(0), type) : operations.selectAll(queries, type);
+                }
+                if (keys != null) {
+                    result = keys.distinct(result);
+                }
+                if (maxResults != null) {
+                    if (clientSort != null) {
+                        result = clientSort.sort(result);
+                    }
+                    if (result.size() > maxResults) {
+                        result = result.subList(0, maxResults);
+                    }
+                }
+                if (result.size() > 1) {
+                    throw new IncorrectResultSizeDataAccessException(1, result.size());
+                }
+                return result.isEmpty() ? null : result.get(0);
             }
         }
     }
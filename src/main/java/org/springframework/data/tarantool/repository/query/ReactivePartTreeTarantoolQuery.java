@@ -2,14 +2,26 @@ package org.springframework.data.tarantool.repository.query;
 
 import io.tarantool.driver.api.conditions.Conditions;
 import org.reactivestreams.Publisher;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
-import org.springframework.data.tarantool.core.convert.TarantoolConverter;
-import org.springframework.data.tarantool.core.query.Query;
+import org.springframework.data.tarantool.core.TarantoolTupleMethodsHelper;
+import org.springframework.data.tarantool.core.query.ClientSort;
+import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Reactive PartTree {@link RepositoryQuery} implementation for Tarantool.
@@ -18,8 +30,10 @@ import reactor.core.publisher.Flux;
  */
 public class ReactivePartTreeTarantoolQuery extends TarantoolRepositoryQuerySupport {
     private final ReactiveTarantoolOperations operations;
-    private final TarantoolConverter converter;
     private final PartTree tree;
+    private final Class<?> domainType;
+    private final Lazy<TarantoolQueryPlan> plan;
+    private final PartTreeTarantoolQueryExecution execution;
 
     /**
      * Create a new {@link ReactivePartTreeTarantoolQuery} from the given {@link ReactiveTarantoolQueryMethod} and
@@ -32,23 +46,22 @@ public class ReactivePartTreeTarantoolQuery extends TarantoolRepositoryQuerySupp
                                           ReactiveTarantoolOperations operations) {
         super(queryMethod, operations.getConverter());
         this.operations = operations;
-        this.converter = operations.getConverter();
-        this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
+        this.domainType = queryMethod.getResultProcessor().getReturnedType().getDomainType();
+        this.tree = new PartTree(queryMethod.getName(), domainType);
+        this.plan = Lazy.of(() -> TarantoolQueryPlan.compile(queryMethod.getName(), tree,
+                operations.getConverter().getMappingContext().getRequiredPersistentEntity(domainType), operations.getConverter(), operations));
+        this.execution = createExecution();
     }
 
     @Nullable
     @Override
     public Object execute(Object[] parameters) {
-        final Class<?> type = getQueryMethod().getResultProcessor().getReturnedType().getDomainType();
-        ParametersParameterAccessor parameterAccessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
-        TarantoolQueryCreator queryCreator = new TarantoolQueryCreator(tree, parameterAccessor, converter, operations.isProxyClient());
-
-        try {
-            Query query = queryCreator.createQuery();
-            return Flux.defer(() -> getExecution().execute(query.getConditions(), type));
-        } catch (Exception e) {
-            return Flux.error(e);
-        }
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+        return Flux.defer(() -> {
+            TarantoolQueryPlan queryPlan = plan.get();
+            List<Conditions> queries = queryPlan.bind(accessor);
+            return execution.execute(queries, queryPlan.getClientSort(accessor), queryPlan.getClientFilter(accessor), accessor, domainType);
+        });
     }
 
     /**
@@ -57,16 +70,25 @@ public class ReactivePartTreeTarantoolQuery extends TarantoolRepositoryQuerySupp
      * @return never {@literal null}.
      */
     public PartTreeTarantoolQueryExecution getExecution() {
+        return execution;
+    }
+
+    private PartTreeTarantoolQueryExecution createExecution() {
+        EntityKeyExtractor keys = tree.stream().count() > 1
+                ? new EntityKeyExtractor(operations.getConverter().getMappingContext().getRequiredPersistentEntity(domainType))
+                : null;
         if (tree.isCountProjection()) {
-            return new PartTreeTarantoolQueryExecution.CountExecution(operations);
+            return new PartTreeTarantoolQueryExecution.CountExecution(operations, keys, getQueryMethod().getFetchSize());
         } else if (tree.isExistsProjection()) {
             return new PartTreeTarantoolQueryExecution.ExistsExecution(operations);
         } else if (tree.isDelete()) {
             return new PartTreeTarantoolQueryExecution.DeleteExecution(operations);
+        } else if (getQueryMethod().isScrollQuery()) {
+            return new PartTreeTarantoolQueryExecution.ScrollExecution(operations, tree.getMaxResults());
         } else if (getQueryMethod().isCollectionQuery()) {
-            return new PartTreeTarantoolQueryExecution.CollectionExecution(operations);
+            return new PartTreeTarantoolQueryExecution.CollectionExecution(operations, tree.getMaxResults(), keys, getQueryMethod().getFetchSize());
         } else {
-            return new PartTreeTarantoolQueryExecution.SingleEntityExecution(operations);
+            return new PartTreeTarantoolQueryExecution.SingleEntityExecution(operations, tree.getMaxResults(), keys, getQueryMethod().getFetchSize());
         }
     }
 
@@ -78,7 +100,18 @@ public class ReactivePartTreeTarantoolQuery extends TarantoolRepositoryQuerySupp
     @FunctionalInterface
     interface PartTreeTarantoolQueryExecution {
 
-        Publisher<? extends Object> execute(Conditions conditions, Class<?> type);
+        /**
+         * Execute bound queries, results of several queries are merged
+         *
+         * @param queries    bound queries, several for {@code In} criteria and {@code Or} branches
+         * @param clientSort   order to apply to the results on the client, null if the results are in the requested order
+         * @param clientFilter filter of a prefix scan ending at the first rejected result, null if the query is bounded on the server
+         * @param accessor     parameter values of the invocation
+         * @param type         domain type
+         * @return query result
+         */
+        Publisher<? extends Object> execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                            ParametersParameterAccessor accessor, Class<?> type);
 
         /**
          * {@link ReactivePartTreeTarantoolQuery.PartTreeTarantoolQueryExecution} for count queries.
@@ -87,14 +120,32 @@ public class ReactivePartTreeTarantoolQuery extends TarantoolRepositoryQuerySupp
          */
         final class CountExecution implements PartTreeTarantoolQueryExecution {
             private final ReactiveTarantoolOperations operations;
+            @Nullable
+            private final EntityKeyExtractor keys;
+            private final int fetchSize;
 
-            CountExecution(ReactiveTarantoolOperations operations) {
+            CountExecution(ReactiveTarantoolOperations operations, @Nullable EntityKeyExtractor keys, int fetchSize) {
                 this.operations = operations;
+                this.keys = keys;
+                this.fetchSize = fetchSize;
             }
 
             @Override
-            public Publisher<? extends Object> execute(Conditions conditions, Class<?> type) {
-                return operations.count(conditions, type);
+            public Publisher<? extends Object> execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                                       ParametersParameterAccessor accessor, Class<?> type) {
+                if (clientFilter != null) {
+                    return operations.stream(TarantoolQueryPlan.singleQuery(queries), fetchSize, type).takeWhile(clientFilter).count();
+                }
+                if (keys != null) {
+                    return Flux.fromIterable(queries)
+                            .concatMap(conditions -> operations.stream(conditions, fetchSize, type))
+                            .map(keys::keyOf)
+                            .distinct()
+                            .count();
+                }
+                return Flux.fromIterable(queries)
+                        .concatMap(conditions -> operations.count(conditions, type))
+                        .reduce(0L, Long::sum);
             }
         }
 
@@ -111,9 +162,14 @@ public class ReactivePartTreeTarantoolQuery extends TarantoolRepositoryQuerySupp
             }
 
             @Override
-            public Publisher<? extends Object> execute(Conditions conditions, Class<?> type) {
-                return operations.selectOne(conditions, type).map(v -> true)
-                        .defaultIfEmpty(false);
+            public Publisher<? extends Object> execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                                       ParametersParameterAccessor accessor, Class<?> type) {
+                if (clientFilter != null) {
+                    return operations.select(TarantoolQueryPlan.singleQuery(queries).withLimit(1), type).any(clientFilter);
+                }
+                return Flux.fromIterable(queries)
+                        .concatMap(conditions -> operations.exists(conditions, type))
+                        .any(Boolean::booleanValue);
             }
         }
 
@@ -130,44 +186,157 @@ public class ReactivePartTreeTarantoolQuery extends TarantoolRepositoryQuerySupp
             }
 
             @Override
-            public Publisher<? extends Object> execute(Conditions conditions, Class<?> type) {
-                return operations.delete(conditions, type).then();
+            public Publisher<? extends Object> execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                                       ParametersParameterAccessor accessor, Class<?> type) {
+                if (clientFilter != null) {
+                    throw new InvalidDataAccessApiUsageException("Deleting by a prefix is not supported with the box client");
+                }
+                return Flux.fromIterable(queries)
+                        .concatMap(conditions -> operations.delete(conditions, type))
+                        .then();
             }
         }
 
         /**
          * {@link ReactivePartTreeTarantoolQuery.PartTreeTarantoolQueryExecution} for collection returning queries.
+         * Unpaged queries are fetched in pages of the fetch size on demand, several queries one after another.
          *
          * @author Alexander Rublev
          */
         final class CollectionExecution implements PartTreeTarantoolQueryExecution {
             private final ReactiveTarantoolOperations operations;
+            @Nullable
+            private final Integer maxResults;
+            @Nullable
+            private final EntityKeyExtractor keys;
+            private final int fetchSize;
 
-            CollectionExecution(ReactiveTarantoolOperations operations) {
+            CollectionExecution(ReactiveTarantoolOperations operations, @Nullable Integer maxResults, @Nullable EntityKeyExtractor keys,
+                                int fetchSize) {
                 this.operations = operations;
+                this.maxResults = maxResults;
+                this.keys = keys;
+                this.fetchSize = fetchSize;
             }
 
             @Override
-            public Publisher<? extends Object> execute(Conditions conditions, Class<?> type) {
-                return operations.select(conditions, type);
+            public Publisher<? extends Object> execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                                       ParametersParameterAccessor accessor, Class<?> type) {
+                Pageable pageable = TarantoolQueryPlan.pageable(accessor);
+                if (clientSort != null) {
+                    Flux<?> result = Flux.fromIterable(queries).concatMap(conditions -> operations.stream(conditions, fetchSize, type));
+                    if (clientFilter != null) {
+                        result = result.takeWhile(clientFilter);
+                    }
+                    if (keys != null) {
+                        result = result.distinct(keys::keyOf);
+                    }
+                    result = result.sort(clientSort);
+                    if (pageable.isPaged()) {
+                        return result.skip(pageable.getOffset()).take(pageable.getPageSize());
+                    }
+                    Integer maxResults = TarantoolQueryPlan.maxResults(this.maxResults, accessor);
+                    return maxResults == null ? result : result.take(maxResults);
+                }
+                if (pageable.isPaged()) {
+                    Conditions query = TarantoolQueryPlan.singleQuery(queries).withOffset(pageable.getOffset()).withLimit(pageable.getPageSize());
+                    Flux<?> result = operations.select(query, type);
+                    return clientFilter == null ? result : result.takeWhile(clientFilter);
+                }
+                if (queries.size() == 1 && clientFilter == null) {
+                    return operations.stream(queries.get(0), fetchSize, type);
+                }
+                Flux<?> result = Flux.fromIterable(queries).concatMap(conditions -> operations.stream(conditions, fetchSize, type));
+                if (clientFilter != null) {
+                    result = result.takeWhile(clientFilter);
+                }
+                if (keys != null) {
+                    result = result.distinct(keys::keyOf);
+                }
+                Integer maxResults = TarantoolQueryPlan.maxResults(this.maxResults, accessor);
+                return maxResults == null ? result : result.take(maxResults);
+            }
+        }
+
+        /**
+         * {@link ReactivePartTreeTarantoolQuery.PartTreeTarantoolQueryExecution} for queries returning a {@link Window}
+         * after a keyset position.
+         *
+         * @author Alexander Rublev
+         */
+        final class ScrollExecution implements PartTreeTarantoolQueryExecution {
+            private final ReactiveTarantoolOperations operations;
+            @Nullable
+            private final Integer maxResults;
+
+            ScrollExecution(ReactiveTarantoolOperations operations, @Nullable Integer maxResults) {
+                this.operations = operations;
+                this.maxResults = maxResults;
+            }
+
+            @Override
+            public Publisher<? extends Object> execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                                       ParametersParameterAccessor accessor, Class<?> type) {
+                ScrollPosition position = accessor.getScrollPosition();
+                Assert.notNull(position, "ScrollPosition must not be null");
+                if (clientSort != null) {
+                    throw new InvalidDataAccessApiUsageException("Scrolling requires a TREE index matching the sort, but got " + clientSort);
+                }
+                if (clientFilter != null) {
+                    throw new InvalidDataAccessApiUsageException("Scrolling by a prefix is not supported with the box client");
+                }
+
+                return operations.scroll(TarantoolQueryPlan.singleQuery(queries), position, TarantoolQueryPlan.windowSize(maxResults, accessor), type);
             }
         }
 
         /**
-         * {@link ReactivePartTreeTarantoolQuery.PartTreeTarantoolQueryExecution} to return a single entity.
+         * {@link ReactivePartTreeTarantoolQuery.PartTreeTarantoolQueryExecution} to return a single entity. At most two
+         * entities are fetched to check that the result is unique, unless the first entity is chosen by a sort applied
+         * on the client.
          *
          * @author Alexander Rublev
          */
         final class SingleEntityExecution implements PartTreeTarantoolQueryExecution {
             private final ReactiveTarantoolOperations operations;
+            @Nullable
+            private final Integer maxResults;
+            @Nullable
+            private final EntityKeyExtractor keys;
+            private final int fetchSize;
 
-            SingleEntityExecution(ReactiveTarantoolOperations operations) {
+            SingleEntityExecution(ReactiveTarantoolOperations operations, @Nullable Integer maxResults, @Nullable EntityKeyExtractor keys,
+                                  int fetchSize) {
                 this.operations = operations;
+                this.maxResults = maxResults;
+                this.keys = keys;
+                this.fetchSize = fetchSize;
             }
 
             @Override
-            public Publisher<? extends Object> execute(Conditions conditions, Class<?> type) {
-                return operations.selectOne(conditions, type);
+            public Publisher<? extends Object> execute(List<Conditions> queries, @Nullable ClientSort clientSort, @Nullable Predicate<Object> clientFilter,
+                                                       ParametersParameterAccessor accessor, Class<?> type) {
+                Integer maxResults = TarantoolQueryPlan.maxResults(this.maxResults, accessor);
+                if (maxResults == null) {
+                    queries = queries.stream().map(conditions -> TarantoolTupleMethodsHelper.limited(conditions, 2)).collect(Collectors.toList());
+                }
+                Flux<?> result;
+                if (clientFilter != null) {
+                    result = operations.stream(TarantoolQueryPlan.singleQuery(queries), fetchSize, type).takeWhile(clientFilter);
+                } else {
+                    result = queries.size() == 1 ? operations.select(queries.get(0), type) : operations.selectAll(queries, type);
+                }
+                if (keys != null) {
+                    result = result.distinct(keys::keyOf);
+                }
+                if (maxResults != null) {
+                    result = clientSort != null ? result.sort(clientSort).take(maxResults) : result.take(maxResults);
+                }
+                return result.take(2)
+                        .collectList()
+                        .flatMap(found -> found.size() > 1
+                                ? Mono.<Object>error(new IncorrectResultSizeDataAccessException(1, found.size()))
+                                : Mono.<Object>justOrEmpty(found.isEmpty() ? null : found.get(0)));
             }
         }
     }
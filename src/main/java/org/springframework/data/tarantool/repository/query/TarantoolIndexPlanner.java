@@ -0,0 +1,220 @@
+package org.springframework.data.tarantool.repository.query;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.tarantool.core.query.IndexSort;
+import org.springframework.data.tarantool.core.query.TarantoolIndexes;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Chooses a space index for the criteria of a derived query. Equality criteria covering a prefix of index parts
+ * are turned into an index key lookup and a single range or prefix criterion on the first index part into an index
+ * iterator. Criteria not covered by the index are left as field conditions, which only the proxy client sends along
+ * with an index condition, so the box client requires an index covering all criteria. Only TREE indexes are ordered,
+ * HASH indexes are used for lookups by the full key and BITSET and RTREE indexes are never chosen
+ *
+ * @author Alexander Rublev
+ */
+final class TarantoolIndexPlanner {
+
+    private TarantoolIndexPlanner() {
+    }
+
+    /**
+     * Choose the index for the given criteria. Indexes covering all criteria are preferred, then the ones covering
+     * more criteria
+     *
+     * @param criteria      criteria of a derived query
+     * @param spaceMetadata metadata of the queried space
+     * @param indexes       indexes of the queried space
+     * @param partial       whether an index may cover some of the criteria only
+     * @return index access or empty if no index covers the criteria
+     */
+    static Optional<IndexAccess> plan(List<TarantoolQueryPlan.Criterion> criteria, TarantoolSpaceMetadata spaceMetadata,
+                                      Collection<TarantoolIndexMetadata> indexes, boolean partial) {
+        if (criteria.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int[] fieldPositions = new int[criteria.size()];
+        for (int i = 0; i < criteria.size(); i++) {
+            Optional<TarantoolFieldMetadata> field = spaceMetadata.getFieldByName(criteria.get(i).getFieldName());
+            fieldPositions[i] = field.map(TarantoolFieldMetadata::getFieldPosition).orElse(-1);
+            if (fieldPositions[i] < 0 && !partial) {
+                return Optional.empty();
+            }
+        }
+
+        List<TarantoolIndexMetadata> candidates = new ArrayList<>(indexes);
+        candidates.sort(Comparator.comparingInt(TarantoolIndexMetadata::getIndexId));
+
+        IndexAccess best = null;
+        for (TarantoolIndexMetadata index : candidates) {
+            IndexAccess access = match(criteria, fieldPositions, index, partial);
+            if (access != null && (best == null || access.rank > best.rank)) {
+                best = access;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Match the criteria with the index. Accesses covering all criteria are ranked from 0 for a range scan up to 3
+     * for a unique key lookup, partial accesses are ranked below 0 by the number of criteria left uncovered
+     */
+    @Nullable
+    private static IndexAccess match(List<TarantoolQueryPlan.Criterion> criteria, int[] fieldPositions, TarantoolIndexMetadata index,
+                                     boolean partial) {
+        TarantoolIndexType indexType = index.getIndexType();
+        if (indexType == TarantoolIndexType.BITSET || indexType == TarantoolIndexType.RTREE) {
+            return null;
+        }
+        List<Integer> parts = TarantoolIndexes.partPositions(index);
+        if (parts.isEmpty()) {
+            return null;
+        }
+        boolean tree = TarantoolIndexes.isTree(index);
+
+        List<Integer> order = new ArrayList<>();
+        boolean[] used = new boolean[criteria.size()];
+        for (int part = 0; part < parts.size() && order.size() < criteria.size(); part++) {
+            int found = -1;
+            for (int i = 0; i < criteria.size(); i++) {
+                if (!used[i] && criteria.get(i).isEquality() && fieldPositions[i] == parts.get(part)) {
+                    found = i;
+                    break;
+                }
+            }
+            if (found < 0) {
+                break;
+            }
+            used[found] = true;
+            order.add(found);
+        }
+
+        if (order.isEmpty()) {
+            if (!tree) {
+                return null;
+            }
+            for (int i = 0; i < criteria.size(); i++) {
+                TarantoolQueryPlan.Criterion criterion = criteria.get(i);
+                if ((criterion.isRange() || criterion.isPrefix()) && fieldPositions[i] == parts.get(0)
+                        && (criteria.size() == 1 || partial)) {
+                    return new IndexAccess(index.getIndexName(), criterion.getType(), new int[]{i}, criteria.size() == 1 ? 0 : -2 * criteria.size());
+                }
+            }
+            return null;
+        }
+        if (!tree && parts.size() != order.size()) {
+            return null;
+        }
+
+        int[] criterionOrder = order.stream().mapToInt(Integer::intValue).toArray();
+        if (order.size() < criteria.size()) {
+            return partial
+                    ? new IndexAccess(index.getIndexName(), Part.Type.SIMPLE_PROPERTY, criterionOrder, -2 * (criteria.size() - order.size()) + 1)
+                    : null;
+        }
+        int rank = 1;
+        if (parts.size() == criteria.size()) {
+            rank += index.getIndexOptions().isUnique() ? 2 : 1;
+        }
+        return new IndexAccess(index.getIndexName(), Part.Type.SIMPLE_PROPERTY, criterionOrder, rank);
+    }
+
+    /**
+     * Access to the space through a chosen index
+     */
+    static final class IndexAccess {
+        private final String indexName;
+        private final Part.Type type;
+        private final int[] criterionOrder;
+        private final int rank;
+
+        private IndexAccess(String indexName, Part.Type type, int[] criterionOrder, int rank) {
+            this.indexName = indexName;
+            this.type = type;
+            this.criterionOrder = criterionOrder;
+            this.rank = rank;
+        }
+
+        String getIndexName() {
+            return indexName;
+        }
+
+        /**
+         * Whether the criterion is a part of the index condition, other criteria are applied as field conditions
+         *
+         * @param criterion number of the criterion in the order of query method parts
+         * @return true if the index condition includes the criterion
+         */
+        boolean covers(int criterion) {
+            for (int i : criterionOrder) {
+                if (i == criterion) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Whether the index iterator returns tuples in the given order
+         *
+         * @param indexSort requested order
+         * @return true if the same index is scanned in the same direction
+         */
+        boolean isOrderedBy(IndexSort indexSort) {
+            if (!indexName.equals(indexSort.getIndexName())) {
+                return false;
+            }
+            switch (type) {
+                case BEFORE:
+                case LESS_THAN:
+                case LESS_THAN_EQUAL:
+                    return indexSort.isDescending();
+                default:
+                    return !indexSort.isDescending();
+            }
+        }
+
+        /**
+         * Build index conditions from criterion values
+         *
+         * @param values values of criteria in the order of query method parts
+         * @return new index conditions
+         */
+        Conditions conditions(Object[] values) {
+            List<Object> key = new ArrayList<>(criterionOrder.length);
+            for (int i : criterionOrder) {
+                key.add(values[i]);
+            }
+
+            switch (type) {
+                case AFTER:
+                case GREATER_THAN:
+                    return Conditions.indexGreaterThan(indexName, key);
+                case GREATER_THAN_EQUAL:
+                case STARTING_WITH:
+                case LIKE:
+                    return Conditions.indexGreaterOrEquals(indexName, key);
+                case BEFORE:
+                case LESS_THAN:
+                    return Conditions.indexLessThan(indexName, key);
+                case LESS_THAN_EQUAL:
+                    return Conditions.indexLessOrEquals(indexName, key);
+                default:
+                    return Conditions.indexEquals(indexName, key);
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package org.springframework.data.tarantool.repository.query;
 
 import io.tarantool.driver.api.conditions.Conditions;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
@@ -17,13 +16,15 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.Iterator;
-import java.util.Optional;
 
 /**
  * Custom query creator to create Tarantool criteria
  *
  * @author Alexander Rublev
+ * @deprecated derived query methods are compiled by {@link TarantoolQueryPlan} once per method, this creator is
+ * no longer used and will be removed
  */
+@Deprecated
 public class TarantoolQueryCreator extends AbstractQueryCreator<Query, Conditions> {
     private final MappingContext<?, TarantoolPersistentProperty> mappingContext;
     private final TarantoolConverter converter;
@@ -81,70 +82,10 @@ public class TarantoolQueryCreator extends AbstractQueryCreator<Query, Condition
     }
 
     private Conditions from(Part part, TarantoolPersistentProperty property, Iterator<Object> parameters) {
-        Part.Type type = part.getType();
-
-        switch (type) {
-            case AFTER:
-            case GREATER_THAN:
-                return query.getConditions().andGreaterThan(property.getFieldName(), getValue(property, parameters));
-            case GREATER_THAN_EQUAL:
-                return query.getConditions().andGreaterOrEquals(property.getFieldName(), getValue(property, parameters));
-            case BEFORE:
-            case LESS_THAN:
-                return query.getConditions().andLessThan(property.getFieldName(), getValue(property, parameters));
-            case LESS_THAN_EQUAL:
-                return query.getConditions().andLessOrEquals(property.getFieldName(), getValue(property, parameters));
-            case BETWEEN:
-                if (!proxyClient) {
-                    throw new UnsupportedOperationException("Multiple conditions on same index not supported yet in driver");
-                }
-
-                Object value = getValue(property, parameters);
-                if (!(value instanceof Range)) {
-                    return query.getConditions().andGreaterOrEquals(property.getFieldName(), value)
-                            .andLessOrEquals(property.getFieldName(), getValue(property, parameters));
-                }
-
-                Range<?> range = (Range<?>) value;
-                Optional<?> min = range.getLowerBound().getValue();
-                Optional<?> max = range.getUpperBound().getValue();
-
-                min.ifPresent(it -> {
-                    if (range.getLowerBound().isInclusive()) {
-                        query.getConditions().andGreaterOrEquals(property.getFieldName(), it);
-                    } else {
-                        query.getConditions().andGreaterThan(property.getFieldName(), it);
-                    }
-                });
-
-                max.ifPresent(it -> {
-                    if (range.getUpperBound().isInclusive()) {
-                        query.getConditions().andLessOrEquals(property.getFieldName(), it);
-                    } else {
-                        query.getConditions().andLessThan(property.getFieldName(), it);
-                    }
-                });
-
-                return query.getConditions();
-            case TRUE:
-                return query.getConditions().andEquals(property.getFieldName(), true);
-            case FALSE:
-                return query.getConditions().andEquals(property.getFieldName(), false);
-            case SIMPLE_PROPERTY:
-                return query.getConditions().andEquals(property.getFieldName(), getValue(property, parameters));
-            default:
-                throw new InvalidDataAccessApiUsageException(
-                        String.format("Unsupported keyword [%s] in part [%s]", type, part));
+        TarantoolQueryPlan.Criterion criterion = TarantoolQueryPlan.Criterion.of(part, property, converter, proxyClient);
+        if (criterion.isPrefix() && !proxyClient) {
+            throw new UnsupportedOperationException("Prefix scans need multiple conditions on same index, not supported yet in driver");
         }
-    }
-
-    private Object getValue(TarantoolPersistentProperty property, Iterator<Object> parameters) {
-        Object value = parameters.next();
-        if (!value.getClass().equals(property.getType())) {
-            throw new InvalidDataAccessApiUsageException(
-                    String.format("Unsupported parameter type usage, should be %s but was %s", property.getType(), value.getClass()));
-        }
-
-        return converter.convertToWritableType(value);
+        return criterion.apply(query.getConditions(), parameters);
     }
 }
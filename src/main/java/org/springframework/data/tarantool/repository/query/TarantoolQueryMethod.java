@@ -7,10 +7,13 @@ import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.data.tarantool.core.TarantoolTupleMethodsHelper;
+import org.springframework.data.tarantool.repository.FetchSize;
 import org.springframework.data.tarantool.repository.Query;
 import org.springframework.data.tarantool.repository.support.MappingTarantoolEntityInformation;
 import org.springframework.data.tarantool.repository.support.TarantoolEntityMetadata;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
@@ -23,6 +26,7 @@ import java.util.Optional;
  */
 public class TarantoolQueryMethod extends QueryMethod {
     private final Optional<Query> query;
+    private final Optional<FetchSize> fetchSize;
     private final MappingContext<? extends TarantoolPersistentEntity<?>, ? extends TarantoolPersistentProperty> mappingContext;
     private @Nullable
     TarantoolEntityMetadata<?> entityMetadata;
@@ -40,6 +44,7 @@ public class TarantoolQueryMethod extends QueryMethod {
                                 MappingContext<? extends TarantoolPersistentEntity<?>, ? extends TarantoolPersistentProperty> mappingContext) {
         super(method, metadata, factory);
         this.query = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Query.class));
+        this.fetchSize = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, FetchSize.class));
         this.mappingContext = mappingContext;
     }
 
@@ -73,4 +78,16 @@ public class TarantoolQueryMethod extends QueryMethod {
     public String getAnnotatedQuery() {
         return query.map(Query::function).orElse(null);
     }
+
+    /**
+     * Returns the number of tuples fetched per request by streaming queries, declared in a {@link FetchSize} annotation
+     * or {@link TarantoolTupleMethodsHelper#DEFAULT_FETCH_SIZE} if the annotation is not present.
+     *
+     * @return the fetch size
+     */
+    public int getFetchSize() {
+        int value = fetchSize.map(FetchSize::value).orElse(TarantoolTupleMethodsHelper.DEFAULT_FETCH_SIZE);
+        Assert.isTrue(value > 0, "Fetch size must be positive");
+        return value;
+    }
 }
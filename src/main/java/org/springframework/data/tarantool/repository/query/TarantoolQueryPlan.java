@@ -0,0 +1,750 @@
+package org.springframework.data.tarantool.repository.query;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.tarantool.core.TarantoolClientAware;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.data.tarantool.core.query.ClientSort;
+import org.springframework.data.tarantool.core.query.IndexSort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled form of a derived query method. Property paths, field names and operators are resolved once
+ * per query method, so only the parameters are bound into {@link Conditions} on every invocation. When the space
+ * has an index covering the criteria, the plan queries that index instead of filtering by fields. With the proxy
+ * client the index may cover some criteria only, the others are sent along as field conditions. Criteria with
+ * {@code In} keyword are expanded into separate conditions for every value and every {@code Or} branch is bound
+ * into its own conditions, executed as a batch. Several {@code In} criteria multiply the number of conditions, which
+ * is capped by {@link #MAX_QUERIES}. Prefix criteria scan the index from the prefix and are bounded on the server by
+ * the smallest string greater than all strings with the prefix. The box client supports a single condition per index,
+ * so there a prefix criterion must be the only criterion of the query, its TREE index is scanned from the prefix and
+ * the results are cut on the client at the first entity without the prefix. Static and dynamic sorts are resolved to
+ * the index iterator returning tuples in the requested order. Sorts without a matching TREE index are applied on the
+ * client, so such queries are not limited on the server
+ *
+ * @author Alexander Rublev
+ */
+final class TarantoolQueryPlan {
+    private static final Logger log = LoggerFactory.getLogger(TarantoolQueryPlan.class);
+
+    /**
+     * Max number of conditions a single invocation is bound into, every one of them is a separate request
+     */
+    static final int MAX_QUERIES = Optional.ofNullable(System.getProperty("tarantool.query.maxQueries"))
+            .map(Integer::parseInt)
+            .orElse(1000);
+
+    private final String methodName;
+    private final List<Branch> branches;
+    @Nullable
+    private final Integer limit;
+    private final Sort sort;
+    private final TarantoolPersistentEntity<?> entity;
+    private final TarantoolClientAware clientAware;
+    private final boolean filteredOnClient;
+    private final Map<Sort, Optional<IndexSort>> indexSorts = new ConcurrentHashMap<>();
+    private final Map<Sort, ClientSort> clientSorts = new ConcurrentHashMap<>();
+
+    private TarantoolQueryPlan(String methodName, List<Branch> branches, @Nullable Integer limit, Sort sort,
+                               TarantoolPersistentEntity<?> entity, TarantoolClientAware clientAware, boolean filteredOnClient) {
+        this.methodName = methodName;
+        this.branches = branches;
+        this.limit = limit;
+        this.sort = sort;
+        this.entity = entity;
+        this.clientAware = clientAware;
+        this.filteredOnClient = filteredOnClient;
+    }
+
+    /**
+     * Compile the plan of a derived query
+     *
+     * @param methodName  name of the query method, used for logging
+     * @param tree        part tree of the query method
+     * @param entity      queried entity
+     * @param converter   converter to resolve properties and convert parameter values
+     * @param clientAware source of space and index metadata
+     * @return compiled plan
+     * @throws UnsupportedOperationException if a prefix criterion can't be executed by the box client
+     */
+    static TarantoolQueryPlan compile(String methodName, PartTree tree, TarantoolPersistentEntity<?> entity,
+                                      TarantoolConverter converter, TarantoolClientAware clientAware) {
+        boolean proxyClient = clientAware.isProxyClient();
+        Integer limit = tree.isLimiting() ? (tree.getMaxResults() == null ? 0 : tree.getMaxResults()) : null;
+        List<Branch> branches = new ArrayList<>();
+        for (PartTree.OrPart orPart : tree) {
+            List<Criterion> criteria = new ArrayList<>();
+            for (Part part : orPart) {
+                PersistentPropertyPath<TarantoolPersistentProperty> path = converter.getMappingContext().getPersistentPropertyPath(part.getProperty());
+                TarantoolPersistentProperty property = path.getLeafProperty();
+
+                Assert.state(property != null && path.toDotPath() != null, "Leaf property must not be null");
+
+                criteria.add(Criterion.of(part, property, converter, proxyClient));
+            }
+            TarantoolIndexPlanner.IndexAccess indexAccess = planIndexAccess(methodName, entity.getSpaceName(), criteria, clientAware, proxyClient);
+            branches.add(new Branch(Collections.unmodifiableList(criteria), indexAccess));
+        }
+        if (branches.isEmpty()) {
+            branches.add(new Branch(Collections.emptyList(), null));
+        }
+
+        boolean filteredOnClient = !proxyClient && branches.stream().anyMatch(Branch::hasPrefix);
+        if (filteredOnClient && (branches.size() > 1 || branches.get(0).criteria.size() > 1 || branches.get(0).indexAccess == null)) {
+            throw new UnsupportedOperationException(String.format(
+                    "Prefix scans with the box client need a TREE index on the field of the only criterion of query method %s", methodName));
+        }
+        return new TarantoolQueryPlan(methodName, Collections.unmodifiableList(branches), limit, tree.getSort(), entity, clientAware,
+                filteredOnClient);
+    }
+
+    @Nullable
+    private static TarantoolIndexPlanner.IndexAccess planIndexAccess(String methodName, String spaceName, List<Criterion> criteria,
+                                                                     TarantoolClientAware clientAware, boolean proxyClient) {
+        if (criteria.isEmpty()) {
+            return null;
+        }
+
+        Optional<TarantoolSpaceMetadata> spaceMetadata;
+        Map<String, TarantoolIndexMetadata> indexes;
+        try {
+            spaceMetadata = clientAware.spaceMetadata(spaceName);
+            indexes = clientAware.spaceIndexes(spaceName);
+        } catch (RuntimeException e) {
+            log.debug("Index metadata of space {} is not available for query method {}: {}", spaceName, methodName, e.getMessage());
+            return null;
+        }
+        if (spaceMetadata == null || spaceMetadata.isEmpty() || indexes == null || indexes.isEmpty()) {
+            return null;
+        }
+
+        Optional<TarantoolIndexPlanner.IndexAccess> indexAccess = TarantoolIndexPlanner.plan(criteria, spaceMetadata.get(), indexes.values(), proxyClient);
+        if (indexAccess.isPresent()) {
+            log.debug("Query method {} uses index {} of space {}", methodName, indexAccess.get().getIndexName(), spaceName);
+        } else {
+            log.warn("Query method {} has no index matching its criteria and may scan the whole space {}", methodName, spaceName);
+        }
+        return indexAccess.orElse(null);
+    }
+
+    /**
+     * Get the name of the index queried by a branch of the plan
+     *
+     * @param branch number of the {@code Or} branch
+     * @return index name or empty if the branch uses field conditions
+     */
+    Optional<String> getIndexName(int branch) {
+        TarantoolIndexPlanner.IndexAccess indexAccess = branches.get(branch).indexAccess;
+        return indexAccess == null ? Optional.empty() : Optional.of(indexAccess.getIndexName());
+    }
+
+    /**
+     * Whether the plan has several {@code Or} branches, which results may overlap
+     *
+     * @return true for disjunctive queries
+     */
+    boolean isDisjunction() {
+        return branches.size() > 1;
+    }
+
+    /**
+     * Get the max number of results of the query method
+     *
+     * @return limit or null if the query method is not limiting
+     */
+    @Nullable
+    Integer getLimit() {
+        return limit;
+    }
+
+    /**
+     * Get the index order of query results. A {@link Sort} or {@link org.springframework.data.domain.Pageable}
+     * parameter overrides the {@code OrderBy} clause of the query method
+     *
+     * @param accessor parameter values
+     * @return index sort or null if the query is not sorted or no TREE index matches the sort
+     */
+    @Nullable
+    IndexSort getIndexSort(ParametersParameterAccessor accessor) {
+        Sort effectiveSort = effectiveSort(accessor);
+        if (effectiveSort.isUnsorted()) {
+            return null;
+        }
+        return indexSorts.computeIfAbsent(effectiveSort, it -> {
+            Optional<IndexSort> indexSort = IndexSort.resolve(it, entity, clientAware);
+            if (indexSort.isEmpty()) {
+                log.warn("Query method {} has no TREE index matching {} and will sort all results on the client", methodName, it);
+            }
+            return indexSort;
+        }).orElse(null);
+    }
+
+    /**
+     * Get the order of query results to apply on the client, when no TREE index matches the sort
+     *
+     * @param accessor parameter values
+     * @return client sort or null if the query is not sorted or sorted by an index
+     */
+    @Nullable
+    ClientSort getClientSort(ParametersParameterAccessor accessor) {
+        if (getIndexSort(accessor) != null) {
+            return null;
+        }
+        Sort effectiveSort = effectiveSort(accessor);
+        return effectiveSort.isUnsorted() ? null : clientSorts.computeIfAbsent(effectiveSort, it -> ClientSort.of(it, entity));
+    }
+
+    /**
+     * Get the filter of entities found by a prefix scan of the box client, which is not bounded on the server.
+     * The scanned index returns the entities with the prefix first, so the results end at the first entity
+     * rejected by the filter
+     *
+     * @param accessor parameter values
+     * @return client filter or null if the query is bounded on the server
+     */
+    @Nullable
+    Predicate<Object> getClientFilter(ParametersParameterAccessor accessor) {
+        if (!filteredOnClient) {
+            return null;
+        }
+        Criterion criterion = branches.get(0).criteria.get(0);
+        return criterion.matcher(entity, criterion.take(accessor.iterator()));
+    }
+
+    /**
+     * Keep the results of a prefix scan up to the first result rejected by the client filter
+     *
+     * @param result       query results
+     * @param clientFilter filter of a prefix scan, null if all results match
+     * @param <T>          result type
+     * @return the given results or a new cut list
+     */
+    static <T> List<T> takeWhile(List<T> result, @Nullable Predicate<Object> clientFilter) {
+        return clientFilter == null ? result : result.stream().takeWhile(clientFilter).collect(Collectors.toList());
+    }
+
+    private Sort effectiveSort(ParametersParameterAccessor accessor) {
+        Sort dynamicSort = accessor.getSort();
+        return dynamicSort.isSorted() ? dynamicSort : sort;
+    }
+
+    /**
+     * Bind parameter values of an invocation into query conditions. Every combination of values of
+     * {@code In} criteria and every {@code Or} branch is bound into separate conditions, other queries
+     * are bound into single conditions. All conditions are limited by the query method name or its {@link Limit}
+     * parameter, except queries sorted on the client
+     *
+     * @param accessor parameter values
+     * @return new query conditions, empty if some {@code In} criterion has no values
+     * @throws InvalidDataAccessApiUsageException if a query sorted by an index is bound into several conditions,
+     *                                            a prefix scan of the box client is sorted by another index or
+     *                                            the query is bound into more than {@link #MAX_QUERIES} conditions
+     * @throws IllegalArgumentException           if values of some {@code In} criterion contain null
+     */
+    List<Conditions> bind(ParametersParameterAccessor accessor) {
+        IndexSort indexSort = getIndexSort(accessor);
+        if (filteredOnClient && indexSort != null && !branches.get(0).indexAccess.isOrderedBy(indexSort)) {
+            throw new InvalidDataAccessApiUsageException("Prefix scans with the box client can't be sorted by another index, but got " + indexSort);
+        }
+        Integer limit = indexSort != null || effectiveSort(accessor).isUnsorted() ? maxResults(this.limit, accessor) : null;
+        Iterator<Object> parameterValues = accessor.iterator();
+        List<Conditions> queries = new ArrayList<>(branches.size());
+        for (Branch branch : branches) {
+            branch.bind(parameterValues, indexSort, limit, queries);
+        }
+        if (indexSort != null && queries.size() > 1) {
+            throw new InvalidDataAccessApiUsageException("Sorting by index is not supported for queries with In or Or criteria");
+        }
+        return queries;
+    }
+
+    /**
+     * Get the only query of paged and scrolled executions
+     *
+     * @param queries bound queries
+     * @return the only query
+     * @throws InvalidDataAccessApiUsageException if the query method uses {@code In} or {@code Or}
+     */
+    static Conditions singleQuery(List<Conditions> queries) {
+        if (queries.size() != 1) {
+            throw new InvalidDataAccessApiUsageException("Paging and scrolling are not supported for queries with In or Or criteria");
+        }
+        return queries.get(0);
+    }
+
+    /**
+     * Get the max number of results of an invocation, the smaller of the query method name limit and
+     * its {@link Limit} parameter
+     *
+     * @param maxResults max results from the query method name
+     * @param accessor   parameter values of the invocation
+     * @return max number of results or null if the invocation is not limited
+     */
+    @Nullable
+    static Integer maxResults(@Nullable Integer maxResults, ParametersParameterAccessor accessor) {
+        if (!accessor.getParameters().hasLimitParameter()) {
+            return maxResults;
+        }
+        Limit limit = accessor.getLimit();
+        if (limit.isUnlimited()) {
+            return maxResults;
+        }
+        return maxResults == null ? limit.max() : Math.min(maxResults, limit.max());
+    }
+
+    /**
+     * Get the {@link Pageable} parameter of an invocation. Unlike {@link ParametersParameterAccessor#getPageable()},
+     * a {@link Limit} parameter does not page the query, it is applied as max results instead
+     *
+     * @param accessor parameter values of the invocation
+     * @return pageable parameter or unpaged if the query method has none
+     */
+    static Pageable pageable(ParametersParameterAccessor accessor) {
+        return accessor.getParameters().hasPageableParameter() ? accessor.getPageable() : Pageable.unpaged();
+    }
+
+    /**
+     * Get the number of entities in a window from the query method name or its {@link Limit} parameter
+     *
+     * @param maxResults max results from the query method name
+     * @param accessor   parameter values of the invocation
+     * @return window size
+     */
+    static int windowSize(@Nullable Integer maxResults, ParametersParameterAccessor accessor) {
+        if (maxResults != null) {
+            return maxResults;
+        }
+        Limit limit = accessor.getLimit();
+        if (limit.isUnlimited()) {
+            throw new InvalidDataAccessApiUsageException("Scroll queries require a limit, use First/Top keyword or a Limit parameter");
+        }
+        return limit.max();
+    }
+
+    /**
+     * Criteria of a single {@code Or} branch with the index chosen for them
+     */
+    private static final class Branch {
+        private final List<Criterion> criteria;
+        @Nullable
+        private final TarantoolIndexPlanner.IndexAccess indexAccess;
+
+        private Branch(List<Criterion> criteria, @Nullable TarantoolIndexPlanner.IndexAccess indexAccess) {
+            this.criteria = criteria;
+            this.indexAccess = indexAccess;
+        }
+
+        private boolean hasPrefix() {
+            return criteria.stream().anyMatch(Criterion::isPrefix);
+        }
+
+        private void bind(Iterator<Object> parameterValues, @Nullable IndexSort indexSort, @Nullable Integer limit, List<Conditions> queries) {
+            Object[][] arguments = new Object[criteria.size()][];
+            for (int i = 0; i < criteria.size(); i++) {
+                arguments[i] = criteria.get(i).take(parameterValues);
+            }
+            expand(arguments, 0, indexSort, limit, queries);
+        }
+
+        private void expand(Object[][] arguments, int index, @Nullable IndexSort indexSort, @Nullable Integer limit, List<Conditions> queries) {
+            if (index == criteria.size()) {
+                if (queries.size() == MAX_QUERIES) {
+                    throw new InvalidDataAccessApiUsageException(String.format(
+                            "In criteria are expanded into more than %d queries, set tarantool.query.maxQueries to allow more", MAX_QUERIES));
+                }
+                queries.add(build(arguments, indexSort, limit));
+                return;
+            }
+
+            Criterion criterion = criteria.get(index);
+            if (criterion.getType() != Part.Type.IN) {
+                expand(arguments, index + 1, indexSort, limit, queries);
+                return;
+            }
+
+            Object[] values = arguments[index];
+            for (Object value : criterion.distinctValues(values[0])) {
+                arguments[index] = new Object[]{value};
+                expand(arguments, index + 1, indexSort, limit, queries);
+            }
+            arguments[index] = values;
+        }
+
+        private Conditions build(Object[][] arguments, @Nullable IndexSort indexSort, @Nullable Integer limit) {
+            if (indexAccess != null && (indexSort == null || indexAccess.isOrderedBy(indexSort))) {
+                Object[] criterionValues = new Object[criteria.size()];
+                for (int i = 0; i < criteria.size(); i++) {
+                    if (indexAccess.covers(i)) {
+                        criterionValues[i] = criteria.get(i).value(arguments[i]);
+                    }
+                }
+                Conditions conditions = indexAccess.conditions(criterionValues);
+                for (int i = 0; i < criteria.size(); i++) {
+                    if (!indexAccess.covers(i)) {
+                        criteria.get(i).apply(conditions, arguments[i]);
+                    } else if (criteria.get(i).isPrefix()) {
+                        criteria.get(i).upperBound(conditions, (String) criterionValues[i]);
+                    }
+                }
+                return limit == null ? conditions : conditions.withLimit(limit);
+            }
+
+            Conditions conditions = indexSort == null ? Conditions.any() : indexSort.toConditions();
+            if (limit != null) {
+                conditions.withLimit(limit);
+            }
+            for (int i = 0; i < criteria.size(); i++) {
+                criteria.get(i).apply(conditions, arguments[i]);
+            }
+            return conditions;
+        }
+    }
+
+    /**
+     * Condition on a single field built from a part of the query method name
+     */
+    static final class Criterion {
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+
+        private final Part.Type type;
+        private final TarantoolPersistentProperty property;
+        private final String fieldName;
+        private final TarantoolConverter converter;
+        private final boolean proxyClient;
+
+        private Criterion(Part.Type type, TarantoolPersistentProperty property, TarantoolConverter converter, boolean proxyClient) {
+            this.type = type;
+            this.property = property;
+            this.fieldName = property.getFieldName();
+            this.converter = converter;
+            this.proxyClient = proxyClient;
+        }
+
+        static Criterion of(Part part, TarantoolPersistentProperty property, TarantoolConverter converter, boolean proxyClient) {
+            Part.Type type = part.getType();
+            if (type == Part.Type.BETWEEN && !proxyClient) {
+                throw new UnsupportedOperationException("Multiple conditions on same index not supported yet in driver");
+            }
+            if ((type == Part.Type.STARTING_WITH || type == Part.Type.LIKE) && !CharSequence.class.isAssignableFrom(property.getType())) {
+                throw new InvalidDataAccessApiUsageException(
+                        String.format("Keyword [%s] requires a string property, but got %s in part [%s]", type, property.getType(), part));
+            }
+
+            switch (type) {
+                case BETWEEN:
+                case AFTER:
+                case GREATER_THAN:
+                case GREATER_THAN_EQUAL:
+                case BEFORE:
+                case LESS_THAN:
+                case LESS_THAN_EQUAL:
+                case TRUE:
+                case FALSE:
+                case IN:
+                case STARTING_WITH:
+                case LIKE:
+                case SIMPLE_PROPERTY:
+                    return new Criterion(type, property, converter, proxyClient);
+                default:
+                    throw new InvalidDataAccessApiUsageException(
+                            String.format("Unsupported keyword [%s] in part [%s]", type, part));
+            }
+        }
+
+        Part.Type getType() {
+            return type;
+        }
+
+        String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * Whether the criterion compares the field with a single value for equality. {@code In} criteria
+         * are bound with a single value per query
+         *
+         * @return true for equality criteria
+         */
+        boolean isEquality() {
+            return type == Part.Type.SIMPLE_PROPERTY || type == Part.Type.IN || type == Part.Type.TRUE || type == Part.Type.FALSE;
+        }
+
+        /**
+         * Whether the criterion compares the field with a single value by order
+         *
+         * @return true for one-sided range criteria
+         */
+        boolean isRange() {
+            switch (type) {
+                case AFTER:
+                case GREATER_THAN:
+                case GREATER_THAN_EQUAL:
+                case BEFORE:
+                case LESS_THAN:
+                case LESS_THAN_EQUAL:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * Whether the criterion matches strings starting with a prefix
+         *
+         * @return true for {@code StartingWith} and {@code Like} criteria
+         */
+        boolean isPrefix() {
+            return type == Part.Type.STARTING_WITH || type == Part.Type.LIKE;
+        }
+
+        /**
+         * Consume the parameter values required by the criterion
+         *
+         * @param parameterValues remaining parameter values
+         * @return consumed values, not converted
+         */
+        Object[] take(Iterator<Object> parameterValues) {
+            switch (type) {
+                case TRUE:
+                case FALSE:
+                    return NO_ARGUMENTS;
+                case BETWEEN:
+                    Object value = parameterValues.next();
+                    return value instanceof Range ? new Object[]{value} : new Object[]{value, parameterValues.next()};
+                default:
+                    return new Object[]{parameterValues.next()};
+            }
+        }
+
+        /**
+         * Get distinct values of an {@code In} criterion parameter
+         *
+         * @param parameter collection, array or single value
+         * @return distinct values in parameter order
+         * @throws IllegalArgumentException if the values contain null
+         */
+        Collection<Object> distinctValues(@Nullable Object parameter) {
+            Set<Object> values = new LinkedHashSet<>();
+            if (parameter instanceof Collection) {
+                values.addAll((Collection<?>) parameter);
+            } else if (parameter != null && parameter.getClass().isArray()) {
+                for (int i = 0; i < Array.getLength(parameter); i++) {
+                    values.add(Array.get(parameter, i));
+                }
+            } else {
+                values.add(parameter);
+            }
+            if (values.contains(null)) {
+                throw new IllegalArgumentException(String.format("Values of In criterion on field %s must not contain null", fieldName));
+            }
+            return values;
+        }
+
+        /**
+         * Get the value compared with the field
+         *
+         * @param arguments consumed parameter values
+         * @return converted value
+         */
+        Object value(Object[] arguments) {
+            Assert.state(isEquality() || isRange() || isPrefix(), "Criterion must compare the field with a single value");
+            switch (type) {
+                case STARTING_WITH:
+                case LIKE:
+                    return prefix(arguments[0]);
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                default:
+                    return convert(arguments[0]);
+            }
+        }
+
+        /**
+         * Append the condition to the given conditions, consuming the required parameter values
+         *
+         * @param conditions      conditions to append to
+         * @param parameterValues remaining parameter values
+         * @return the given conditions
+         */
+        Conditions apply(Conditions conditions, Iterator<Object> parameterValues) {
+            if (type == Part.Type.IN) {
+                throw new InvalidDataAccessApiUsageException("In criterion on field " + fieldName + " can't be applied to single conditions");
+            }
+            return apply(conditions, take(parameterValues));
+        }
+
+        /**
+         * Append the condition to the given conditions
+         *
+         * @param conditions conditions to append to
+         * @param arguments  consumed parameter values
+         * @return the given conditions
+         */
+        Conditions apply(Conditions conditions, Object[] arguments) {
+            switch (type) {
+                case AFTER:
+                case GREATER_THAN:
+                    return conditions.andGreaterThan(fieldName, convert(arguments[0]));
+                case GREATER_THAN_EQUAL:
+                    return conditions.andGreaterOrEquals(fieldName, convert(arguments[0]));
+                case BEFORE:
+                case LESS_THAN:
+                    return conditions.andLessThan(fieldName, convert(arguments[0]));
+                case LESS_THAN_EQUAL:
+                    return conditions.andLessOrEquals(fieldName, convert(arguments[0]));
+                case BETWEEN:
+                    return between(conditions, arguments);
+                case STARTING_WITH:
+                case LIKE:
+                    String prefix = prefix(arguments[0]);
+                    return upperBound(conditions.andGreaterOrEquals(fieldName, prefix), prefix);
+                case TRUE:
+                    return conditions.andEquals(fieldName, true);
+                case FALSE:
+                    return conditions.andEquals(fieldName, false);
+                default:
+                    return conditions.andEquals(fieldName, convert(arguments[0]));
+            }
+        }
+
+        /**
+         * Create the filter of entities which field starts with the prefix of the criterion
+         *
+         * @param entity    queried entity
+         * @param arguments consumed parameter values
+         * @return entity filter
+         */
+        Predicate<Object> matcher(TarantoolPersistentEntity<?> entity, Object[] arguments) {
+            Assert.state(isPrefix(), "Criterion must match strings starting with a prefix");
+            String prefix = prefix(arguments[0]);
+            return value -> {
+                Object field = entity.getPropertyAccessor(value).getProperty(property);
+                return field != null && field.toString().startsWith(prefix);
+            };
+        }
+
+        /**
+         * Append the condition which stops a scan from the prefix at the first string without the prefix.
+         * The box client supports a single condition per index, so there the scan is cut on the client
+         *
+         * @param conditions conditions to append to
+         * @param prefix     string prefix
+         * @return the given conditions
+         */
+        Conditions upperBound(Conditions conditions, String prefix) {
+            if (!proxyClient) {
+                return conditions;
+            }
+            String bound = successor(prefix);
+            return bound == null ? conditions : conditions.andLessThan(fieldName, bound);
+        }
+
+        /**
+         * Get the smallest string greater than all strings starting with the prefix in binary collation
+         *
+         * @param prefix string prefix
+         * @return upper bound or null if all strings start with the prefix
+         */
+        @Nullable
+        static String successor(String prefix) {
+            int end = prefix.length();
+            while (end > 0) {
+                int codePoint = prefix.codePointBefore(end);
+                int charCount = Character.charCount(codePoint);
+                if (codePoint < Character.MAX_CODE_POINT) {
+                    int next = codePoint + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : codePoint + 1;
+                    return prefix.substring(0, end - charCount) + new String(Character.toChars(next));
+                }
+                end -= charCount;
+            }
+            return null;
+        }
+
+        private String prefix(Object value) {
+            if (!(value instanceof CharSequence)) {
+                throw new InvalidDataAccessApiUsageException(
+                        String.format("Unsupported parameter type usage, should be %s but was %s", property.getType(), value.getClass()));
+            }
+
+            String prefix = value.toString();
+            if (type == Part.Type.LIKE) {
+                if (prefix.isEmpty() || prefix.indexOf('%') != prefix.length() - 1) {
+                    throw new InvalidDataAccessApiUsageException(
+                            String.format("Only prefix patterns ending with %% are supported for field %s, but got %s", fieldName, prefix));
+                }
+                prefix = prefix.substring(0, prefix.length() - 1);
+            }
+            return prefix;
+        }
+
+        private Conditions between(Conditions conditions, Object[] arguments) {
+            Object value = arguments[0];
+            if (!(value instanceof Range)) {
+                return conditions.andGreaterOrEquals(fieldName, convert(value))
+                        .andLessOrEquals(fieldName, convert(arguments[1]));
+            }
+
+            Range<?> range = (Range<?>) value;
+            Optional<?> min = range.getLowerBound().getValue();
+            Optional<?> max = range.getUpperBound().getValue();
+
+            min.ifPresent(it -> {
+                if (range.getLowerBound().isInclusive()) {
+                    conditions.andGreaterOrEquals(fieldName, it);
+                } else {
+                    conditions.andGreaterThan(fieldName, it);
+                }
+            });
+
+            max.ifPresent(it -> {
+                if (range.getUpperBound().isInclusive()) {
+                    conditions.andLessOrEquals(fieldName, it);
+                } else {
+                    conditions.andLessThan(fieldName, it);
+                }
+            });
+
+            return conditions;
+        }
+
+        private Object convert(Object value) {
+            if (!value.getClass().equals(property.getType())) {
+                throw new InvalidDataAccessApiUsageException(
+                        String.format("Unsupported parameter type usage, should be %s but was %s", property.getType(), value.getClass()));
+            }
+
+            return converter.convertToWritableType(value, property);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.springframework.data.tarantool.repository.support;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fluent query by example executed by {@link SimpleTarantoolRepository}. Results can be projected to interfaces
+ * backed by the entities. Whole tuples are always fetched, so the projected properties are not used
+ *
+ * @author Alexander Rublev
+ */
+class FetchableFluentQueryByExample<S, R> implements FluentQuery.FetchableFluentQuery<R> {
+    static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+    private final Example<S> example;
+    private final Class<R> resultType;
+    private final Sort sort;
+    private final Limit limit;
+    private final SimpleTarantoolRepository<? super S, ?> repository;
+
+    FetchableFluentQueryByExample(Example<S> example, Class<R> resultType, SimpleTarantoolRepository<? super S, ?> repository) {
+        this(example, resultType, Sort.unsorted(), Limit.unlimited(), repository);
+    }
+
+    private FetchableFluentQueryByExample(Example<S> example, Class<R> resultType, Sort sort, Limit limit,
+                                          SimpleTarantoolRepository<? super S, ?> repository) {
+        this.example = example;
+        this.resultType = resultType;
+        this.sort = sort;
+        this.limit = limit;
+        this.repository = repository;
+    }
+
+    @Override
+    public FetchableFluentQuery<R> sortBy(Sort sort) {
+        Assert.notNull(sort, "Sort must not be null");
+
+        return new FetchableFluentQueryByExample<>(example, resultType, this.sort.and(sort), limit, repository);
+    }
+
+    @Override
+    public FetchableFluentQuery<R> limit(int limit) {
+        Assert.isTrue(limit > 0, "Limit must be positive");
+
+        return new FetchableFluentQueryByExample<>(example, resultType, sort, Limit.of(limit), repository);
+    }
+
+    @Override
+    public <P> FetchableFluentQuery<P> as(Class<P> resultType) {
+        Assert.notNull(resultType, "Result type must not be null");
+
+        verifyResultType(resultType, example.getProbeType());
+        return new FetchableFluentQueryByExample<>(example, resultType, sort, limit, repository);
+    }
+
+    @Override
+    public FetchableFluentQuery<R> project(Collection<String> properties) {
+        Assert.notNull(properties, "Projected properties must not be null");
+
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public R oneValue() {
+        List<S> result = repository.findAll(example, sort, Limit.of(2));
+        if (result.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, result.size());
+        }
+        return result.isEmpty() ? null : map(result.get(0));
+    }
+
+    @Override
+    @Nullable
+    public R firstValue() {
+        List<S> result = repository.findAll(example, sort, Limit.of(1));
+        return result.isEmpty() ? null : map(result.get(0));
+    }
+
+    @Override
+    public List<R> all() {
+        return repository.findAll(example, sort, limit).stream().map(this::map).collect(Collectors.toList());
+    }
+
+    @Override
+    public Page<R> page(Pageable pageable) {
+        Assert.notNull(pageable, "Pageable must not be null");
+
+        return repository.findAll(example, sorted(pageable, sort)).map(this::map);
+    }
+
+    @Override
+    public Stream<R> stream() {
+        return all().stream();
+    }
+
+    @Override
+    public long count() {
+        return repository.count(example);
+    }
+
+    @Override
+    public boolean exists() {
+        return repository.exists(example);
+    }
+
+    private R map(S entity) {
+        return project(entity, resultType);
+    }
+
+    static <R> R project(Object entity, Class<R> resultType) {
+        return resultType.isInstance(entity) ? resultType.cast(entity) : PROJECTION_FACTORY.createProjection(resultType, entity);
+    }
+
+    static void verifyResultType(Class<?> resultType, Class<?> probeType) {
+        if (!resultType.isInterface() && !resultType.isAssignableFrom(probeType)) {
+            throw new InvalidDataAccessApiUsageException(
+                    "Only interface projections of fluent queries are supported, but got " + resultType.getName());
+        }
+    }
+
+    /**
+     * Apply the sort of the query to pageable requests that have none
+     */
+    static Pageable sorted(Pageable pageable, Sort sort) {
+        if (pageable.getSort().isSorted() || sort.isUnsorted()) {
+            return pageable;
+        }
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort) : Pageable.unpaged(sort);
+    }
+}
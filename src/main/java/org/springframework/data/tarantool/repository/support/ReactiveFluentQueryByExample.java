@@ -0,0 +1,113 @@
+package org.springframework.data.tarantool.repository.support;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Reactive fluent query by example executed by {@link SimpleReactiveTarantoolRepository}. Results can be projected to
+ * interfaces backed by the entities. Whole tuples are always fetched, so the projected properties are not used
+ *
+ * @author Alexander Rublev
+ */
+class ReactiveFluentQueryByExample<S, R> implements FluentQuery.ReactiveFluentQuery<R> {
+    private final Example<S> example;
+    private final Class<R> resultType;
+    private final Sort sort;
+    private final Limit limit;
+    private final SimpleReactiveTarantoolRepository<? super S, ?> repository;
+
+    ReactiveFluentQueryByExample(Example<S> example, Class<R> resultType, SimpleReactiveTarantoolRepository<? super S, ?> repository) {
+        this(example, resultType, Sort.unsorted(), Limit.unlimited(), repository);
+    }
+
+    private ReactiveFluentQueryByExample(Example<S> example, Class<R> resultType, Sort sort, Limit limit,
+                                         SimpleReactiveTarantoolRepository<? super S, ?> repository) {
+        this.example = example;
+        this.resultType = resultType;
+        this.sort = sort;
+        this.limit = limit;
+        this.repository = repository;
+    }
+
+    @Override
+    public ReactiveFluentQuery<R> sortBy(Sort sort) {
+        Assert.notNull(sort, "Sort must not be null");
+
+        return new ReactiveFluentQueryByExample<>(example, resultType, this.sort.and(sort), limit, repository);
+    }
+
+    @Override
+    public ReactiveFluentQuery<R> limit(int limit) {
+        Assert.isTrue(limit > 0, "Limit must be positive");
+
+        return new ReactiveFluentQueryByExample<>(example, resultType, sort, Limit.of(limit), repository);
+    }
+
+    @Override
+    public <P> ReactiveFluentQuery<P> as(Class<P> resultType) {
+        Assert.notNull(resultType, "Result type must not be null");
+
+        FetchableFluentQueryByExample.verifyResultType(resultType, example.getProbeType());
+        return new ReactiveFluentQueryByExample<>(example, resultType, sort, limit, repository);
+    }
+
+    @Override
+    public ReactiveFluentQuery<R> project(Collection<String> properties) {
+        Assert.notNull(properties, "Projected properties must not be null");
+
+        return this;
+    }
+
+    @Override
+    public Mono<R> one() {
+        return repository.findAll(example, sort, Limit.of(2)).collectList()
+                .flatMap(result -> {
+                    if (result.size() > 1) {
+                        return Mono.error(new IncorrectResultSizeDataAccessException(1, result.size()));
+                    }
+                    return Mono.justOrEmpty(result.isEmpty() ? null : map(result.get(0)));
+                });
+    }
+
+    @Override
+    public Mono<R> first() {
+        return repository.findAll(example, sort, Limit.of(1)).next().map(this::map);
+    }
+
+    @Override
+    public Flux<R> all() {
+        return repository.findAll(example, sort, limit).map(this::map);
+    }
+
+    @Override
+    public Mono<Page<R>> page(Pageable pageable) {
+        Assert.notNull(pageable, "Pageable must not be null");
+
+        return repository.findAll(example, FetchableFluentQueryByExample.sorted(pageable, sort))
+                .map(page -> page.map(this::map));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return repository.count(example);
+    }
+
+    @Override
+    public Mono<Boolean> exists() {
+        return repository.exists(example);
+    }
+
+    private R map(S entity) {
+        return FetchableFluentQueryByExample.project(entity, resultType);
+    }
+}
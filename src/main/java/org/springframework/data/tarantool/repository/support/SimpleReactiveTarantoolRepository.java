@@ -2,13 +2,31 @@ package org.springframework.data.tarantool.repository.support;
 
 import io.tarantool.driver.api.conditions.Conditions;
 import org.reactivestreams.Publisher;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
+import org.springframework.data.tarantool.core.TarantoolTupleMethodsHelper;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.query.ClientSort;
+import org.springframework.data.tarantool.core.query.ExampleConditions;
+import org.springframework.data.tarantool.core.query.IndexSort;
 import org.springframework.data.tarantool.repository.ReactiveTarantoolRepository;
 import org.springframework.data.tarantool.repository.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+import java.util.function.Function;
+
 /**
  * Reactive repository base implementation for Tarantool.
  *
@@ -70,8 +88,7 @@ public class SimpleReactiveTarantoolRepository<T, ID> implements ReactiveTaranto
     public Mono<Boolean> existsById(ID id) {
         Assert.notNull(id, "The given id must not be null");
 
-        return operations.selectById(id, entityInformation.getJavaType()).map(entity -> true)
-                .defaultIfEmpty(false);
+        return operations.existsById(id, entityInformation.getJavaType());
     }
 
     @Override
@@ -88,6 +105,11 @@ public class SimpleReactiveTarantoolRepository<T, ID> implements ReactiveTaranto
 
     @Override
     public Flux<T> findAll(Sort sort) {
+        IndexSort indexSort = sort.toIndexSort();
+        if (indexSort != null) {
+            return operations.select(indexSort.toConditions(), entityInformation.getJavaType());
+        }
+
         if (sort.isAscending()) {
             return operations.select(Conditions.ascending(), entityInformation.getJavaType());
         }
@@ -99,6 +121,36 @@ public class SimpleReactiveTarantoolRepository<T, ID> implements ReactiveTaranto
         throw new IllegalArgumentException(sort + "is not supported");
     }
 
+    @Override
+    public Flux<T> findAll(org.springframework.data.domain.Sort sort) {
+        Assert.notNull(sort, "Sort must not be null");
+
+        return findAll(sort, Limit.unlimited());
+    }
+
+    @Override
+    public Flux<T> findAll(org.springframework.data.domain.Sort sort, Limit limit) {
+        Assert.notNull(sort, "Sort must not be null");
+        Assert.notNull(limit, "Limit must not be null");
+
+        return Flux.defer(() -> {
+            Optional<IndexSort> indexSort = indexSort(sort);
+            if (sort.isSorted() && indexSort.isEmpty()) {
+                Flux<T> result = operations.select(entityInformation.getJavaType()).sort(clientSort(sort));
+                return limit.isLimited() ? result.take(limit.max()) : result;
+            }
+            Conditions query = indexSort.map(IndexSort::toConditions).orElseGet(Conditions::any);
+            return operations.select(limit.isLimited() ? query.withLimit(limit.max()) : query, entityInformation.getJavaType());
+        });
+    }
+
+    @Override
+    public Mono<Window<T>> findAll(ScrollPosition position, int limit) {
+        Assert.notNull(position, "ScrollPosition must not be null");
+
+        return operations.scroll(Conditions.any(), position, limit, entityInformation.getJavaType());
+    }
+
     @Override
     public Flux<T> findAllById(Iterable<ID> ids) {
         Assert.notNull(ids, "The given Iterable of ids must not be null");
@@ -164,4 +216,105 @@ public class SimpleReactiveTarantoolRepository<T, ID> implements ReactiveTaranto
     public Mono<Void> deleteAll() {
         return operations.truncate(entityInformation.getJavaType()).then();
     }
+
+    @Override
+    public <S extends T> Mono<S> findOne(Example<S> example) {
+        Assert.notNull(example, "Example must not be null");
+
+        return Mono.defer(() -> operations.select(
+                        TarantoolTupleMethodsHelper.limited(exampleQuery(example, null), 2),
+                        example.getProbeType()).collectList())
+                .flatMap(result -> {
+                    if (result.size() > 1) {
+                        return Mono.<S>error(new IncorrectResultSizeDataAccessException(1, result.size()));
+                    }
+                    return Mono.justOrEmpty(result.isEmpty() ? null : result.get(0));
+                });
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example) {
+        Assert.notNull(example, "Example must not be null");
+
+        return Flux.defer(() -> operations.select(exampleQuery(example, null), example.getProbeType()));
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example, org.springframework.data.domain.Sort sort) {
+        Assert.notNull(example, "Example must not be null");
+        Assert.notNull(sort, "Sort must not be null");
+
+        return findAll(example, sort, Limit.unlimited());
+    }
+
+    <S extends T> Flux<S> findAll(Example<S> example, org.springframework.data.domain.Sort sort, Limit limit) {
+        return Flux.defer(() -> {
+            Optional<IndexSort> indexSort = indexSort(sort);
+            Conditions query = exampleQuery(example, indexSort.orElse(null));
+            if (sort.isSorted() && indexSort.isEmpty()) {
+                Flux<S> result = operations.select(query, example.getProbeType()).sort(clientSort(sort));
+                return limit.isLimited() ? result.take(limit.max()) : result;
+            }
+            return operations.select(limit.isLimited() ? query.withLimit(limit.max()) : query, example.getProbeType());
+        });
+    }
+
+    <S extends T> Mono<Page<S>> findAll(Example<S> example, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return findAll(example, pageable.getSort()).collectList().map(PageImpl::new);
+        }
+
+        org.springframework.data.domain.Sort sort = pageable.getSort();
+        Flux<S> content = Flux.defer(() -> {
+            Optional<IndexSort> indexSort = indexSort(sort);
+            Conditions query = exampleQuery(example, indexSort.orElse(null));
+            if (sort.isSorted() && indexSort.isEmpty()) {
+                return operations.select(query, example.getProbeType()).sort(clientSort(sort))
+                        .skip(pageable.getOffset())
+                        .take(pageable.getPageSize());
+            }
+            return operations.select(query.withOffset(pageable.getOffset()).withLimit(pageable.getPageSize()), example.getProbeType());
+        });
+        return content.collectList()
+                .flatMap(result -> count(example).map(total -> new PageImpl<>(result, pageable, total)));
+    }
+
+    @Override
+    public <S extends T> Mono<Long> count(Example<S> example) {
+        Assert.notNull(example, "Example must not be null");
+
+        return Mono.defer(() -> operations.count(exampleQuery(example, null), example.getProbeType()));
+    }
+
+    @Override
+    public <S extends T> Mono<Boolean> exists(Example<S> example) {
+        Assert.notNull(example, "Example must not be null");
+
+        return Mono.defer(() -> operations.exists(exampleQuery(example, null), example.getProbeType()));
+    }
+
+    @Override
+    public <S extends T, R, P extends Publisher<R>> P findBy(Example<S> example,
+                                                            Function<FluentQuery.ReactiveFluentQuery<S>, P> queryFunction) {
+        Assert.notNull(example, "Example must not be null");
+        Assert.notNull(queryFunction, "Query function must not be null");
+
+        return queryFunction.apply(new ReactiveFluentQueryByExample<>(example, example.getProbeType(), this));
+    }
+
+    private Conditions exampleQuery(Example<?> example, @Nullable IndexSort indexSort) {
+        return ExampleConditions.of(example, indexSort, operations.getConverter(), operations);
+    }
+
+    private Optional<IndexSort> indexSort(org.springframework.data.domain.Sort sort) {
+        return sort.isUnsorted() ? Optional.empty() : IndexSort.resolve(sort, persistentEntity(), operations);
+    }
+
+    private ClientSort clientSort(org.springframework.data.domain.Sort sort) {
+        return ClientSort.of(sort, persistentEntity());
+    }
+
+    private TarantoolPersistentEntity<?> persistentEntity() {
+        return operations.getConverter().getMappingContext().getRequiredPersistentEntity(entityInformation.getJavaType());
+    }
 }
@@ -1,7 +1,23 @@
 package org.springframework.data.tarantool.repository.support;
 
 import io.tarantool.driver.api.conditions.Conditions;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.tarantool.core.TarantoolOperations;
+import org.springframework.data.tarantool.core.TarantoolTupleMethodsHelper;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.query.ClientSort;
+import org.springframework.data.tarantool.core.query.ExampleConditions;
+import org.springframework.data.tarantool.core.query.IndexSort;
 import org.springframework.data.tarantool.repository.Sort;
 import org.springframework.data.tarantool.repository.TarantoolRepository;
 import org.springframework.lang.Nullable;
@@ -11,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Repository base implementation for Tarantool.
@@ -65,7 +82,7 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
     public boolean existsById(ID id) {
         Assert.notNull(id, "The given id must not be null");
 
-        return Optional.ofNullable(operations.selectById(id, entityInformation.getJavaType())).isPresent();
+        return operations.existsById(id, entityInformation.getJavaType());
     }
 
     @Override
@@ -75,6 +92,11 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
 
     @Override
     public List<T> findAll(Sort sort) {
+        IndexSort indexSort = sort.toIndexSort();
+        if (indexSort != null) {
+            return operations.select(indexSort.toConditions(), entityInformation.getJavaType());
+        }
+
         if (sort.isAscending()) {
             return operations.select(Conditions.ascending(), entityInformation.getJavaType());
         }
@@ -86,6 +108,46 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
         throw new IllegalArgumentException(sort + "is not supported");
     }
 
+    @Override
+    public List<T> findAll(org.springframework.data.domain.Sort sort) {
+        Assert.notNull(sort, "Sort must not be null");
+
+        return findAll(sort, Limit.unlimited());
+    }
+
+    @Override
+    public List<T> findAll(org.springframework.data.domain.Sort sort, Limit limit) {
+        Assert.notNull(sort, "Sort must not be null");
+        Assert.notNull(limit, "Limit must not be null");
+
+        Optional<IndexSort> indexSort = indexSort(sort);
+        if (sort.isSorted() && indexSort.isEmpty()) {
+            List<T> result = clientSort(sort).sort(operations.select(entityInformation.getJavaType()));
+            return limit.isLimited() && result.size() > limit.max() ? result.subList(0, limit.max()) : result;
+        }
+        Conditions query = indexSort.map(IndexSort::toConditions).orElseGet(Conditions::any);
+        return operations.select(limit.isLimited() ? query.withLimit(limit.max()) : query, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Slice<T> findAll(Pageable pageable) {
+        Assert.notNull(pageable, "Pageable must not be null");
+
+        org.springframework.data.domain.Sort sort = pageable.getSort();
+        Optional<IndexSort> indexSort = indexSort(sort);
+        if (sort.isSorted() && indexSort.isEmpty()) {
+            return clientSort(sort).slice(operations.select(entityInformation.getJavaType()), pageable);
+        }
+        return operations.select(indexSort.map(IndexSort::toConditions).orElseGet(Conditions::any), pageable, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Window<T> findAll(ScrollPosition position, int limit) {
+        Assert.notNull(position, "ScrollPosition must not be null");
+
+        return operations.scroll(Conditions.any(), position, limit, entityInformation.getJavaType());
+    }
+
     @Override
     public List<T> findAllById(Iterable<ID> ids) {
         Assert.notNull(ids, "The given Iterable of ids must not be null");
@@ -135,4 +197,102 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
         operations.truncate(entityInformation.getJavaType());
     }
 
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        Assert.notNull(example, "Example must not be null");
+
+        Conditions query = TarantoolTupleMethodsHelper.limited(exampleQuery(example, null), 2);
+        List<S> result = operations.select(query, example.getProbeType());
+        if (result.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, result.size());
+        }
+        return result.stream().findFirst();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        Assert.notNull(example, "Example must not be null");
+
+        return operations.select(exampleQuery(example, null), example.getProbeType());
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, org.springframework.data.domain.Sort sort) {
+        Assert.notNull(example, "Example must not be null");
+        Assert.notNull(sort, "Sort must not be null");
+
+        return findAll(example, sort, Limit.unlimited());
+    }
+
+    <S extends T> List<S> findAll(Example<S> example, org.springframework.data.domain.Sort sort, Limit limit) {
+        Optional<IndexSort> indexSort = indexSort(sort);
+        Conditions query = exampleQuery(example, indexSort.orElse(null));
+        if (sort.isSorted() && indexSort.isEmpty()) {
+            List<S> result = clientSort(sort).sort(operations.select(query, example.getProbeType()));
+            return limit.isLimited() && result.size() > limit.max() ? result.subList(0, limit.max()) : result;
+        }
+        return operations.select(limit.isLimited() ? query.withLimit(limit.max()) : query, example.getProbeType());
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        Assert.notNull(example, "Example must not be null");
+        Assert.notNull(pageable, "Pageable must not be null");
+
+        org.springframework.data.domain.Sort sort = pageable.getSort();
+        Optional<IndexSort> indexSort = indexSort(sort);
+        Conditions query = exampleQuery(example, indexSort.orElse(null));
+        if (sort.isSorted() && indexSort.isEmpty()) {
+            List<S> result = clientSort(sort).sort(operations.select(query, example.getProbeType()));
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(result);
+            }
+            int from = (int) Math.min(pageable.getOffset(), result.size());
+            int to = Math.min(from + pageable.getPageSize(), result.size());
+            return new PageImpl<>(new ArrayList<>(result.subList(from, to)), pageable, result.size());
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(operations.select(query, example.getProbeType()));
+        }
+        List<S> content = operations.select(query.withOffset(pageable.getOffset()).withLimit(pageable.getPageSize()), example.getProbeType());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(example));
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        Assert.notNull(example, "Example must not be null");
+
+        return operations.count(exampleQuery(example, null), example.getProbeType());
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        Assert.notNull(example, "Example must not be null");
+
+        return operations.exists(exampleQuery(example, null), example.getProbeType());
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        Assert.notNull(example, "Example must not be null");
+        Assert.notNull(queryFunction, "Query function must not be null");
+
+        return queryFunction.apply(new FetchableFluentQueryByExample<>(example, example.getProbeType(), this));
+    }
+
+    private Conditions exampleQuery(Example<?> example, @Nullable IndexSort indexSort) {
+        return ExampleConditions.of(example, indexSort, operations.getConverter(), operations);
+    }
+
+    private Optional<IndexSort> indexSort(org.springframework.data.domain.Sort sort) {
+        return sort.isUnsorted() ? Optional.empty() : IndexSort.resolve(sort, persistentEntity(), operations);
+    }
+
+    private ClientSort clientSort(org.springframework.data.domain.Sort sort) {
+        return ClientSort.of(sort, persistentEntity());
+    }
+
+    private TarantoolPersistentEntity<?> persistentEntity() {
+        return operations.getConverter().getMappingContext().getRequiredPersistentEntity(entityInformation.getJavaType());
+    }
 }
@@ -79,7 +79,7 @@ public class TarantoolRepositoryFactory extends RepositoryFactorySupport {
 
         @Override
         public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory, NamedQueries namedQueries) {
-            ReactiveTarantoolQueryMethod queryMethod = new ReactiveTarantoolQueryMethod(method, metadata, factory, mappingContext);
+            TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, metadata, factory, mappingContext);
             if (queryMethod.hasAnnotatedQuery()) {
                 return new DirectTarantoolQuery(queryMethod, operations);
             } else {
@@ -0,0 +1,45 @@
+package org.springframework.data.tarantool.aot;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.data.tarantool.core.mapping.BasicMapId;
+import org.springframework.data.tarantool.core.mapping.TarantoolManagedTypes;
+import org.springframework.data.tarantool.repository.support.SimpleReactiveTarantoolRepository;
+import org.springframework.data.tarantool.repository.support.SimpleTarantoolRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TarantoolRuntimeHintsTest {
+
+    @Test
+    void shouldRegisterRepositoryHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new TarantoolRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(SimpleTarantoolRepository.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SimpleReactiveTarantoolRepository.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BasicMapId.class)).accepts(hints);
+    }
+
+    @Test
+    void shouldMatchManagedTypesBean() {
+        TarantoolManagedTypesBeanRegistrationAotProcessor processor = new TarantoolManagedTypesBeanRegistrationAotProcessor();
+
+        assertThat(processor.isMatch(TarantoolManagedTypes.class, "tarantoolManagedTypes")).isTrue();
+        assertThat(processor.isMatch(String.class, "tarantoolTemplate")).isFalse();
+    }
+
+    @Test
+    void shouldKeepManagedTypes() {
+        List<Class<?>> types = new ArrayList<>();
+        TarantoolManagedTypes.from(String.class, Integer.class).forEach(types::add);
+
+        assertThat(types).containsExactly(String.class, Integer.class);
+    }
+}
@@ -0,0 +1,49 @@
+package org.springframework.data.tarantool.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.tarantool.core.mapping.TarantoolManagedTypes;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig
+public class ManagedTypesConfigurationTest {
+
+    private static final AtomicInteger SCANS = new AtomicInteger();
+
+    @Configuration
+    static class Config extends TarantoolConfigurationSupport {
+
+        @Override
+        protected Set<Class<?>> getInitialEntitySet() {
+            SCANS.incrementAndGet();
+            return Set.of(Person.class);
+        }
+    }
+
+    @Autowired
+    private TarantoolManagedTypes tarantoolManagedTypes;
+
+    @Autowired
+    private TarantoolMappingContext tarantoolMappingContext;
+
+    @Test
+    void shouldCreateMappingContextWithManagedTypesBean() {
+        assertThat(tarantoolManagedTypes.toList()).containsExactly(Person.class);
+        assertThat(tarantoolMappingContext.hasPersistentEntityFor(Person.class)).isTrue();
+        assertThat(SCANS).hasValue(1);
+    }
+
+    private static class Person {
+
+        @Id
+        String name;
+    }
+}
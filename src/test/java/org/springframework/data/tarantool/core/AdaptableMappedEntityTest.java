@@ -0,0 +1,65 @@
+package org.springframework.data.tarantool.core;
+
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptableMappedEntityTest {
+    private final TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+    private final TarantoolConverterAware converterAware = () -> converter;
+
+    @Test
+    void shouldInitializeVersionOfVersionedEntity() {
+        VersionedPerson person = new VersionedPerson();
+        BoxedVersionedPerson boxedPerson = new BoxedVersionedPerson();
+
+        assertThat(converterAware.entityToInsert(person).getVersion()).isEqualTo(1);
+        assertThat(converterAware.entityToInsert(boxedPerson).getVersion()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldIncrementVersionOfVersionedEntity() {
+        VersionedPerson person = new VersionedPerson();
+        person.setVersion(2);
+        BoxedVersionedPerson boxedPerson = new BoxedVersionedPerson();
+
+        assertThat(converterAware.entityToUpdate(person).getVersion()).isEqualTo(3);
+        assertThat(converterAware.entityToUpdate(boxedPerson).getVersion()).isEqualTo(0);
+        assertThat(converterAware.entityToUpdate(boxedPerson).getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnSameEntityWithoutVersion() {
+        SimplePerson person = new SimplePerson();
+
+        assertThat(converterAware.entityToInsert(person)).isSameAs(person);
+        assertThat(converterAware.entityToUpdate(person)).isSameAs(person);
+    }
+
+    @Data
+    static class SimplePerson {
+        @Id
+        String id;
+    }
+
+    @Data
+    static class VersionedPerson {
+        @Id
+        String id;
+        @Version
+        long version;
+    }
+
+    @Data
+    static class BoxedVersionedPerson {
+        @Id
+        String id;
+        @Version
+        Integer version;
+    }
+}
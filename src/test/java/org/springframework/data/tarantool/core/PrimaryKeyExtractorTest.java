@@ -0,0 +1,131 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.protocol.TarantoolIndexQuery;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.convert.TarantoolCustomConversions;
+import org.springframework.data.tarantool.core.mapping.BasicMapId;
+import org.springframework.data.tarantool.core.mapping.Space;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PrimaryKeyExtractorTest extends AbstractTarantoolTemplateTest {
+
+    private final TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+    private final TarantoolConverterAware converterAware = () -> converter;
+    private final TarantoolTupleMethodsHelper helper = new TarantoolTupleMethodsHelper(converter, converterAware);
+
+    @Test
+    void shouldExtractSimpleId() {
+        PrimaryKeyExtractor extractor = extractor(converter, Message.class);
+
+        assertThat(extractor.fromId("1")).containsExactly("1");
+        assertThat(extractor.fromTuple(tuple(messageOne))).containsExactly("1");
+        assertThat(PrimaryKeyExtractor.requiresConversion(List.of("1"), converter.getCustomConversions())).isFalse();
+        assertThat(helper.primaryIndexQueryById("1", Message.class))
+                .isEqualTo(Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, converterAware.mappedTValues(List.of("1"))));
+    }
+
+    @Test
+    void shouldExtractCompositeId() {
+        PrimaryKeyExtractor extractor = extractor(converter, MessageWithCompositePrimaryKey.class);
+        CompositePrimaryKey key = messageWithCompositePrimaryKey.getKey();
+        List<Object> indexParts = List.of(key.getId(), key.getDate());
+
+        assertThat(extractor.fromId(key)).isEqualTo(indexParts);
+        assertThat(extractor.fromTuple(tuple(messageWithCompositePrimaryKey)))
+                .containsExactly(key.getId(), key.getDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(PrimaryKeyExtractor.requiresConversion(indexParts, converter.getCustomConversions())).isTrue();
+        assertThat(helper.primaryIndexQueryById(key, MessageWithCompositePrimaryKey.class))
+                .isEqualTo(Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, converterAware.mappedTValues(indexParts)));
+    }
+
+    @Test
+    void shouldExtractMapId() {
+        PrimaryKeyExtractor extractor = extractor(converter, MessageWithMultiFieldKey.class);
+        List<Object> indexParts = List.of(messageWithMultiFieldKey.getId(), messageWithMultiFieldKey.getDate());
+
+        assertThat(extractor.fromId(messageWithMultiFieldKey.getMapId())).isEqualTo(indexParts);
+        assertThat(extractor.fromId(BasicMapId.id("date", messageWithMultiFieldKey.getDate()).with("id", "1"))).isEqualTo(indexParts);
+        assertThat(helper.primaryIndexQueryById(messageWithMultiFieldKey.getMapId(), MessageWithMultiFieldKey.class))
+                .isEqualTo(Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, converterAware.mappedTValues(indexParts)));
+    }
+
+    @Test
+    void shouldConvertIdWithCustomConverter() {
+        CustomConversions conversions = new TarantoolCustomConversions(List.of(new AuthorToStringConverter()));
+        TarantoolMappingContext mappingContext = new TarantoolMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingTarantoolConverter customConverter = new MappingTarantoolConverter(mappingContext);
+        customConverter.setCustomConversions(conversions);
+        customConverter.afterPropertiesSet();
+        TarantoolConverterAware customConverterAware = () -> customConverter;
+        Author author = new Author("pushkin");
+
+        assertThat(extractor(customConverter, AuthoredMessage.class).fromId(author)).containsExactly(author);
+        assertThat(PrimaryKeyExtractor.requiresConversion(List.of(author), conversions)).isTrue();
+        assertThat(new TarantoolTupleMethodsHelper(customConverter, customConverterAware).primaryIndexQueryById(author, AuthoredMessage.class))
+                .isEqualTo(Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, List.of("pushkin")));
+    }
+
+    @Test
+    void shouldRejectEntityWithoutId() {
+        PrimaryKeyExtractor extractor = extractor(converter, MessageWithoutId.class);
+
+        assertThatThrownBy(() -> extractor.fromTuple(tuple(messageOne)))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("MessageWithoutId");
+    }
+
+    private PrimaryKeyExtractor extractor(TarantoolConverter converter, Class<?> entityClass) {
+        return new PrimaryKeyExtractor(converter.getMappingContext(), converter.getMappingContext().getRequiredPersistentEntity(entityClass));
+    }
+
+    private TarantoolTuple tuple(CommonMessage message) {
+        return new TarantoolTupleImpl(tupleValue(message).asArrayValue(), messagePackMapper, spaceMetadata());
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class Author {
+        private String name;
+    }
+
+    @Space("messages")
+    @Data
+    static class AuthoredMessage {
+        @Id
+        private Author author;
+        private String text;
+    }
+
+    @Space("messages")
+    @Data
+    static class MessageWithoutId {
+        private String text;
+    }
+
+    @WritingConverter
+    static class AuthorToStringConverter implements Converter<Author, String> {
+        @Override
+        public String convert(Author source) {
+            return source.getName();
+        }
+    }
+}
@@ -11,6 +11,8 @@ import io.tarantool.driver.protocol.TarantoolIndexQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.event.ReactiveBeforeConvertCallback;
@@ -19,9 +21,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -197,9 +201,83 @@ public class ReactiveTarantoolTemplateTest extends AbstractTarantoolTemplateTest
         reactiveTarantoolTemplate.selectOne(query, Message.class).as(StepVerifier::create)
                 .expectNext(messageOne)
                 .verifyComplete();
+        assertThat(query).isEqualTo(Conditions.any());
 
         verify(tarantoolClient, times(1)).space(any());
-        verify(spaceOperations, times(1)).select(query);
+        verify(spaceOperations, times(1)).select(Conditions.any().withLimit(1));
+    }
+
+    @Test
+    void shouldStreamInPagesByOffsetWithBoxClient() {
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        when(spaceOperations.select(any()))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageOne, messageTwo)))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageThree)));
+
+        Conditions query = Conditions.any();
+        reactiveTarantoolTemplate.stream(query, 2, Message.class).as(StepVerifier::create)
+                .expectNext(messageOne, messageTwo, messageThree)
+                .verifyComplete();
+        assertThat(query).isEqualTo(Conditions.any());
+
+        verify(spaceOperations, times(1)).select(Conditions.any().withLimit(2));
+        verify(spaceOperations, times(1)).select(Conditions.any().withOffset(2).withLimit(2));
+    }
+
+    @Test
+    void shouldStreamPagesOnDemandOfSlowSubscriber() {
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        when(spaceOperations.select(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(tupleResult(messageOne)));
+
+        StepVerifier.create(reactiveTarantoolTemplate.stream(Conditions.any(), 1, Message.class), 0)
+                .thenRequest(2)
+                .expectNext(messageOne, messageOne)
+                .thenAwait(Duration.ofMillis(100))
+                .then(() -> verify(spaceOperations, atMost(5)).select(any()))
+                .thenRequest(1)
+                .expectNext(messageOne)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldScrollByOffsetWithBoxClient() {
+        when(tarantoolClient.metadata()).thenReturn(metadataOperations);
+        when(metadataOperations.getSpaceByName(any())).thenReturn(Optional.of(spaceMetadata()));
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        when(spaceOperations.select(any()))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageOne, messageTwo, messageThree)))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageThree)));
+
+        Conditions query = Conditions.any();
+        reactiveTarantoolTemplate.scroll(query, ScrollPosition.keyset(), 2, Message.class).as(StepVerifier::create)
+                .assertNext(window -> {
+                    assertThat(window.getContent()).containsExactly(messageOne, messageTwo);
+                    assertThat(window.hasNext()).isTrue();
+                    assertThat(window.positionAt(1)).isEqualTo(ScrollPosition.offset(2));
+                })
+                .verifyComplete();
+        reactiveTarantoolTemplate.scroll(query, ScrollPosition.offset(2), 2, Message.class).as(StepVerifier::create)
+                .assertNext(window -> {
+                    assertThat(window.getContent()).containsExactly(messageThree);
+                    assertThat(window.hasNext()).isFalse();
+                })
+                .verifyComplete();
+        assertThat(query).isEqualTo(Conditions.any());
+
+        verify(spaceOperations, times(1)).select(Conditions.any().withLimit(3));
+        verify(spaceOperations, times(1)).select(Conditions.any().withOffset(2).withLimit(3));
+    }
+
+    @Test
+    void shouldRejectKeysetPositionWithBoxClient() {
+        when(tarantoolClient.metadata()).thenReturn(metadataOperations);
+        when(metadataOperations.getSpaceByName(any())).thenReturn(Optional.of(spaceMetadata()));
+
+        StepVerifier.create(Mono.defer(() -> reactiveTarantoolTemplate.scroll(Conditions.any(), ScrollPosition.forward(Map.of("id", "2")), 2, Message.class)))
+                .verifyError(InvalidDataAccessApiUsageException.class);
+        verify(tarantoolClient, never()).space(any());
     }
 
     @Test
@@ -0,0 +1,124 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.mapping.Space;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TarantoolMappingVerifierTest extends AbstractTarantoolTemplateTest {
+
+    @Mock
+    private TarantoolClientAware clientAware;
+
+    @Test
+    void shouldVerifyMatchingEntities() {
+        TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+        converter.getMappingContext().getRequiredPersistentEntity(Message.class);
+        converter.getMappingContext().getRequiredPersistentEntity(MessageWithCompositePrimaryKey.class);
+        converter.getMappingContext().getRequiredPersistentEntity(MessageWithMultiFieldKey.class);
+        when(clientAware.spaceMetadata("messages")).thenReturn(Optional.of(spaceMetadata()));
+
+        TarantoolMappingVerifier verifier = new TarantoolMappingVerifier(clientAware, converter, true, 0);
+        assertThatCode(verifier::verify).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldReportMismatchedFields() {
+        TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+        converter.getMappingContext().getRequiredPersistentEntity(MismatchedMessage.class);
+        converter.getMappingContext().getRequiredPersistentEntity(UnknownSpaceMessage.class);
+        when(clientAware.spaceMetadata("messages")).thenReturn(Optional.of(spaceMetadata()));
+        when(clientAware.spaceMetadata("unknown")).thenReturn(Optional.empty());
+
+        TarantoolMappingVerifier verifier = new TarantoolMappingVerifier(clientAware, converter, true, 0);
+        assertThatThrownBy(verifier::verify)
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("Field text of entity")
+                .hasMessageContaining("Field author of entity")
+                .hasMessageContaining("Space unknown");
+    }
+
+    @Test
+    void shouldWarmUpEntitiesWithSampleValues() {
+        TarantoolConverter converter = spy(MappingTarantoolConverter.newConverter());
+        converter.getMappingContext().getRequiredPersistentEntity(MessageRecord.class);
+        when(clientAware.spaceMetadata("messages")).thenReturn(Optional.of(spaceMetadata()));
+        when(clientAware.getClient()).thenReturn(tarantoolClient);
+        when(tarantoolClient.getConfig()).thenReturn(tarantoolClientConfig);
+
+        TarantoolMappingVerifier verifier = new TarantoolMappingVerifier(clientAware, converter, true, 3);
+        assertThatCode(verifier::verify).doesNotThrowAnyException();
+        verify(converter, times(3)).read(eq(MessageRecord.class), argThat(tuple ->
+                ((TarantoolTuple) tuple).getString("text") != null && ((TarantoolTuple) tuple).getLong("date") != null));
+    }
+
+    @Test
+    void shouldReportFailedWarmUpWhenVerifying() {
+        TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+        converter.getMappingContext().getRequiredPersistentEntity(BrokenMessage.class);
+        when(clientAware.spaceMetadata("messages")).thenReturn(Optional.of(spaceMetadata()));
+        when(clientAware.getClient()).thenReturn(tarantoolClient);
+        when(tarantoolClient.getConfig()).thenReturn(tarantoolClientConfig);
+
+        TarantoolMappingVerifier verifier = new TarantoolMappingVerifier(clientAware, converter, true, 1);
+        assertThatThrownBy(verifier::verify)
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("Warm-up of entity");
+    }
+
+    @Test
+    void shouldSkipUnknownSpaceWhenOnlyWarmingUp() {
+        TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+        converter.getMappingContext().getRequiredPersistentEntity(UnknownSpaceMessage.class);
+        when(clientAware.spaceMetadata("unknown")).thenReturn(Optional.empty());
+
+        TarantoolMappingVerifier verifier = new TarantoolMappingVerifier(clientAware, converter, false, 1);
+        assertThatCode(verifier::verify).doesNotThrowAnyException();
+    }
+
+    @Space("messages")
+    record MessageRecord(@Id String id, long date, String text) {
+    }
+
+    @Space("messages")
+    static class BrokenMessage {
+        @Id
+        private final String id;
+
+        BrokenMessage(String id) {
+            throw new IllegalStateException("Broken constructor");
+        }
+    }
+
+    @Space("messages")
+    @Data
+    static class MismatchedMessage {
+        @Id
+        private String id;
+        private Integer text;
+        private String author;
+    }
+
+    @Space("unknown")
+    @Data
+    static class UnknownSpaceMessage {
+        @Id
+        private String id;
+    }
+}
@@ -1,7 +1,9 @@
 package org.springframework.data.tarantool.core;
 
+import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.CallResultMapper;
@@ -10,7 +12,14 @@ import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
 import io.tarantool.driver.protocol.TarantoolIndexQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.event.BeforeConvertCallback;
@@ -18,8 +27,10 @@ import org.springframework.data.tarantool.core.mapping.event.BeforeSaveCallback;
 
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -182,9 +193,141 @@ public class TarantoolTemplateTest extends AbstractTarantoolTemplateTest {
         Conditions query = Conditions.any();
         Message selected = tarantoolTemplate.selectOne(query, Message.class);
         assertThat(selected).isEqualTo(messageOne);
+        assertThat(query).isEqualTo(Conditions.any());
 
         verify(tarantoolClient, times(1)).space(any());
-        verify(spaceOperations, times(1)).select(query);
+        verify(spaceOperations, times(1)).select(Conditions.any().withLimit(1));
+    }
+
+    @Test
+    void shouldCheckExistenceWithSingleTuple() {
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        when(spaceOperations.select(any())).thenReturn(CompletableFuture.completedFuture(tupleResult(messageOne)));
+
+        Conditions query = Conditions.any();
+        assertThat(tarantoolTemplate.exists(query, Message.class)).isTrue();
+        assertThat(query).isEqualTo(Conditions.any());
+
+        verify(spaceOperations, times(1)).select(Conditions.any().withLimit(1));
+    }
+
+    @Test
+    void shouldSelectSliceWithoutChangingQuery() {
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        when(spaceOperations.select(any())).thenReturn(CompletableFuture.completedFuture(tupleResult(messageTwo, messageThree)));
+
+        Conditions query = Conditions.descending();
+        Slice<Message> slice = tarantoolTemplate.select(query, PageRequest.of(1, 1), Message.class);
+        assertThat(slice.getContent()).containsExactly(messageTwo);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(query).isEqualTo(Conditions.descending());
+
+        verify(spaceOperations, times(1)).select(Conditions.descending().withOffset(1).withLimit(2));
+    }
+
+    @Test
+    void shouldStreamInPagesOfFetchSize() {
+        TarantoolTemplate proxyTemplate = spy(tarantoolTemplate);
+        doReturn(true).when(proxyTemplate).isProxyClient();
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        TarantoolResult<TarantoolTuple> firstPage = tupleResult(messageOne, messageTwo);
+        when(spaceOperations.select(any()))
+                .thenReturn(CompletableFuture.completedFuture(firstPage))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageThree)));
+
+        Conditions query = Conditions.any();
+        try (Stream<Message> stream = proxyTemplate.stream(query, 2, Message.class)) {
+            assertThat(stream).containsExactly(messageOne, messageTwo, messageThree);
+        }
+        assertThat(query).isEqualTo(Conditions.any());
+
+        ArgumentCaptor<Conditions> pages = ArgumentCaptor.forClass(Conditions.class);
+        verify(spaceOperations, times(2)).select(pages.capture());
+        assertThat(pages.getAllValues()).allSatisfy(page -> assertThat(page.getLimit()).isEqualTo(2));
+        assertThat(pages.getAllValues().get(0).getStartTuple()).isNull();
+        assertThat(pages.getAllValues().get(1).getStartTuple()).isSameAs(firstPage.get(1));
+    }
+
+    @Test
+    void shouldStreamInPagesByOffsetWithBoxClient() {
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        when(spaceOperations.select(any()))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageOne, messageTwo)))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageThree)));
+
+        Conditions query = Conditions.any();
+        try (Stream<Message> stream = tarantoolTemplate.stream(query, 2, Message.class)) {
+            assertThat(stream).containsExactly(messageOne, messageTwo, messageThree);
+        }
+        assertThat(query).isEqualTo(Conditions.any());
+
+        verify(spaceOperations, times(1)).select(Conditions.any().withLimit(2));
+        verify(spaceOperations, times(1)).select(Conditions.any().withOffset(2).withLimit(2));
+    }
+
+    @Test
+    void shouldScrollByKeysetWithProxyClient() {
+        TarantoolTemplate proxyTemplate = spy(tarantoolTemplate);
+        doReturn(true).when(proxyTemplate).isProxyClient();
+        when(tarantoolClient.metadata()).thenReturn(metadataOperations);
+        when(metadataOperations.getSpaceByName(any())).thenReturn(Optional.of(spaceMetadata()));
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        when(spaceOperations.select(any()))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageOne, messageTwo, messageThree)))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageThree)));
+
+        Conditions query = Conditions.any();
+        Window<Message> first = proxyTemplate.scroll(query, ScrollPosition.keyset(), 2, Message.class);
+        assertThat(first.getContent()).containsExactly(messageOne, messageTwo);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.positionAt(1)).isInstanceOf(KeysetScrollPosition.class);
+        assertThat(((KeysetScrollPosition) first.positionAt(1)).getKeys()).containsEntry("id", "2");
+
+        Window<Message> second = proxyTemplate.scroll(query, first.positionAt(1), 2, Message.class);
+        assertThat(second.getContent()).containsExactly(messageThree);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(query).isEqualTo(Conditions.any());
+
+        ArgumentCaptor<Conditions> windows = ArgumentCaptor.forClass(Conditions.class);
+        verify(spaceOperations, times(2)).select(windows.capture());
+        assertThat(windows.getAllValues()).allSatisfy(window -> assertThat(window.getLimit()).isEqualTo(3));
+        assertThat(windows.getAllValues().get(0).getStartTuple()).isNull();
+        assertThat(windows.getAllValues().get(1).getStartTuple()).isNotNull();
+    }
+
+    @Test
+    void shouldScrollByOffsetWithBoxClient() {
+        when(tarantoolClient.metadata()).thenReturn(metadataOperations);
+        when(metadataOperations.getSpaceByName(any())).thenReturn(Optional.of(spaceMetadata()));
+        when(tarantoolClient.space(any())).thenReturn(spaceOperations);
+        when(spaceOperations.select(any()))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageOne, messageTwo, messageThree)))
+                .thenReturn(CompletableFuture.completedFuture(tupleResult(messageThree)));
+
+        Conditions query = Conditions.any();
+        Window<Message> first = tarantoolTemplate.scroll(query, ScrollPosition.keyset(), 2, Message.class);
+        assertThat(first.getContent()).containsExactly(messageOne, messageTwo);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.positionAt(1)).isEqualTo(ScrollPosition.offset(2));
+
+        Window<Message> second = tarantoolTemplate.scroll(query, first.positionAt(1), 2, Message.class);
+        assertThat(second.getContent()).containsExactly(messageThree);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.positionAt(0)).isEqualTo(ScrollPosition.offset(3));
+        assertThat(query).isEqualTo(Conditions.any());
+
+        verify(spaceOperations, times(1)).select(Conditions.any().withLimit(3));
+        verify(spaceOperations, times(1)).select(Conditions.any().withOffset(2).withLimit(3));
+    }
+
+    @Test
+    void shouldRejectKeysetPositionWithBoxClient() {
+        when(tarantoolClient.metadata()).thenReturn(metadataOperations);
+        when(metadataOperations.getSpaceByName(any())).thenReturn(Optional.of(spaceMetadata()));
+
+        assertThatThrownBy(() -> tarantoolTemplate.scroll(Conditions.any(), ScrollPosition.forward(Map.of("id", "2")), 2, Message.class))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+        verify(tarantoolClient, never()).space(any());
     }
 
     @Test
@@ -2,6 +2,7 @@ package org.springframework.data.tarantool.core.convert;
 
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
@@ -9,15 +10,37 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.tarantool.core.mapping.EnumCode;
+import org.springframework.data.tarantool.core.mapping.EnumType;
+import org.springframework.data.tarantool.core.mapping.Enumerated;
+import org.springframework.data.tarantool.core.mapping.PackedArray;
 import org.springframework.data.tarantool.core.mapping.Space;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class MappingTarantoolConverterTest extends AbstractConverterTest {
 
@@ -29,6 +52,7 @@ public class MappingTarantoolConverterTest extends AbstractConverterTest {
     @BeforeEach
     void setUp() {
         mappingTarantoolConverter = new MappingTarantoolConverter(mappingContext);
+        mappingContext.setSimpleTypeHolder(mappingTarantoolConverter.getCustomConversions().getSimpleTypeHolder());
         mappingTarantoolConverter.afterPropertiesSet();
     }
 
@@ -65,6 +89,216 @@ public class MappingTarantoolConverterTest extends AbstractConverterTest {
         assertThat(tuple.getObject("text").orElse(null)).isEqualTo(message.text);
     }
 
+    @Test
+    void shouldReadAndWriteBinaryBuffer() {
+        byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+        TarantoolTuple tuple = new TarantoolTupleImpl(messagePackMapper, spaceMetadata(1, "documents", List.of(
+                SpaceField.of("id", "string", false),
+                SpaceField.of("payload", "varbinary", false)
+        )));
+
+        mappingTarantoolConverter.write(new Document("1", ByteBuffer.wrap(payload)), tuple);
+        assertThat(tuple.getByteArray("payload")).isEqualTo(payload);
+
+        Document document = mappingTarantoolConverter.read(Document.class, tuple);
+        assertThat(document.getPayload().isReadOnly()).isTrue();
+        assertThat(document.getPayload()).isEqualTo(ByteBuffer.wrap(payload));
+    }
+
+    @Test
+    void shouldReadAndWritePrimitiveArrays() {
+        TarantoolTuple tuple = new TarantoolTupleImpl(messagePackMapper, spaceMetadata(2, "measurements", List.of(
+                SpaceField.of("id", "string", false),
+                SpaceField.of("embedding", "array", false),
+                SpaceField.of("series", "varbinary", false)
+        )));
+        Measurement measurement = new Measurement("1", new float[]{0.5f, -1.25f, 3f}, new long[]{1L, Long.MAX_VALUE, -7L});
+
+        mappingTarantoolConverter.write(measurement, tuple);
+        assertThat(tuple.getList("embedding")).hasSize(3);
+        assertThat(tuple.getByteArray("series")).hasSize(3 * Long.BYTES);
+
+        Measurement readMeasurement = mappingTarantoolConverter.read(Measurement.class, tuple);
+        assertThat(readMeasurement.getEmbedding()).containsExactly(0.5f, -1.25f, 3f);
+        assertThat(readMeasurement.getSeries()).containsExactly(1L, Long.MAX_VALUE, -7L);
+    }
+
+    @Test
+    void shouldRejectPackedArrayOfIncompleteElements() {
+        TarantoolTuple tuple = new TarantoolTupleImpl(Arrays.asList(
+                ValueFactory.newString("1"),
+                ValueFactory.newArray(),
+                ValueFactory.newBinary(new byte[Long.BYTES + 3])
+        ), messagePackMapper, spaceMetadata(2, "measurements", List.of(
+                SpaceField.of("id", "string", false),
+                SpaceField.of("embedding", "array", false),
+                SpaceField.of("series", "varbinary", false)
+        )));
+
+        assertThatThrownBy(() -> mappingTarantoolConverter.read(Measurement.class, tuple))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("11 bytes");
+    }
+
+    @Test
+    void shouldReadNestedEntitiesFromMessagePackValue() {
+        List<SpaceField> fields = List.of(
+                SpaceField.of("id", "string", false),
+                SpaceField.of("first", "map", false),
+                SpaceField.of("replies", "array", false)
+        );
+        TarantoolTuple tuple = new TarantoolTupleImpl(Arrays.asList(
+                ValueFactory.newString("1"),
+                messageValue("2", "two"),
+                ValueFactory.newArray(messageValue("3", "three"), messageValue("4", "four"))
+        ), messagePackMapper, spaceMetadata(3, "conversations", fields));
+
+        Conversation conversation = mappingTarantoolConverter.read(Conversation.class, tuple);
+        assertThat(conversation.getFirst()).isEqualTo(new Message("2", "two"));
+        assertThat(conversation.getReplies()).containsExactly(new Message("3", "three"), new Message("4", "four"));
+    }
+
+    @Test
+    void shouldReadEntityFromMapValue() {
+        Message readMessage = mappingTarantoolConverter.read(Message.class, messageValue("1", "one"));
+        assertThat(readMessage).isEqualTo(new Message("1", "one"));
+
+        assertThatThrownBy(() -> mappingTarantoolConverter.read(Message.class, ValueFactory.newString("1")))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldReadMapValueWithConfiguredMessagePackMapper() {
+        DefaultMessagePackMapper customMapper = (DefaultMessagePackMapper) messagePackMapper.copy();
+        customMapper.registerValueConverter(ValueType.STRING, String.class, (StringValue value) -> value.asString().toUpperCase());
+        mappingTarantoolConverter.setMessagePackMapper(customMapper);
+
+        Message readMessage = mappingTarantoolConverter.read(Message.class, messageValue("1", "one"));
+        assertThat(readMessage).isEqualTo(new Message("1", "ONE"));
+    }
+
+    @Test
+    void shouldReadRecord() {
+        Message message = new Message("1", "one");
+
+        MessageRecord readMessage = mappingTarantoolConverter.read(MessageRecord.class, tuple(message));
+        assertThat(readMessage).isEqualTo(new MessageRecord("1", "one"));
+    }
+
+    @Test
+    void shouldReadBatchWithReusableReader() {
+        Function<Object, Message> reader = mappingTarantoolConverter.reader(Message.class);
+
+        List<Message> messages = Stream.of(tuple(new Message("1", "one")), messageValue("2", "two"), tuple(new Message("3", "three")), messageValue("4", "four"))
+                .map(reader)
+                .collect(Collectors.toList());
+        assertThat(messages).containsExactly(new Message("1", "one"), new Message("2", "two"), new Message("3", "three"), new Message("4", "four"));
+    }
+
+    @Test
+    void shouldWriteAndReadEnumsByStorageType() {
+        List<SpaceField> fields = List.of(
+                SpaceField.of("id", "string", false),
+                SpaceField.of("byName", "string", false),
+                SpaceField.of("byOrdinal", "unsigned", false),
+                SpaceField.of("byCode", "unsigned", false)
+        );
+        TarantoolTuple tuple = new TarantoolTupleImpl(messagePackMapper, spaceMetadata(4, "orders", fields));
+        Order order = new Order("1", Status.SHIPPED, Status.SHIPPED, Status.SHIPPED);
+
+        mappingTarantoolConverter.write(order, tuple);
+        assertThat(tuple.getString("byName")).isEqualTo("SHIPPED");
+        assertThat(tuple.getInteger("byOrdinal")).isEqualTo(1);
+        assertThat(tuple.getInteger("byCode")).isEqualTo(20);
+
+        assertThat(mappingTarantoolConverter.read(Order.class, tuple)).isEqualTo(order);
+    }
+
+    @Test
+    void shouldWriteAndReadEnumElementsByStorageType() {
+        List<SpaceField> fields = List.of(
+                SpaceField.of("id", "string", false),
+                SpaceField.of("ordinals", "array", false),
+                SpaceField.of("codes", "array", false),
+                SpaceField.of("history", "array", false)
+        );
+        TarantoolTuple tuple = new TarantoolTupleImpl(messagePackMapper, spaceMetadata(4, "orders", fields));
+        OrderHistory history = new OrderHistory("1", List.of(Status.SHIPPED, Status.NEW), Set.of(Status.SHIPPED),
+                new Status[]{Status.NEW, Status.SHIPPED});
+
+        mappingTarantoolConverter.write(history, tuple);
+        assertThat(tuple.getList("ordinals")).isEqualTo(List.of(1, 0));
+        assertThat(tuple.getList("codes")).isEqualTo(List.of(20));
+        assertThat(tuple.getList("history")).isEqualTo(List.of(0, 1));
+
+        assertThat(mappingTarantoolConverter.read(OrderHistory.class, tuple)).isEqualTo(history);
+        assertThat(mappingTarantoolConverter.read(OrderHistory.class, Map.of("id", "1", "ordinals", List.of(1, 0),
+                "codes", List.of(20), "history", List.of(0, 1)))).isEqualTo(history);
+    }
+
+    @Test
+    void shouldReadEnumNamesForNumericStorageType() {
+        List<SpaceField> fields = List.of(
+                SpaceField.of("id", "string", false),
+                SpaceField.of("byName", "string", false),
+                SpaceField.of("byOrdinal", "any", false),
+                SpaceField.of("byCode", "any", false)
+        );
+        TarantoolTuple tuple = new TarantoolTupleImpl(Arrays.asList(
+                ValueFactory.newString("1"),
+                ValueFactory.newString("NEW"),
+                ValueFactory.newString("SHIPPED"),
+                ValueFactory.newInteger(10)
+        ), messagePackMapper, spaceMetadata(4, "orders", fields));
+
+        assertThat(mappingTarantoolConverter.read(Order.class, tuple)).isEqualTo(new Order("1", Status.NEW, Status.SHIPPED, Status.NEW));
+    }
+
+    @Test
+    void shouldWriteAndReadNativeTemporalTypesInTuple() {
+        TarantoolMappingContext mappingContext = new TarantoolMappingContext();
+        MappingTarantoolConverter converter = new MappingTarantoolConverter(mappingContext);
+        converter.setCustomConversions(new TarantoolCustomConversions(TarantoolNativeJsr310Converters.getConvertersToRegister()));
+        mappingContext.setSimpleTypeHolder(converter.getCustomConversions().getSimpleTypeHolder());
+        converter.afterPropertiesSet();
+        TarantoolSpaceMetadata spaceMetadata = spaceMetadata(5, "appointments", List.of(
+                SpaceField.of("id", "string", false),
+                SpaceField.of("start", "datetime", false),
+                SpaceField.of("length", "interval", false),
+                SpaceField.of("recurrence", "interval", false),
+                SpaceField.of("reminders", "map", false),
+                SpaceField.of("history", "array", false)
+        ));
+        Appointment appointment = new Appointment("1",
+                OffsetDateTime.of(2021, 5, 1, 10, 15, 30, 123_456_789, ZoneOffset.ofHours(3)),
+                Duration.ofMinutes(90),
+                Period.ofWeeks(2),
+                Map.of("day before", ZonedDateTime.of(2021, 4, 30, 10, 15, 0, 0, ZoneOffset.ofHours(5))),
+                List.of(LocalDateTime.of(2021, 4, 17, 10, 15), LocalDateTime.of(2021, 4, 3, 10, 15)));
+        TarantoolTuple tuple = new TarantoolTupleImpl(messagePackMapper, spaceMetadata);
+
+        converter.write(appointment, tuple);
+        Value written = tuple.toMessagePackValue(messagePackMapper);
+        List<Value> fields = written.asArrayValue().list();
+        assertThat(fields.get(1).asExtensionValue().getType()).isEqualTo(TarantoolNativeJsr310Converters.DATETIME_EXTENSION_TYPE);
+        assertThat(fields.get(2).asExtensionValue().getType()).isEqualTo(TarantoolNativeJsr310Converters.INTERVAL_EXTENSION_TYPE);
+        assertThat(fields.get(3).asExtensionValue().getType()).isEqualTo(TarantoolNativeJsr310Converters.INTERVAL_EXTENSION_TYPE);
+        assertThat(fields.get(4).asMapValue().map().values())
+                .allSatisfy(value -> assertThat(value.asExtensionValue().getType()).isEqualTo(TarantoolNativeJsr310Converters.DATETIME_EXTENSION_TYPE));
+        assertThat(fields.get(5).asArrayValue().list())
+                .allSatisfy(value -> assertThat(value.asExtensionValue().getType()).isEqualTo(TarantoolNativeJsr310Converters.DATETIME_EXTENSION_TYPE));
+
+        TarantoolTuple readTuple = new TarantoolTupleImpl(written.asArrayValue(), messagePackMapper, spaceMetadata);
+        assertThat(converter.read(Appointment.class, readTuple)).isEqualTo(appointment);
+    }
+
+    private Value messageValue(String id, String text) {
+        return ValueFactory.newMap(
+                ValueFactory.newString("id"), ValueFactory.newString(id),
+                ValueFactory.newString("text"), ValueFactory.newString(text)
+        );
+    }
+
     private TarantoolTuple emptyTuple() {
         return new TarantoolTupleImpl(messagePackMapper, spaceMetadata());
     }
@@ -89,4 +323,83 @@ public class MappingTarantoolConverterTest extends AbstractConverterTest {
         private String id;
         private String text;
     }
+
+    @Space("documents")
+    @Data
+    @AllArgsConstructor
+    private static class Document {
+        @Id
+        private String id;
+        private ByteBuffer payload;
+    }
+
+    @Space("measurements")
+    @Data
+    @AllArgsConstructor
+    private static class Measurement {
+        @Id
+        private String id;
+        private float[] embedding;
+        @PackedArray
+        private long[] series;
+    }
+
+    @Space("conversations")
+    @Data
+    @AllArgsConstructor
+    private static class Conversation {
+        @Id
+        private String id;
+        private Message first;
+        private List<Message> replies;
+    }
+
+    @Space("appointments")
+    @Data
+    @AllArgsConstructor
+    private static class Appointment {
+        @Id
+        private String id;
+        private OffsetDateTime start;
+        private Duration length;
+        private Period recurrence;
+        private Map<String, ZonedDateTime> reminders;
+        private List<LocalDateTime> history;
+    }
+
+    @Space("orders")
+    @Data
+    @AllArgsConstructor
+    private static class Order {
+        @Id
+        private String id;
+        private Status byName;
+        @Enumerated(EnumType.ORDINAL)
+        private Status byOrdinal;
+        @Enumerated(EnumType.CODE)
+        private Status byCode;
+    }
+
+    @Space("orders")
+    @Data
+    @AllArgsConstructor
+    private static class OrderHistory {
+        @Id
+        private String id;
+        @Enumerated(EnumType.ORDINAL)
+        private List<Status> ordinals;
+        @Enumerated(EnumType.CODE)
+        private Set<Status> codes;
+        @Enumerated(EnumType.ORDINAL)
+        private Status[] history;
+    }
+
+    private enum Status {
+        @EnumCode(10) NEW,
+        @EnumCode(20) SHIPPED
+    }
+
+    @Space("messages")
+    private record MessageRecord(@Id String id, String text) {
+    }
 }
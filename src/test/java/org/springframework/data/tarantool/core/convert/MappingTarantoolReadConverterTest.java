@@ -1,11 +1,15 @@
 package org.springframework.data.tarantool.core.convert;
 
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import lombok.Data;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.ValueFactory;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.convert.DefaultTypeMapper;
 import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.model.EntityInstantiators;
@@ -242,4 +246,29 @@ public class MappingTarantoolReadConverterTest extends AbstractConverterTest {
         assertThat(result.getKey().getDate()).isEqualTo(date);
         assertThat(result.getText()).isEqualTo(text);
     }
+
+    @Test
+    void shouldReadTypeAliasOfMapValueWithConfiguredTypeKey() {
+        MapValue dog = ValueFactory.newMap(
+                ValueFactory.newString("kind"), ValueFactory.newString(Dog.class.getName()),
+                ValueFactory.newString("name"), ValueFactory.newString("rex"));
+
+        TypeMapper<Map<String, Object>> keyedTypeMapper = new TarantoolMapTypeMapper("kind");
+        assertThat(readConverter(keyedTypeMapper).read(Animal.class, dog)).isInstanceOf(Dog.class);
+
+        TypeMapper<Map<String, Object>> customTypeMapper = new DefaultTypeMapper<>(new TarantoolMapTypeAliasAccessor("kind"));
+        assertThat(readConverter(customTypeMapper).read(Animal.class, dog)).isInstanceOf(Dog.class);
+    }
+
+    private TarantoolReadConverter readConverter(TypeMapper<Map<String, Object>> mapTypeMapper) {
+        return new MappingTarantoolReadConverter(mappingContext, tupleTypeMapper, mapTypeMapper, () -> instantiators, () -> customConversions, conversionService);
+    }
+
+    @Data
+    static class Animal {
+        private String name;
+    }
+
+    static class Dog extends Animal {
+    }
 }
@@ -198,6 +198,22 @@ public class MappingTarantoolWriteConverterTest extends AbstractConverterTest {
         assertThat(tuple.getObject("_class")).isPresent();
     }
 
+    @Test
+    void shouldSkipTypeAliasOfNotPolymorphicObjectWithCustomConverter() {
+        TypeMapper<TarantoolTuple> polymorphicOnlyTupleTypeMapper = new TarantoolTupleTypeMapper(TarantoolTupleTypeMapper.DEFAULT_TYPE_KEY,
+                mappingContext, TypeAliasMode.POLYMORPHIC_ONLY, Map.of());
+        TypeMapper<Map<String, Object>> polymorphicOnlyMapTypeMapper = new TarantoolMapTypeMapper(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY,
+                mappingContext, TypeAliasMode.POLYMORPHIC_ONLY, Map.of());
+        TarantoolWriteConverter polymorphicOnlyConverter = new MappingTarantoolWriteConverter(mappingContext,
+                polymorphicOnlyTupleTypeMapper, polymorphicOnlyMapTypeMapper, () -> customConversions, conversionService);
+        WithValidConverter source = new WithValidConverter("1");
+        TarantoolTuple tuple = withValidConverterEmptyTuple();
+
+        polymorphicOnlyConverter.write(source, tuple);
+        assertThat(tuple.getObject("id", String.class)).contains(source.getId());
+        assertThat(tuple.getObject("_class")).isEmpty();
+    }
+
     @Test
     void shouldNotWriteSimpleObjectWithCustomConverter() {
         WithNotValidConverter source = new WithNotValidConverter("1");
@@ -0,0 +1,118 @@
+package org.springframework.data.tarantool.core.convert;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.util.TypeInformation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TarantoolMapTypeMapperTest {
+
+    @Test
+    void shouldWriteAndReadShortAlias() {
+        TarantoolMapTypeMapper typeMapper = new TarantoolMapTypeMapper(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, mappingContext(),
+                TypeAliasMode.ALWAYS, Map.of(Circle.class, 1, Square.class, "sq"));
+
+        Map<String, Object> circle = new HashMap<>();
+        typeMapper.writeType(Circle.class, circle);
+        assertThat(circle).containsEntry(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, 1);
+
+        Map<String, Object> square = new HashMap<>();
+        typeMapper.writeType(Square.class, square);
+        assertThat(square).containsEntry(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, "sq");
+
+        circle.put(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, 1L);
+        assertThat(typeMapper.readType(circle, TypeInformation.of(Shape.class)).getType()).isEqualTo(Circle.class);
+        assertThat(typeMapper.readType(square, TypeInformation.of(Shape.class)).getType()).isEqualTo(Square.class);
+    }
+
+    @Test
+    void shouldSkipAliasForNotPolymorphicType() {
+        TarantoolMapTypeMapper typeMapper = new TarantoolMapTypeMapper(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, mappingContext(),
+                TypeAliasMode.POLYMORPHIC_ONLY, Map.of(Circle.class, 1));
+
+        Map<String, Object> source = Map.of(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, 1);
+        assertThat(typeMapper.readType(source, TypeInformation.of(Shape.class)).getType()).isEqualTo(Circle.class);
+        assertThat(typeMapper.readType(source, TypeInformation.of(Square.class)).getType()).isEqualTo(Square.class);
+    }
+
+    @Test
+    void shouldReadAliasOfTypeWithSubtypeAddedLater() {
+        TarantoolMappingContext mappingContext = mappingContext();
+        TarantoolMapTypeMapper typeMapper = new TarantoolMapTypeMapper(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, mappingContext,
+                TypeAliasMode.POLYMORPHIC_ONLY, Map.of(RoundedSquare.class, "rsq"));
+
+        Map<String, Object> source = Map.of(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, "rsq");
+        assertThat(typeMapper.readType(source, TypeInformation.of(Square.class)).getType()).isEqualTo(Square.class);
+
+        mappingContext.getRequiredPersistentEntity(RoundedSquare.class);
+        assertThat(typeMapper.readType(source, TypeInformation.of(Square.class)).getType()).isEqualTo(RoundedSquare.class);
+    }
+
+    @Test
+    void shouldWriteClassNameAndReadTypeAliasByDefault() {
+        TarantoolMapTypeMapper typeMapper = new TarantoolMapTypeMapper(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, mappingContext(),
+                TypeAliasMode.ALWAYS, Map.of());
+
+        Map<String, Object> triangle = new HashMap<>();
+        typeMapper.writeType(Triangle.class, triangle);
+        assertThat(triangle).containsEntry(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, Triangle.class.getName());
+
+        Map<String, Object> source = Map.of(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, "triangle");
+        assertThat(typeMapper.readType(source, TypeInformation.of(Shape.class)).getType()).isEqualTo(Triangle.class);
+    }
+
+    @Test
+    void shouldRequireTypeAliasOnlyForPolymorphicTypes() {
+        TarantoolMappingContext mappingContext = mappingContext();
+        TarantoolMapTypeMapper polymorphicOnly = new TarantoolMapTypeMapper(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, mappingContext,
+                TypeAliasMode.POLYMORPHIC_ONLY, Map.of());
+        TarantoolMapTypeMapper always = new TarantoolMapTypeMapper(TarantoolMapTypeMapper.DEFAULT_TYPE_KEY, mappingContext,
+                TypeAliasMode.ALWAYS, Map.of());
+
+        assertThat(polymorphicOnly.requiresTypeAlias(Circle.class, TypeInformation.of(Shape.class))).isTrue();
+        assertThat(polymorphicOnly.requiresTypeAlias(Circle.class, TypeInformation.of(Circle.class))).isFalse();
+        assertThat(always.requiresTypeAlias(Circle.class, TypeInformation.of(Circle.class))).isTrue();
+    }
+
+    @Test
+    void shouldKeepEntitiesVersionForKnownEntities() {
+        TarantoolMappingContext mappingContext = mappingContext();
+        long version = mappingContext.getPersistentEntitiesVersion();
+
+        mappingContext.getRequiredPersistentEntity(Circle.class);
+        mappingContext.getPersistentEntity(String.class);
+        assertThat(mappingContext.getPersistentEntitiesVersion()).isEqualTo(version);
+
+        mappingContext.getRequiredPersistentEntity(RoundedSquare.class);
+        assertThat(mappingContext.getPersistentEntitiesVersion()).isGreaterThan(version);
+    }
+
+    private TarantoolMappingContext mappingContext() {
+        TarantoolMappingContext mappingContext = new TarantoolMappingContext();
+        mappingContext.setInitialEntitySet(Set.of(Shape.class, Circle.class, Square.class, Triangle.class));
+        mappingContext.afterPropertiesSet();
+        return mappingContext;
+    }
+
+    private static abstract class Shape {
+    }
+
+    private static class Circle extends Shape {
+    }
+
+    private static class Square extends Shape {
+    }
+
+    private static class RoundedSquare extends Square {
+    }
+
+    @TypeAlias("triangle")
+    private static class Triangle extends Shape {
+    }
+}
@@ -1,6 +1,13 @@
 package org.springframework.data.tarantool.core.convert;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
@@ -30,4 +37,46 @@ public class TarantoolMessagePackConvertersTest {
         Double converted = TarantoolMessagePackConverters.FloatToDoubleConverter.INSTANCE.convert(4.1f);
         assertThat(converted).isEqualTo(4.1, within(0.01));
     }
+
+    @Test
+    void shouldConvertByteBufferToMessagePackValue() {
+        byte[] bytes = "binary".getBytes(StandardCharsets.UTF_8);
+        MessagePackValue converted = TarantoolMessagePackConverters.ByteBufferToMessagePackValueConverter.INSTANCE.convert(ByteBuffer.wrap(bytes));
+        assertThat(converted.getValue().isBinaryValue()).isTrue();
+        assertThat(converted.getValue().asBinaryValue().asByteArray()).isEqualTo(bytes);
+
+        ByteBuffer slice = ByteBuffer.wrap(bytes, 1, 3).asReadOnlyBuffer();
+        MessagePackValue convertedSlice = TarantoolMessagePackConverters.ByteBufferToMessagePackValueConverter.INSTANCE.convert(slice);
+        assertThat(convertedSlice.getValue().asBinaryValue().asByteArray()).isEqualTo("ina".getBytes(StandardCharsets.UTF_8));
+        assertThat(slice.remaining()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldConvertMessagePackValueToByteBuffer() {
+        byte[] bytes = "binary".getBytes(StandardCharsets.UTF_8);
+        Value value = ValueFactory.newBinary(bytes, true);
+
+        ByteBuffer converted = TarantoolMessagePackConverters.MessagePackValueToByteBufferConverter.INSTANCE.convert(MessagePackValue.of(value));
+        assertThat(converted.isReadOnly()).isTrue();
+        assertThat(converted.remaining()).isEqualTo(bytes.length);
+        assertThat(converted.get(0)).isEqualTo(bytes[0]);
+    }
+
+    @Test
+    void shouldConvertByteBufToMessagePackValue() {
+        byte[] bytes = "binary".getBytes(StandardCharsets.UTF_8);
+        MessagePackValue converted = TarantoolMessagePackConverters.ByteBufToMessagePackValueConverter.INSTANCE.convert(Unpooled.wrappedBuffer(bytes));
+        assertThat(converted.getValue().asBinaryValue().asByteArray()).isEqualTo(bytes);
+    }
+
+    @Test
+    void shouldConvertMessagePackValueToByteBuf() {
+        byte[] bytes = "binary".getBytes(StandardCharsets.UTF_8);
+        Value value = ValueFactory.newBinary(bytes, true);
+
+        ByteBuf converted = TarantoolMessagePackConverters.MessagePackValueToByteBufConverter.INSTANCE.convert(MessagePackValue.of(value));
+        assertThat(converted.isReadOnly()).isTrue();
+        assertThat(converted.readableBytes()).isEqualTo(bytes.length);
+        assertThat(converted.getByte(0)).isEqualTo(bytes[0]);
+    }
 }
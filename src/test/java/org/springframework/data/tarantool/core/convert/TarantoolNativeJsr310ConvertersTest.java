@@ -0,0 +1,79 @@
+package org.springframework.data.tarantool.core.convert;
+
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ExtensionValue;
+import org.msgpack.value.ValueFactory;
+
+import java.time.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TarantoolNativeJsr310ConvertersTest {
+
+    @Test
+    void shouldConvertInstantToDatetime() {
+        Instant instant = Instant.ofEpochSecond(1_619_816_400L);
+        MessagePackValue converted = TarantoolNativeJsr310Converters.InstantToMessagePackValueConverter.INSTANCE.convert(instant);
+
+        ExtensionValue extension = converted.getValue().asExtensionValue();
+        assertThat(extension.getType()).isEqualTo(TarantoolNativeJsr310Converters.DATETIME_EXTENSION_TYPE);
+        assertThat(extension.getData()).hasSize(8);
+        assertThat(TarantoolNativeJsr310Converters.MessagePackValueToInstantConverter.INSTANCE.convert(converted)).isEqualTo(instant);
+    }
+
+    @Test
+    void shouldConvertLocalDateTimeToDatetime() {
+        LocalDateTime localDateTime = LocalDateTime.of(2021, 5, 1, 10, 15, 30, 123_456_789);
+        MessagePackValue converted = TarantoolNativeJsr310Converters.LocalDateTimeToMessagePackValueConverter.INSTANCE.convert(localDateTime);
+
+        assertThat(converted.getValue().asExtensionValue().getData()).hasSize(16);
+        assertThat(TarantoolNativeJsr310Converters.MessagePackValueToLocalDateTimeConverter.INSTANCE.convert(converted)).isEqualTo(localDateTime);
+    }
+
+    @Test
+    void shouldConvertLocalDateToDatetime() {
+        LocalDate localDate = LocalDate.of(1969, 12, 31);
+        MessagePackValue converted = TarantoolNativeJsr310Converters.LocalDateToMessagePackValueConverter.INSTANCE.convert(localDate);
+
+        assertThat(TarantoolNativeJsr310Converters.MessagePackValueToLocalDateConverter.INSTANCE.convert(converted)).isEqualTo(localDate);
+    }
+
+    @Test
+    void shouldConvertOffsetDateTimeToDatetime() {
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(2021, 5, 1, 10, 15, 30, 0, ZoneOffset.ofHours(3));
+        MessagePackValue converted = TarantoolNativeJsr310Converters.OffsetDateTimeToMessagePackValueConverter.INSTANCE.convert(offsetDateTime);
+
+        assertThat(TarantoolNativeJsr310Converters.MessagePackValueToOffsetDateTimeConverter.INSTANCE.convert(converted)).isEqualTo(offsetDateTime);
+    }
+
+    @Test
+    void shouldReadDatetimeFromEpochMillis() {
+        Instant converted = TarantoolNativeJsr310Converters.MessagePackValueToInstantConverter.INSTANCE.convert(MessagePackValue.of(ValueFactory.newInteger(1_000L)));
+        assertThat(converted).isEqualTo(Instant.ofEpochSecond(1));
+    }
+
+    @Test
+    void shouldConvertDurationToInterval() {
+        Duration duration = Duration.ofSeconds(-90_000, 500);
+        MessagePackValue converted = TarantoolNativeJsr310Converters.DurationToMessagePackValueConverter.INSTANCE.convert(duration);
+
+        ExtensionValue extension = converted.getValue().asExtensionValue();
+        assertThat(extension.getType()).isEqualTo(TarantoolNativeJsr310Converters.INTERVAL_EXTENSION_TYPE);
+        assertThat(TarantoolNativeJsr310Converters.MessagePackValueToDurationConverter.INSTANCE.convert(converted)).isEqualTo(duration);
+    }
+
+    @Test
+    void shouldConvertPeriodToInterval() {
+        Period period = Period.of(1, 2, 300);
+        MessagePackValue converted = TarantoolNativeJsr310Converters.PeriodToMessagePackValueConverter.INSTANCE.convert(period);
+
+        assertThat(converted.getValue().asExtensionValue().getData()).containsExactly(3, 0, 1, 1, 2, 3, 0xcd, 0x01, 0x2c);
+        assertThat(TarantoolNativeJsr310Converters.MessagePackValueToPeriodConverter.INSTANCE.convert(converted)).isEqualTo(period);
+    }
+
+    @Test
+    void shouldReadIntervalFromString() {
+        Period converted = TarantoolNativeJsr310Converters.MessagePackValueToPeriodConverter.INSTANCE.convert(MessagePackValue.of(ValueFactory.newString("P1Y2M3D")));
+        assertThat(converted).isEqualTo(Period.of(1, 2, 3));
+    }
+}
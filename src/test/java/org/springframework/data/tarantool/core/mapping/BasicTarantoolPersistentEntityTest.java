@@ -126,6 +126,14 @@ public class BasicTarantoolPersistentEntityTest {
         assertThat(mapId).hasSize(0);
     }
 
+    @Test
+    void shouldDetectEntityFullyInitializedByCreator() {
+        TarantoolMappingContext context = new TarantoolMappingContext();
+
+        assertThat(context.getRequiredPersistentEntity(MessageRecord.class).isFullyInitializedByCreator()).isTrue();
+        assertThat(context.getRequiredPersistentEntity(Message.class).isFullyInitializedByCreator()).isFalse();
+    }
+
     @PrimaryKeyClass
     private static class MessageId {
     }
@@ -181,4 +189,7 @@ public class BasicTarantoolPersistentEntityTest {
             return BasicMapId.id("messageId", id);
         }
     }
+
+    private record MessageRecord(UUID id, String text) {
+    }
 }
@@ -2,8 +2,13 @@ package org.springframework.data.tarantool.core.mapping;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
 
 import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -137,6 +142,81 @@ public class MapIdFactoryTest {
         assertThat(mapid.get("number")).isNull();
     }
 
+    @Test
+    void shouldKeepStateOfIdsOfSameInterfaceSeparate() {
+        ExtendingNothingInterface first = MapIdFactory.id(ExtendingNothingInterface.class);
+        ExtendingNothingInterface second = MapIdFactory.id(ExtendingNothingInterface.class);
+
+        first.setString("first");
+        second.withString("second").setNumber(2);
+
+        assertThat(first.getClass()).isSameAs(second.getClass());
+        assertThat(first.getString()).isEqualTo("first");
+        assertThat(first.getNumber()).isNull();
+        assertThat(second.string()).isEqualTo("second");
+        assertThat(second.number()).isEqualTo(2);
+        assertThat(MapIdFactory.getProxyInterfaces(ExtendingNothingInterface.class))
+                .containsExactly(MapId.class, ExtendingNothingInterface.class);
+    }
+
+    @Test
+    void shouldImplementIdInterfaceWithGeneratedClass() {
+        ExtendingNothingInterface id = MapIdFactory.id(ExtendingNothingInterface.class);
+        MapId mapId = (MapId) id;
+
+        assertThat(Proxy.isProxyClass(id.getClass())).isFalse();
+        assertThat(id).isInstanceOf(GeneratedMapId.class);
+        assertThat(mapId).isEmpty();
+
+        id.withString("value").setNumber(null);
+        mapId.put("other", 1);
+
+        assertThat(mapId).hasSize(3).containsEntry("string", "value").containsEntry("number", null).containsEntry("other", 1);
+        MapId basicMapId = BasicMapId.id("string", "value").with("number", null).with("other", 1);
+        assertThat(mapId).isEqualTo(basicMapId);
+        assertThat(basicMapId).isEqualTo(mapId);
+        assertThat(mapId.hashCode()).isEqualTo(basicMapId.hashCode());
+
+        assertThat(mapId.remove("string")).isEqualTo("value");
+        assertThat(id.getString()).isNull();
+        assertThat(mapId.containsKey("string")).isFalse();
+        assertThat(mapId.toString()).isEqualTo("{ number : null, other : 1 }");
+
+        mapId.entrySet().removeIf(entry -> entry.getKey().equals("number"));
+        assertThat(mapId).containsOnlyKeys("other");
+
+        mapId.clear();
+        assertThat(mapId).isEmpty();
+    }
+
+    @Test
+    void shouldConvertPrimitivePropertiesOfGeneratedClass() {
+        PrimitiveInterface id = MapIdFactory.id(PrimitiveInterface.class);
+
+        assertThat(id.count(2).getCount()).isEqualTo(2);
+        assertThat(((MapId) id).get("count")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldImplementIdInterfaceWithProxyForOtherClassLoader() {
+        ClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        PrimitiveInterface id = MapIdFactory.id(PrimitiveInterface.class, loader);
+
+        assertThat(Proxy.isProxyClass(id.getClass())).isTrue();
+        assertThat(id.count(2).getCount()).isEqualTo(2);
+        assertThat(id).isEqualTo(BasicMapId.id("count", 2));
+    }
+
+    @Test
+    void shouldRegisterProxyHintsOfIdInterfaces() {
+        RuntimeHints hints = new RuntimeHints();
+
+        assertThat(MapIdProxyHints.registerIdInterface(hints, ExtendingNothingInterface.class)).isTrue();
+        assertThat(MapIdProxyHints.registerIdInterface(hints, MapId.class)).isFalse();
+        assertThat(MapIdProxyHints.registerIdInterface(hints, LiteralGet.class)).isFalse();
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(MapId.class, ExtendingNothingInterface.class)).accepts(hints);
+    }
+
     @Test
     void shouldValidateInterfaces() {
         Class<?>[] interfaces = new Class<?>[]{IdClass.class, LiteralGet.class, GetterReturningVoid.class,
@@ -193,6 +273,12 @@ public class MapIdFactoryTest {
         Integer getNumber();
     }
 
+    public interface PrimitiveInterface {
+        PrimitiveInterface count(int count);
+
+        int getCount();
+    }
+
     private static class IdClass {
     }
 
@@ -1,5 +1,6 @@
 package org.springframework.data.tarantool.repository.query;
 
+import io.tarantool.driver.api.conditions.Conditions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,16 +11,30 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
+import org.springframework.data.tarantool.core.TarantoolTupleMethodsHelper;
+import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.domain.User;
 import org.springframework.data.tarantool.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class ReactiveTarantoolRepositoryQueryTest {
@@ -46,6 +61,88 @@ public class ReactiveTarantoolRepositoryQueryTest {
         assertThat(query.getExecution()).isInstanceOf(ReactiveDirectTarantoolQuery.DirectTarantoolQueryExecution.CollectionExecution.class);
     }
 
+    @Test
+    void shouldBindInCriterionIntoBatchOfQueries() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        when(operations.stream(any(Conditions.class), anyInt(), eq(User.class))).thenReturn(Flux.empty());
+
+        Method method = SampleRepository.class.getMethod("findByLastNameIn", Collection.class);
+        ReactiveTarantoolQueryMethod queryMethod = new ReactiveTarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        ReactivePartTreeTarantoolQuery query = new ReactivePartTreeTarantoolQuery(queryMethod, operations);
+
+        StepVerifier.create((Flux<?>) query.execute(new Object[]{List.of("Pushkin", "Tolstoy", "Pushkin")}))
+                .verifyComplete();
+        verify(operations, times(2)).stream(any(Conditions.class), anyInt(), eq(User.class));
+    }
+
+    @Test
+    void shouldMergeOrBranchesByPrimaryKey() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        User pushkin = User.builder().id(UUID.randomUUID()).firstName("Alexander").lastName("Pushkin").build();
+        User tolstoy = User.builder().id(UUID.randomUUID()).firstName("Lev").lastName("Tolstoy").build();
+        when(operations.stream(any(Conditions.class), anyInt(), eq(User.class)))
+                .thenReturn(Flux.just(pushkin), Flux.just(tolstoy, pushkin));
+
+        Method method = SampleRepository.class.getMethod("findByFirstNameOrLastName", String.class, String.class);
+        ReactiveTarantoolQueryMethod queryMethod = new ReactiveTarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        ReactivePartTreeTarantoolQuery query = new ReactivePartTreeTarantoolQuery(queryMethod, operations);
+
+        StepVerifier.create((Flux<Object>) query.execute(new Object[]{"Alexander", "Tolstoy"}))
+                .expectNext(pushkin, tolstoy)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnFirstResultOfInAndOrCriteria() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        User pushkin = User.builder().id(UUID.randomUUID()).firstName("Alexander").lastName("Pushkin").build();
+        User tolstoy = User.builder().id(UUID.randomUUID()).firstName("Lev").lastName("Tolstoy").build();
+        when(operations.selectAll(argThat(queries -> queries.size() == 2), eq(User.class))).thenAnswer(invocation -> Flux.just(pushkin, tolstoy));
+
+        Method inMethod = SampleRepository.class.getMethod("findFirstByLastNameIn", Collection.class);
+        ReactiveTarantoolQueryMethod inQueryMethod = new ReactiveTarantoolQueryMethod(inMethod, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        StepVerifier.create((Flux<Object>) new ReactivePartTreeTarantoolQuery(inQueryMethod, operations).execute(new Object[]{List.of("Pushkin", "Tolstoy")}))
+                .expectNext(pushkin)
+                .verifyComplete();
+
+        Method orMethod = SampleRepository.class.getMethod("findFirstByFirstNameOrLastName", String.class, String.class);
+        ReactiveTarantoolQueryMethod orQueryMethod = new ReactiveTarantoolQueryMethod(orMethod, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        StepVerifier.create((Flux<Object>) new ReactivePartTreeTarantoolQuery(orQueryMethod, operations).execute(new Object[]{"Alexander", "Tolstoy"}))
+                .expectNext(pushkin)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectNullValueOfInCriterion() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+
+        Method method = SampleRepository.class.getMethod("findByLastNameIn", Collection.class);
+        ReactiveTarantoolQueryMethod queryMethod = new ReactiveTarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        ReactivePartTreeTarantoolQuery query = new ReactivePartTreeTarantoolQuery(queryMethod, operations);
+
+        StepVerifier.create((Flux<?>) query.execute(new Object[]{Arrays.asList("Pushkin", null)}))
+                .verifyError(IllegalArgumentException.class);
+        verify(operations, never()).selectAll(any(), any());
+    }
+
+    @Test
+    void shouldCountOrBranchesByStreamingKeys() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        User pushkin = User.builder().id(UUID.randomUUID()).firstName("Alexander").lastName("Pushkin").build();
+        User tolstoy = User.builder().id(UUID.randomUUID()).firstName("Lev").lastName("Tolstoy").build();
+        when(operations.stream(any(Conditions.class), eq(TarantoolTupleMethodsHelper.DEFAULT_FETCH_SIZE), eq(User.class)))
+                .thenReturn(Flux.just(pushkin), Flux.just(tolstoy, pushkin));
+
+        Method method = SampleRepository.class.getMethod("countByFirstNameOrLastName", String.class, String.class);
+        ReactiveTarantoolQueryMethod queryMethod = new ReactiveTarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        ReactivePartTreeTarantoolQuery query = new ReactivePartTreeTarantoolQuery(queryMethod, operations);
+
+        StepVerifier.create((Flux<Object>) query.execute(new Object[]{"Alexander", "Tolstoy"}))
+                .expectNext(2L)
+                .verifyComplete();
+        verify(operations, never()).selectAll(any(), any());
+    }
+
     private ReactiveDirectTarantoolQuery getQuery(Class<?> repository, String name, Class<?>... parameters) throws Exception {
         Method method = repository.getMethod(name, parameters);
         ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
@@ -61,5 +158,15 @@ public class ReactiveTarantoolRepositoryQueryTest {
 
         @Query(function = "find_all_users")
         Flux<User> findAllUsers();
+
+        Flux<User> findByLastNameIn(Collection<String> lastNames);
+
+        Flux<User> findByFirstNameOrLastName(String firstName, String lastName);
+
+        Mono<Long> countByFirstNameOrLastName(String firstName, String lastName);
+
+        Mono<User> findFirstByLastNameIn(Collection<String> lastNames);
+
+        Mono<User> findFirstByFirstNameOrLastName(String firstName, String lastName);
     }
 }
\ No newline at end of file
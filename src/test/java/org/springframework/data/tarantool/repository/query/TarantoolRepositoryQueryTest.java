@@ -1,24 +1,56 @@
 package org.springframework.data.tarantool.repository.query;
 
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexOptions;
+import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.tarantool.core.TarantoolOperations;
+import org.springframework.data.tarantool.core.TarantoolTupleMethodsHelper;
+import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.query.IndexSort;
 import org.springframework.data.tarantool.domain.User;
+import org.springframework.data.tarantool.repository.FetchSize;
 import org.springframework.data.tarantool.repository.Query;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class TarantoolRepositoryQueryTest {
@@ -45,6 +77,431 @@ public class TarantoolRepositoryQueryTest {
         assertThat(query.getExecution()).isInstanceOf(DirectTarantoolQuery.DirectTarantoolQueryExecution.CollectionExecution.class);
     }
 
+    @Test
+    void shouldCompileDerivedQueryOnce() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        when(operations.isProxyClient()).thenReturn(false);
+
+        Method method = SampleRepository.class.getMethod("findByFirstNameAndLastName", String.class, String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+        assertThat(query.getExecution()).isInstanceOf(PartTreeTarantoolQuery.PartTreeTarantoolQueryExecution.CollectionExecution.class);
+
+        query.execute(new Object[]{"Alexander", "Pushkin"});
+        query.execute(new Object[]{"Lev", "Tolstoy"});
+
+        verify(operations, times(1)).isProxyClient();
+        verify(operations, times(2)).select(any(Conditions.class), eq(User.class));
+    }
+
+    @Test
+    void shouldPlanDerivedQueryOnMatchingIndex() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "id", 0);
+        mockField(spaceMetadata, "firstName", 1);
+        mockField(spaceMetadata, "lastName", 2);
+        when(operations.spaceMetadata("users")).thenReturn(Optional.of(spaceMetadata));
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "name", mockIndex("name", 1, false, 2, 1));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+
+        TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+        Method method = SampleRepository.class.getMethod("findByFirstNameAndLastName", String.class, String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        TarantoolQueryPlan plan = TarantoolQueryPlan.compile(method.getName(), new PartTree(method.getName(), User.class),
+                converter.getMappingContext().getRequiredPersistentEntity(User.class), converter, operations);
+
+        assertThat(plan.getIndexName(0)).hasValue("name");
+        assertThat(plan.bind(new ParametersParameterAccessor(queryMethod.getParameters(), new Object[]{"Alexander", "Pushkin"}))).hasSize(1);
+    }
+
+    @Test
+    void shouldPlanIndexCoveringSomeCriteriaWithProxyClient() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "firstName", 1);
+        mockField(spaceMetadata, "lastName", 2);
+        when(operations.spaceMetadata("users")).thenReturn(Optional.of(spaceMetadata));
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "lastName", mockIndex("lastName", 1, false, 2));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+        when(operations.isProxyClient()).thenReturn(true);
+
+        Method method = SampleRepository.class.getMethod("findByLastNameAndFirstNameGreaterThan", String.class, String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        TarantoolQueryPlan plan = compilePlan(method.getName());
+
+        assertThat(plan.getIndexName(0)).hasValue("lastName");
+        assertThat(plan.bind(new ParametersParameterAccessor(queryMethod.getParameters(), new Object[]{"Pushkin", "A"})))
+                .containsExactly(Conditions.indexEquals("lastName", List.of("Pushkin")).andGreaterThan("firstName", "A"));
+
+        when(operations.isProxyClient()).thenReturn(false);
+        assertThat(compilePlan(method.getName()).getIndexName(0)).isEmpty();
+    }
+
+    @Test
+    void shouldUseHashIndexOnlyForFullKeyLookup() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "id", 0);
+        mockField(spaceMetadata, "firstName", 1);
+        mockField(spaceMetadata, "lastName", 2);
+        when(operations.spaceMetadata("users")).thenReturn(Optional.of(spaceMetadata));
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, TarantoolIndexType.TREE, 0),
+                "name", mockIndex("name", 1, false, TarantoolIndexType.HASH, 2, 1),
+                "location", mockIndex("location", 2, false, TarantoolIndexType.RTREE, 2));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+
+        assertThat(compilePlan("findByFirstNameAndLastName").getIndexName(0)).hasValue("name");
+        assertThat(compilePlan("findByLastName").getIndexName(0)).isEmpty();
+        assertThat(compilePlan("findByLastNameGreaterThan").getIndexName(0)).isEmpty();
+        assertThat(compilePlan("findByIdGreaterThan").getIndexName(0)).hasValue("primary");
+    }
+
+    @Test
+    void shouldBindInCriterionIntoBatchOfQueries() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+
+        Method method = SampleRepository.class.getMethod("findByLastNameIn", Collection.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+
+        query.execute(new Object[]{List.of("Pushkin", "Tolstoy", "Pushkin")});
+
+        verify(operations, times(1)).selectAll(argThat(queries -> queries.size() == 2), eq(User.class));
+    }
+
+    @Test
+    void shouldRejectNullValueOfInCriterion() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+
+        Method method = SampleRepository.class.getMethod("findByLastNameIn", Collection.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+
+        assertThatThrownBy(() -> query.execute(new Object[]{Arrays.asList("Pushkin", null)}))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(operations, never()).selectAll(any(), any());
+    }
+
+    @Test
+    void shouldRejectInCriteriaExpandedIntoTooManyQueries() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+
+        Method method = SampleRepository.class.getMethod("findByFirstNameInAndLastNameIn", Collection.class, Collection.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+
+        List<String> names = IntStream.range(0, 40).mapToObj(i -> "name" + i).collect(Collectors.toList());
+        assertThatThrownBy(() -> query.execute(new Object[]{names, names}))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+        verify(operations, never()).selectAll(any(), any());
+    }
+
+    @Test
+    void shouldMergeOrBranchesByPrimaryKey() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        User pushkin = User.builder().id(UUID.randomUUID()).firstName("Alexander").lastName("Pushkin").build();
+        User tolstoy = User.builder().id(UUID.randomUUID()).firstName("Lev").lastName("Tolstoy").build();
+        when(operations.selectAll(argThat(queries -> queries.size() == 2), eq(User.class))).thenReturn(List.of(pushkin, tolstoy, pushkin));
+
+        Method method = SampleRepository.class.getMethod("findByFirstNameOrLastName", String.class, String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+
+        assertThat(query.execute(new Object[]{"Alexander", "Tolstoy"})).asList().containsExactly(pushkin, tolstoy);
+    }
+
+    @Test
+    void shouldReturnFirstResultOfInAndOrCriteria() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        User pushkin = User.builder().id(UUID.randomUUID()).firstName("Alexander").lastName("Pushkin").build();
+        User tolstoy = User.builder().id(UUID.randomUUID()).firstName("Lev").lastName("Tolstoy").build();
+        when(operations.selectAll(argThat(queries -> queries.size() == 2), eq(User.class))).thenReturn(List.of(pushkin, tolstoy));
+
+        Method inMethod = SampleRepository.class.getMethod("findFirstByLastNameIn", Collection.class);
+        TarantoolQueryMethod inQueryMethod = new TarantoolQueryMethod(inMethod, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        assertThat(new PartTreeTarantoolQuery(inQueryMethod, operations).execute(new Object[]{List.of("Pushkin", "Tolstoy")})).isEqualTo(pushkin);
+
+        Method orMethod = SampleRepository.class.getMethod("findFirstByFirstNameOrLastName", String.class, String.class);
+        TarantoolQueryMethod orQueryMethod = new TarantoolQueryMethod(orMethod, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        assertThat(new PartTreeTarantoolQuery(orQueryMethod, operations).execute(new Object[]{"Alexander", "Tolstoy"})).isEqualTo(pushkin);
+    }
+
+    @Test
+    void shouldCountOrBranchesByStreamingKeys() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        User pushkin = User.builder().id(UUID.randomUUID()).firstName("Alexander").lastName("Pushkin").build();
+        User tolstoy = User.builder().id(UUID.randomUUID()).firstName("Lev").lastName("Tolstoy").build();
+        when(operations.stream(any(Conditions.class), eq(TarantoolTupleMethodsHelper.DEFAULT_FETCH_SIZE), eq(User.class)))
+                .thenReturn(Stream.of(pushkin), Stream.of(tolstoy, pushkin));
+
+        Method method = SampleRepository.class.getMethod("countByFirstNameOrLastName", String.class, String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+
+        assertThat(query.execute(new Object[]{"Alexander", "Tolstoy"})).isEqualTo(2L);
+        verify(operations, times(2)).stream(any(Conditions.class), anyInt(), eq(User.class));
+        verify(operations, never()).selectAll(any(), any());
+    }
+
+    @Test
+    void shouldPushLimitParameterToEveryQuery() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+
+        Method method = SampleRepository.class.getMethod("findByFirstNameOrLastName", String.class, String.class, Limit.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+
+        query.execute(new Object[]{"Alexander", "Tolstoy", Limit.of(5)});
+
+        verify(operations, times(1)).selectAll(argThat(queries -> queries.size() == 2
+                && queries.stream().allMatch(conditions -> conditions.getLimit() == 5)), eq(User.class));
+    }
+
+    @Test
+    void shouldScrollDerivedQueryWithKeysetPosition() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+
+        Method method = SampleRepository.class.getMethod("findFirst10ByLastName", String.class, ScrollPosition.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+        assertThat(query.getExecution()).isInstanceOf(PartTreeTarantoolQuery.PartTreeTarantoolQueryExecution.ScrollExecution.class);
+
+        ScrollPosition position = ScrollPosition.forward(Map.of("id", UUID.randomUUID()));
+        query.execute(new Object[]{"Pushkin", position});
+
+        verify(operations, times(1)).scroll(any(Conditions.class), eq(position), eq(10), eq(User.class));
+    }
+
+    @Test
+    void shouldSortDerivedQueryByMatchingIndex() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "lastName", 2);
+        when(operations.requiredSpaceMetadata("users")).thenReturn(spaceMetadata);
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "name", mockIndex("name", 1, false, 2, 1));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+
+        TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+        Method method = SampleRepository.class.getMethod("findTop3ByOrderByLastNameDesc");
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        TarantoolQueryPlan plan = TarantoolQueryPlan.compile(method.getName(), new PartTree(method.getName(), User.class),
+                converter.getMappingContext().getRequiredPersistentEntity(User.class), converter, operations);
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), new Object[0]);
+
+        assertThat(plan.getIndexSort(accessor)).isEqualTo(IndexSort.descending("name"));
+        List<Conditions> queries = plan.bind(accessor);
+        assertThat(queries).hasSize(1);
+        assertThat(queries.get(0).getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSortDerivedQueryOnClientWithoutTreeIndex() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "lastName", 2);
+        lenient().when(operations.requiredSpaceMetadata("users")).thenReturn(spaceMetadata);
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "name", mockIndex("name", 1, false, TarantoolIndexType.HASH, 2, 1));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+
+        Method method = SampleRepository.class.getMethod("findTop3ByOrderByLastNameDesc");
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        TarantoolQueryPlan plan = compilePlan(method.getName());
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), new Object[0]);
+
+        assertThat(plan.getIndexSort(accessor)).isNull();
+        assertThat(plan.getClientSort(accessor)).isNotNull();
+        List<Conditions> queries = plan.bind(accessor);
+        assertThat(queries).hasSize(1);
+        assertThat(queries.get(0).getLimit()).isGreaterThan(3);
+    }
+
+    @Test
+    void shouldSortDerivedQueryWithMixedDirectionsOnClient() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "lastName", 2);
+        mockField(spaceMetadata, "firstName", 1);
+        lenient().when(operations.requiredSpaceMetadata("users")).thenReturn(spaceMetadata);
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "name", mockIndex("name", 1, false, 2, 1));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+
+        Method method = SampleRepository.class.getMethod("findTop3ByOrderByLastNameDescFirstNameAsc");
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        TarantoolQueryPlan plan = compilePlan(method.getName());
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), new Object[0]);
+
+        assertThat(plan.getIndexSort(accessor)).isNull();
+        assertThat(plan.getClientSort(accessor)).isNotNull();
+    }
+
+    @Test
+    void shouldScanPrefixOnMatchingIndex() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "lastName", 2);
+        when(operations.isProxyClient()).thenReturn(true);
+        when(operations.spaceMetadata("users")).thenReturn(Optional.of(spaceMetadata));
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "name", mockIndex("name", 1, false, 2, 1));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+
+        TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+        Method method = SampleRepository.class.getMethod("findTop10ByLastNameStartingWith", String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        TarantoolQueryPlan plan = TarantoolQueryPlan.compile(method.getName(), new PartTree(method.getName(), User.class),
+                converter.getMappingContext().getRequiredPersistentEntity(User.class), converter, operations);
+
+        assertThat(plan.getIndexName(0)).hasValue("name");
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), new Object[]{"Push"});
+        List<Conditions> queries = plan.bind(accessor);
+        assertThat(queries).containsExactly(Conditions.indexGreaterOrEquals("name", List.of("Push"))
+                .andLessThan("lastName", "Pusi").withLimit(10));
+        assertThat(plan.getClientFilter(accessor)).isNull();
+    }
+
+    @Test
+    void shouldCutPrefixScanOnClientWithBoxClient() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "lastName", 2);
+        when(operations.isProxyClient()).thenReturn(false);
+        when(operations.spaceMetadata("users")).thenReturn(Optional.of(spaceMetadata));
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "name", mockIndex("name", 1, false, 2, 1));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+
+        Method method = SampleRepository.class.getMethod("findTop10ByLastNameStartingWith", String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        TarantoolQueryPlan plan = compilePlan(method.getName());
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), new Object[]{"Push"});
+
+        assertThat(plan.bind(accessor)).containsExactly(Conditions.indexGreaterOrEquals("name", List.of("Push")).withLimit(10));
+        assertThat(plan.getClientFilter(accessor))
+                .accepts(User.builder().lastName("Pushkin").build())
+                .rejects(User.builder().lastName("Tolstoy").build(), User.builder().build());
+    }
+
+    @Test
+    void shouldReturnPrefixScanResultsUpToFirstMismatchWithBoxClient() throws Exception {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "lastName", 2);
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        when(operations.isProxyClient()).thenReturn(false);
+        when(operations.spaceMetadata("users")).thenReturn(Optional.of(spaceMetadata));
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "name", mockIndex("name", 1, false, 2, 1));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+        User pushkin = User.builder().id(UUID.randomUUID()).lastName("Pushkin").build();
+        User tolstoy = User.builder().id(UUID.randomUUID()).lastName("Tolstoy").build();
+        when(operations.stream(any(Conditions.class), anyInt(), eq(User.class)))
+                .thenAnswer(invocation -> Stream.of(pushkin, tolstoy, pushkin));
+
+        for (String methodName : List.of("findTop10ByLastNameStartingWith", "findByLastNameStartingWith")) {
+            Method method = SampleRepository.class.getMethod(methodName, String.class);
+            TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+            PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+
+            assertThat(query.execute(new Object[]{"Push"})).asList().containsExactly(pushkin);
+        }
+        verify(operations, never()).select(any(Conditions.class), eq(User.class));
+    }
+
+    @Test
+    void shouldRejectPrefixScanWithoutTreeIndexWithBoxClient() {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        mockField(spaceMetadata, "lastName", 2);
+        when(operations.isProxyClient()).thenReturn(false);
+        when(operations.spaceMetadata("users")).thenReturn(Optional.of(spaceMetadata));
+        Map<String, TarantoolIndexMetadata> indexes = Map.of(
+                "primary", mockIndex("primary", 0, true, 0),
+                "name", mockIndex("name", 1, false, TarantoolIndexType.HASH, 2));
+        when(operations.spaceIndexes("users")).thenReturn(indexes);
+
+        assertThatThrownBy(() -> compilePlan("findTop10ByLastNameStartingWith"))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("TREE index");
+    }
+
+    @Test
+    void shouldBoundPrefixByNextCodePoint() {
+        assertThat(TarantoolQueryPlan.Criterion.successor("Push")).isEqualTo("Pusi");
+        assertThat(TarantoolQueryPlan.Criterion.successor("\u041f\u0443\u0448\u043a")).isEqualTo("\u041f\u0443\u0448\u043b");
+        assertThat(TarantoolQueryPlan.Criterion.successor("a\uD7FF")).isEqualTo("a\uE000");
+        assertThat(TarantoolQueryPlan.Criterion.successor("a\uD83D\uDE00")).isEqualTo("a\uD83D\uDE01");
+        assertThat(TarantoolQueryPlan.Criterion.successor("ab" + new String(Character.toChars(Character.MAX_CODE_POINT)))).isEqualTo("ac");
+        assertThat(TarantoolQueryPlan.Criterion.successor(new String(Character.toChars(Character.MAX_CODE_POINT)))).isNull();
+        assertThat(TarantoolQueryPlan.Criterion.successor("")).isNull();
+    }
+
+    @Test
+    void shouldRejectLikePatternWithoutPrefixForm() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+        when(operations.isProxyClient()).thenReturn(true);
+
+        Method method = SampleRepository.class.getMethod("findByLastNameLike", String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+
+        assertThatThrownBy(() -> query.execute(new Object[]{"%kin"}))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasMessageContaining("prefix patterns");
+    }
+
+    @Test
+    void shouldStreamDerivedQueryWithAnnotatedFetchSize() throws Exception {
+        when(operations.getConverter()).thenReturn(MappingTarantoolConverter.newConverter());
+
+        Method method = SampleRepository.class.getMethod("streamByLastName", String.class);
+        TarantoolQueryMethod queryMethod = new TarantoolQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(), context);
+        PartTreeTarantoolQuery query = new PartTreeTarantoolQuery(queryMethod, operations);
+        assertThat(query.getExecution()).isInstanceOf(PartTreeTarantoolQuery.PartTreeTarantoolQueryExecution.StreamExecution.class);
+
+        query.execute(new Object[]{"Pushkin"});
+
+        verify(operations, times(1)).stream(any(Conditions.class), eq(50), eq(User.class));
+    }
+
+    private void mockField(TarantoolSpaceMetadata spaceMetadata, String name, int position) {
+        TarantoolFieldMetadata field = mock(TarantoolFieldMetadata.class);
+        lenient().when(field.getFieldPosition()).thenReturn(position);
+        lenient().when(spaceMetadata.getFieldByName(name)).thenReturn(Optional.of(field));
+    }
+
+    private TarantoolQueryPlan compilePlan(String methodName) {
+        TarantoolConverter converter = MappingTarantoolConverter.newConverter();
+        return TarantoolQueryPlan.compile(methodName, new PartTree(methodName, User.class),
+                converter.getMappingContext().getRequiredPersistentEntity(User.class), converter, operations);
+    }
+
+    private TarantoolIndexMetadata mockIndex(String name, int id, boolean unique, int... fieldPositions) {
+        return mockIndex(name, id, unique, TarantoolIndexType.TREE, fieldPositions);
+    }
+
+    private TarantoolIndexMetadata mockIndex(String name, int id, boolean unique, TarantoolIndexType type, int... fieldPositions) {
+        TarantoolIndexMetadata index = mock(TarantoolIndexMetadata.class);
+        List<TarantoolIndexPartMetadata> parts = new ArrayList<>();
+        for (int position : fieldPositions) {
+            TarantoolIndexPartMetadata part = mock(TarantoolIndexPartMetadata.class);
+            lenient().when(part.getFieldIndex()).thenReturn(position);
+            parts.add(part);
+        }
+        TarantoolIndexOptions options = mock(TarantoolIndexOptions.class);
+        lenient().when(options.isUnique()).thenReturn(unique);
+        lenient().when(index.getIndexName()).thenReturn(name);
+        lenient().when(index.getIndexId()).thenReturn(id);
+        lenient().when(index.getIndexOptions()).thenReturn(options);
+        lenient().when(index.getIndexType()).thenReturn(type);
+        lenient().when(index.getIndexParts()).thenReturn(parts);
+        return index;
+    }
+
     private DirectTarantoolQuery getQuery(Class<?> repository, String name, Class<?>... parameters) throws Exception {
         Method method = repository.getMethod(name, parameters);
         ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
@@ -60,5 +517,38 @@ public class TarantoolRepositoryQueryTest {
 
         @Query(function = "find_all_users")
         List<User> findAllUsers();
+
+        List<User> findByFirstNameAndLastName(String firstName, String lastName);
+
+        List<User> findByLastNameIn(Collection<String> lastNames);
+
+        List<User> findByLastNameAndFirstNameGreaterThan(String lastName, String firstName);
+
+        List<User> findByFirstNameInAndLastNameIn(Collection<String> firstNames, Collection<String> lastNames);
+
+        List<User> findByFirstNameOrLastName(String firstName, String lastName);
+
+        List<User> findByFirstNameOrLastName(String firstName, String lastName, Limit limit);
+
+        long countByFirstNameOrLastName(String firstName, String lastName);
+
+        User findFirstByLastNameIn(Collection<String> lastNames);
+
+        User findFirstByFirstNameOrLastName(String firstName, String lastName);
+
+        Window<User> findFirst10ByLastName(String lastName, ScrollPosition position);
+
+        List<User> findTop3ByOrderByLastNameDesc();
+
+        List<User> findTop10ByLastNameStartingWith(String prefix);
+
+        List<User> findByLastNameStartingWith(String prefix);
+
+        List<User> findTop3ByOrderByLastNameDescFirstNameAsc();
+
+        List<User> findByLastNameLike(String pattern);
+
+        @FetchSize(50)
+        Stream<User> streamByLastName(String lastName);
     }
 }
\ No newline at end of file
@@ -1,20 +1,32 @@
 package org.springframework.data.tarantool.repository.support;
 
+import io.tarantool.driver.api.conditions.Conditions;
 import lombok.Data;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
 import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.io.Serializable;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings({"unchecked", "rawtypes"})
@@ -81,6 +93,64 @@ public class SimpleReactiveTarantoolRepositoryTest {
         verify(tarantoolOperations).replace(person, VersionedPerson.class);
     }
 
+    @Test
+    void shouldFindProjectionsByFluentQuery() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+        repository = new SimpleReactiveTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        when(tarantoolOperations.getConverter()).thenReturn(converter);
+        SimplePerson person = new SimplePerson();
+        person.setId("1");
+        when(tarantoolOperations.select(any(Conditions.class), eq(SimplePerson.class))).thenReturn(Flux.just(person));
+
+        repository.findBy(Example.of(new SimplePerson()), query -> query.as(Identified.class).limit(5).all())
+                .as(StepVerifier::create)
+                .assertNext(found -> assertThat(found.getId()).isEqualTo("1"))
+                .verifyComplete();
+        verify(tarantoolOperations).select(Conditions.any().withLimit(5), SimplePerson.class);
+    }
+
+    @Test
+    void shouldRejectMoreThanOneResultOfFluentQuery() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+        repository = new SimpleReactiveTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        when(tarantoolOperations.getConverter()).thenReturn(converter);
+        when(tarantoolOperations.select(any(Conditions.class), eq(SimplePerson.class)))
+                .thenReturn(Flux.just(new SimplePerson(), new SimplePerson()));
+
+        repository.findBy(Example.of(new SimplePerson()), FluentQuery.ReactiveFluentQuery::one)
+                .as(StepVerifier::create)
+                .verifyError(IncorrectResultSizeDataAccessException.class);
+        verify(tarantoolOperations).select(Conditions.any().withLimit(2), SimplePerson.class);
+    }
+
+    @Test
+    void shouldFindPageByFluentQuery() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+        repository = new SimpleReactiveTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        when(tarantoolOperations.getConverter()).thenReturn(converter);
+        when(tarantoolOperations.select(any(Conditions.class), eq(SimplePerson.class))).thenReturn(Flux.just(new SimplePerson()));
+        when(tarantoolOperations.count(any(Conditions.class), eq(SimplePerson.class))).thenReturn(Mono.just(3L));
+
+        repository.findBy(Example.of(new SimplePerson()), query -> query.page(PageRequest.of(1, 2)))
+                .as(StepVerifier::create)
+                .assertNext(page -> {
+                    assertThat(page.getContent()).hasSize(1);
+                    assertThat(page.getTotalElements()).isEqualTo(3L);
+                })
+                .verifyComplete();
+        verify(tarantoolOperations).select(Conditions.any().withOffset(2).withLimit(2), SimplePerson.class);
+    }
+
+    interface Identified {
+        String getId();
+    }
+
     @Data
     static class SimplePerson {
 
@@ -1,20 +1,43 @@
 package org.springframework.data.tarantool.repository.support;
 
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import lombok.Data;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.tarantool.core.TarantoolOperations;
 import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings({"unchecked", "rawtypes"})
@@ -81,6 +104,162 @@ public class SimpleTarantoolRepositoryTest {
         verify(tarantoolOperations).replace(person, VersionedPerson.class);
     }
 
+    @Test
+    void shouldFindByExampleWithIndexLookup() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(LocatedPerson.class);
+        repository = new SimpleTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        TarantoolFieldMetadata nameField = mock(TarantoolFieldMetadata.class);
+        when(nameField.getFieldPosition()).thenReturn(1);
+        TarantoolFieldMetadata cityField = mock(TarantoolFieldMetadata.class);
+        when(cityField.getFieldPosition()).thenReturn(2);
+        when(spaceMetadata.getFieldByName("name")).thenReturn(Optional.of(nameField));
+        when(spaceMetadata.getFieldByName("city")).thenReturn(Optional.of(cityField));
+        TarantoolIndexPartMetadata namePart = mock(TarantoolIndexPartMetadata.class);
+        when(namePart.getFieldIndex()).thenReturn(1);
+        TarantoolIndexMetadata nameIndex = mock(TarantoolIndexMetadata.class);
+        when(nameIndex.getIndexName()).thenReturn("name");
+        when(nameIndex.getIndexParts()).thenReturn(List.of(namePart));
+        when(tarantoolOperations.getConverter()).thenReturn(converter);
+        when(tarantoolOperations.isProxyClient()).thenReturn(true);
+        when(tarantoolOperations.spaceMetadata(any())).thenReturn(Optional.of(spaceMetadata));
+        when(tarantoolOperations.spaceIndexes(any())).thenReturn(Map.of("name", nameIndex));
+
+        LocatedPerson probe = new LocatedPerson();
+        probe.setName("Ann");
+        probe.setCity("Paris");
+        repository.findAll(Example.of(probe));
+
+        ArgumentCaptor<Conditions> query = ArgumentCaptor.forClass(Conditions.class);
+        verify(tarantoolOperations).select(query.capture(), eq(LocatedPerson.class));
+        assertThat(query.getValue()).usingRecursiveComparison()
+                .isEqualTo(Conditions.indexEquals("name", List.of("Ann")).andEquals("city", "Paris"));
+    }
+
+    @Test
+    void shouldNotLookUpHashIndexByPartialKey() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(LocatedPerson.class);
+        repository = new SimpleTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        mockLocationIndex(TarantoolIndexType.HASH);
+        when(tarantoolOperations.isProxyClient()).thenReturn(true);
+
+        LocatedPerson probe = new LocatedPerson();
+        probe.setName("Ann");
+        repository.findAll(Example.of(probe));
+
+        ArgumentCaptor<Conditions> query = ArgumentCaptor.forClass(Conditions.class);
+        verify(tarantoolOperations).select(query.capture(), eq(LocatedPerson.class));
+        assertThat(query.getValue()).usingRecursiveComparison()
+                .isEqualTo(Conditions.any().andEquals("name", "Ann"));
+    }
+
+    @Test
+    void shouldFindByExampleWithIndexKeyOnlyWithBoxClient() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(LocatedPerson.class);
+        repository = new SimpleTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        mockLocationIndex(TarantoolIndexType.TREE);
+
+        LocatedPerson probe = new LocatedPerson();
+        probe.setName("Ann");
+        probe.setCity("Paris");
+        repository.findAll(Example.of(probe));
+
+        ArgumentCaptor<Conditions> query = ArgumentCaptor.forClass(Conditions.class);
+        verify(tarantoolOperations).select(query.capture(), eq(LocatedPerson.class));
+        assertThat(query.getValue()).usingRecursiveComparison()
+                .isEqualTo(Conditions.indexEquals("location", List.of("Ann", "Paris")));
+    }
+
+    @Test
+    void shouldRejectExampleNotMatchingIndexKeyWithBoxClient() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(LocatedPerson.class);
+        repository = new SimpleTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        mockLocationIndex(TarantoolIndexType.TREE);
+
+        LocatedPerson probe = new LocatedPerson();
+        probe.setCity("Paris");
+        assertThatThrownBy(() -> repository.findAll(Example.of(probe)))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+        verify(tarantoolOperations, never()).select(any(Conditions.class), any());
+    }
+
+    @Test
+    void shouldFindFirstProjectionByFluentQuery() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(LocatedPerson.class);
+        repository = new SimpleTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        when(tarantoolOperations.getConverter()).thenReturn(converter);
+        LocatedPerson person = new LocatedPerson();
+        person.setName("Ann");
+        when(tarantoolOperations.select(any(Conditions.class), eq(LocatedPerson.class))).thenReturn(List.of(person));
+
+        Named found = repository.findBy(Example.of(new LocatedPerson()), query -> query.as(Named.class).firstValue());
+
+        assertThat(found).isNotNull();
+        assertThat(found.getName()).isEqualTo("Ann");
+        verify(tarantoolOperations).select(Conditions.any().withLimit(1), LocatedPerson.class);
+    }
+
+    @Test
+    void shouldRejectMoreThanOneResultOfFluentQuery() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(LocatedPerson.class);
+        repository = new SimpleTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        when(tarantoolOperations.getConverter()).thenReturn(converter);
+        when(tarantoolOperations.select(any(Conditions.class), eq(LocatedPerson.class)))
+                .thenReturn(List.of(new LocatedPerson(), new LocatedPerson()));
+
+        assertThatThrownBy(() -> repository.findBy(Example.of(new LocatedPerson()), FluentQuery.FetchableFluentQuery::oneValue))
+                .isInstanceOf(IncorrectResultSizeDataAccessException.class);
+        verify(tarantoolOperations).select(Conditions.any().withLimit(2), LocatedPerson.class);
+    }
+
+    private void mockLocationIndex(TarantoolIndexType indexType) {
+        TarantoolSpaceMetadata spaceMetadata = mock(TarantoolSpaceMetadata.class);
+        TarantoolFieldMetadata nameField = mock(TarantoolFieldMetadata.class);
+        lenient().when(nameField.getFieldPosition()).thenReturn(1);
+        TarantoolFieldMetadata cityField = mock(TarantoolFieldMetadata.class);
+        lenient().when(cityField.getFieldPosition()).thenReturn(2);
+        lenient().when(spaceMetadata.getFieldByName("name")).thenReturn(Optional.of(nameField));
+        lenient().when(spaceMetadata.getFieldByName("city")).thenReturn(Optional.of(cityField));
+        TarantoolIndexPartMetadata namePart = mock(TarantoolIndexPartMetadata.class);
+        lenient().when(namePart.getFieldIndex()).thenReturn(1);
+        TarantoolIndexPartMetadata cityPart = mock(TarantoolIndexPartMetadata.class);
+        lenient().when(cityPart.getFieldIndex()).thenReturn(2);
+        TarantoolIndexMetadata locationIndex = mock(TarantoolIndexMetadata.class);
+        lenient().when(locationIndex.getIndexName()).thenReturn("location");
+        lenient().when(locationIndex.getIndexType()).thenReturn(indexType);
+        lenient().when(locationIndex.getIndexParts()).thenReturn(List.of(namePart, cityPart));
+        lenient().when(tarantoolOperations.getConverter()).thenReturn(converter);
+        lenient().when(tarantoolOperations.spaceMetadata(any())).thenReturn(Optional.of(spaceMetadata));
+        lenient().when(tarantoolOperations.spaceIndexes(any())).thenReturn(Map.of("location", locationIndex));
+    }
+
+    @Test
+    void shouldRejectAnyMatchingExample() {
+        TarantoolPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(LocatedPerson.class);
+        repository = new SimpleTarantoolRepository<Object, String>(
+                new MappingTarantoolEntityInformation(entity),
+                tarantoolOperations);
+        when(tarantoolOperations.getConverter()).thenReturn(converter);
+
+        LocatedPerson probe = new LocatedPerson();
+        probe.setName("Ann");
+        assertThatThrownBy(() -> repository.exists(Example.of(probe, ExampleMatcher.matchingAny())))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+    }
+
     @Data
     static class SimplePerson {
 
@@ -88,6 +267,19 @@ public class SimpleTarantoolRepositoryTest {
         String id;
     }
 
+    @Data
+    static class LocatedPerson {
+
+        @Id
+        String id;
+        String name;
+        String city;
+    }
+
+    interface Named {
+        String getName();
+    }
+
     @Data
     static class VersionedPerson {
 